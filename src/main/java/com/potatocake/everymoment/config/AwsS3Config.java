@@ -0,0 +1,36 @@
+package com.potatocake.everymoment.config;
+
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@EnableConfigurationProperties(AwsS3Properties.class)
+@Configuration
+public class AwsS3Config {
+
+    @Bean
+    public AmazonS3 amazonS3(AwsS3Properties properties) {
+        AWSCredentials awsCredentials = new BasicAWSCredentials(properties.accessKey(), properties.secretKey());
+
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+                .withPathStyleAccessEnabled(properties.pathStyleAccess());
+
+        // MinIO 같은 S3 호환 저장소를 쓸 때는 endpoint 를 직접 지정
+        if (StringUtils.hasText(properties.endpoint())) {
+            builder.withEndpointConfiguration(new EndpointConfiguration(properties.endpoint(), properties.region()));
+        } else {
+            builder.withRegion(properties.region());
+        }
+
+        return builder.build();
+    }
+
+}
@@ -1,12 +1,15 @@
 package com.potatocake.everymoment.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "aws.s3")
 public record AwsS3Properties(
         String accessKey,
         String secretKey,
         String region,
-        String bucket
+        String bucket,
+        String endpoint,
+        @DefaultValue("false") boolean pathStyleAccess
 ) {
 }
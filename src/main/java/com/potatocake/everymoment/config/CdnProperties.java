@@ -0,0 +1,10 @@
+package com.potatocake.everymoment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// baseUrl 이 비어 있으면 S3 URL 을 그대로 내려줌
+@ConfigurationProperties(prefix = "cdn")
+public record CdnProperties(
+        String baseUrl
+) {
+}
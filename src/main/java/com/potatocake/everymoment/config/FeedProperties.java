@@ -0,0 +1,12 @@
+package com.potatocake.everymoment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// db/feed-entry.sql 로 테이블을 만들고 fanOutEnabled 로 피드 쓰기를 먼저 켬
+// 이어서 db/feed-entry-backfill.sql 로 기존 일기를 채운 뒤 readEnabled 로 읽기를 켬
+@ConfigurationProperties(prefix = "feed")
+public record FeedProperties(
+        boolean fanOutEnabled,
+        boolean readEnabled
+) {
+}
@@ -0,0 +1,12 @@
+package com.potatocake.everymoment.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "file.gc")
+public record FileGcProperties(
+        @DefaultValue("1d") Duration gracePeriod,
+        @DefaultValue("1000") int batchSize
+) {
+}
@@ -0,0 +1,19 @@
+package com.potatocake.everymoment.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// S3 업로드 전용 가상 스레드 executor (동시 업로드 수는 S3FileUploader 가 제한)
+@EnableConfigurationProperties(FileUploadProperties.class)
+@Configuration
+public class FileUploadExecutorConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService fileUploadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("file-upload-", 0).factory());
+    }
+
+}
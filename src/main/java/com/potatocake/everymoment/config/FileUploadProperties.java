@@ -0,0 +1,18 @@
+package com.potatocake.everymoment.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "file.upload")
+public record FileUploadProperties(
+        @DefaultValue("16") int maxConcurrency,
+        @DefaultValue("30s") Duration timeout,
+        @DefaultValue("5MB") DataSize streamPartSize,
+        @DefaultValue("8") int streamBufferCount,
+        @DefaultValue("50MB") DataSize streamMaxSize,
+        @DefaultValue("10m") Duration presignExpiration,
+        @DefaultValue("5MB") DataSize presignMaxSize
+) {
+}
@@ -0,0 +1,12 @@
+package com.potatocake.everymoment.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "friend.cache")
+public record FriendCacheProperties(
+        @DefaultValue("10000") int maximumSize,
+        @DefaultValue("5m") Duration ttl
+) {
+}
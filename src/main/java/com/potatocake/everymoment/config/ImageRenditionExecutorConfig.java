@@ -0,0 +1,25 @@
+package com.potatocake.everymoment.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableConfigurationProperties(ImageRenditionProperties.class)
+@Configuration
+public class ImageRenditionExecutorConfig {
+
+    // 이미지 디코딩은 CPU 와 메모리를 많이 쓰므로 적은 수의 스레드로 제한 (큐가 가득 차면 거절)
+    @Bean
+    public ThreadPoolTaskExecutor imageRenditionExecutor(ImageRenditionProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.concurrency());
+        executor.setMaxPoolSize(properties.concurrency());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("image-rendition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+}
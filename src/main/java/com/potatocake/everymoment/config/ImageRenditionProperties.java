@@ -0,0 +1,15 @@
+package com.potatocake.everymoment.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "file.rendition")
+public record ImageRenditionProperties(
+        @DefaultValue({"160", "480", "960"}) List<Integer> widths,
+        @DefaultValue("0.8") float quality,
+        @DefaultValue("40000000") long maxSourcePixels,
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("200") int queueCapacity
+) {
+}
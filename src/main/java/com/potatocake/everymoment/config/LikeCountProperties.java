@@ -0,0 +1,15 @@
+package com.potatocake.everymoment.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "diary.like-count")
+public record LikeCountProperties(
+        @DefaultValue("PT1S") Duration flushInterval,
+        @DefaultValue("1000") int flushBatchSize,
+        @DefaultValue("PT1M") Duration reconcileInterval,
+        @DefaultValue("PT1M") Duration reconcileQuietPeriod,
+        @DefaultValue("100") int reconcileBatchSize
+) {
+}
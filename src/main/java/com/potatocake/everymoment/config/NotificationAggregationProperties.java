@@ -0,0 +1,11 @@
+package com.potatocake.everymoment.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "notification.aggregation")
+public record NotificationAggregationProperties(
+        @DefaultValue("1h") Duration window
+) {
+}
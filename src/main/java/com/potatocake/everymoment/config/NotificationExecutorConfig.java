@@ -0,0 +1,25 @@
+package com.potatocake.everymoment.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableConfigurationProperties(NotificationExecutorProperties.class)
+@Configuration
+public class NotificationExecutorConfig {
+
+    // 푸시 발송 전용 스레드 풀 (큐가 가득 차면 RejectedExecutionException 으로 거절)
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor(NotificationExecutorProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.corePoolSize());
+        executor.setMaxPoolSize(properties.maxPoolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.potatocake.everymoment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "notification.executor")
+public record NotificationExecutorProperties(
+        @DefaultValue("2") int corePoolSize,
+        @DefaultValue("8") int maxPoolSize,
+        @DefaultValue("1000") int queueCapacity
+) {
+}
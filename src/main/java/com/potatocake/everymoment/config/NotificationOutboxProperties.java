@@ -0,0 +1,16 @@
+package com.potatocake.everymoment.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "notification.outbox")
+public record NotificationOutboxProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("30s") Duration initialBackoff,
+        @DefaultValue("1h") Duration maxBackoff,
+        @DefaultValue("5m") Duration leaseTimeout,
+        @DefaultValue("20ms") Duration linger
+) {
+}
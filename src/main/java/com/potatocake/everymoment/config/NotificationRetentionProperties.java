@@ -0,0 +1,24 @@
+package com.potatocake.everymoment.config;
+
+import com.potatocake.everymoment.constant.NotificationType;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "notification.retention")
+public record NotificationRetentionProperties(
+        @DefaultValue("90d") Duration defaultPeriod,
+        Map<NotificationType, Duration> periods,
+        @DefaultValue("30d") Duration outboxPeriod,
+        @DefaultValue("1000") int chunkSize
+) {
+
+    public Duration periodOf(NotificationType type) {
+        if (periods == null) {
+            return defaultPeriod;
+        }
+        return periods.getOrDefault(type, defaultPeriod);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.potatocake.everymoment.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "file.reclaim")
+public record S3ReclaimProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("10m") Duration delay,
+        @DefaultValue("5m") Duration leaseTimeout,
+        @DefaultValue("10m") Duration retryBackoff,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("1000") int maxDeletesPerSecond
+) {
+}
@@ -7,17 +7,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum NotificationType {
 
-    COMMENT("새로운 댓글", "%s님이 회원님의 일기에 댓글을 남겼습니다."),
-    LIKE("새로운 좋아요", "%s님이 회원님의 일기를 좋아합니다."),
-    FRIEND_REQUEST("새로운 친구 요청", "%s님이 친구 요청을 보냈습니다."),
-    FRIEND_ACCEPT("친구 요청 수락", "%s님이 친구 요청을 수락했습니다."),
-    MOOD_CHECK("새로운 장소", "현재 %s에 머무르고 있어요! 지금 기분은 어떠신가요?");
+    COMMENT("새로운 댓글", "%s님이 회원님의 일기에 댓글을 남겼습니다.", "%s님 외 %d건의 댓글이 회원님의 일기에 달렸습니다."),
+    LIKE("새로운 좋아요", "%s님이 회원님의 일기를 좋아합니다.", "%s님 외 %d건의 좋아요가 회원님의 일기에 도착했습니다."),
+    FRIEND_REQUEST("새로운 친구 요청", "%s님이 친구 요청을 보냈습니다.", null),
+    FRIEND_ACCEPT("친구 요청 수락", "%s님이 친구 요청을 수락했습니다.", null),
+    MOOD_CHECK("새로운 장소", "현재 %s에 머무르고 있어요! 지금 기분은 어떠신가요?", null);
 
     private final String title;
     private final String messageFormat;
+    private final String aggregatedMessageFormat;
 
     public String formatMessage(String... args) {
         return String.format(messageFormat, (Object[]) args);
     }
 
+    // 같은 대상에 대한 알림을 하나로 묶을 수 있는 타입인지
+    public boolean isAggregatable() {
+        return aggregatedMessageFormat != null;
+    }
+
+    // others 는 서로 다른 회원 수가 아니라 함께 묶인 이벤트 수 (같은 회원이 다시 누른 좋아요도 포함)
+    public String formatAggregatedMessage(String actor, int others) {
+        return String.format(aggregatedMessageFormat, actor, others);
+    }
+
+    public String collapseKey(Long targetId) {
+        return name() + ":" + targetId;
+    }
+
 }
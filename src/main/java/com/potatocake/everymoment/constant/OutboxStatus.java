@@ -0,0 +1,11 @@
+package com.potatocake.everymoment.constant;
+
+public enum OutboxStatus {
+
+    PENDING,
+    // relay 가 가져가 발송 중 (lease 가 끝나면 다시 가져감)
+    SENDING,
+    SENT,
+    DEAD
+
+}
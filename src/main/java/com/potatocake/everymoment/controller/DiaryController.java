@@ -7,8 +7,11 @@ import com.potatocake.everymoment.dto.request.DiaryAutoCreateRequest;
 import com.potatocake.everymoment.dto.request.DiaryFilterRequest;
 import com.potatocake.everymoment.dto.request.DiaryManualCreateRequest;
 import com.potatocake.everymoment.dto.request.DiaryPatchRequest;
+import com.potatocake.everymoment.dto.response.CommentScrollResponse;
 import com.potatocake.everymoment.dto.response.CommentsResponse;
+import com.potatocake.everymoment.dto.response.DiaryCountsResponse;
 import com.potatocake.everymoment.dto.response.FriendDiariesResponse;
+import com.potatocake.everymoment.dto.response.FriendDiaryFeedResponse;
 import com.potatocake.everymoment.dto.response.FriendDiaryResponse;
 import com.potatocake.everymoment.dto.response.MyDiariesResponse;
 import com.potatocake.everymoment.dto.response.MyDiaryResponse;
@@ -25,6 +28,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -178,6 +182,22 @@ public class DiaryController {
                 .body(SuccessResponse.ok());
     }
 
+    @Operation(summary = "일기 좋아요/댓글 수 일괄 조회", description = "여러 일기의 좋아요 수와 댓글 수를 한 번에 조회합니다. 내 일기와 친구의 공개 일기만 응답에 포함됩니다. (최대 100개)")
+    @ApiResponse(responseCode = "200", description = "일기 좋아요/댓글 수 조회 성공", content = @Content(schema = @Schema(implementation = DiaryCountsResponse.class)))
+    @GetMapping("/counts")
+    public ResponseEntity<SuccessResponse<DiaryCountsResponse>> getDiaryCounts(
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @Parameter(description = "조회할 일기 ID 목록", required = true)
+            @RequestParam List<Long> ids) {
+        Long memberId = memberDetails.getId();
+
+        DiaryCountsResponse response = diaryService.getDiaryCounts(memberId, ids);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
     @Operation(summary = "일기 삭제", description = "일기를 삭제합니다.")
     @ApiResponse(responseCode = "200", description = "일기 삭제 성공")
     @DeleteMapping("/{diaryId}")
@@ -271,6 +291,47 @@ public class DiaryController {
                 .body(SuccessResponse.ok(response));
     }
 
+    @Operation(summary = "친구 일기 피드 조회", description = "커서 기반으로 사용자 친구들의 일기를 최신순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "친구 일기 피드 조회 성공", content = @Content(schema = @Schema(implementation = FriendDiaryFeedResponse.class)))
+    @GetMapping("/friend/feed")
+    public ResponseEntity<SuccessResponse<FriendDiaryFeedResponse>> getFriendDiaryFeed(
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @Parameter(description = "검색 키워드")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "이모지 필터")
+            @RequestParam(required = false) String emoji,
+            @Parameter(description = "카테고리")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "특정 날짜")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "시작 날짜")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until,
+            @Parameter(description = "이전 응답의 다음 페이지 커서")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Long memberId = memberDetails.getId();
+
+        DiaryFilterRequest diaryFilterRequest = DiaryFilterRequest.builder()
+                .keyword(keyword)
+                .emoji(emoji)
+                .category(category)
+                .date(date)
+                .from(from)
+                .until(until)
+                .size(size)
+                .build();
+
+        FriendDiaryFeedResponse response = friendDiaryService.getFriendDiaryFeed(memberId, diaryFilterRequest, cursor);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
     @Operation(summary = "친구 일기 상세 조회", description = "특정 친구 일기의 상세 내용을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "친구 일기 상세 조회 성공", content = @Content(schema = @Schema(implementation = FriendDiaryResponse.class)))
     @GetMapping("/friend/{diaryId}")
@@ -287,6 +348,23 @@ public class DiaryController {
                 .body(SuccessResponse.ok(response));
     }
 
+    @Operation(summary = "댓글 스크롤 조회", description = "특정 일기의 댓글을 댓글 id 기준으로 오래된 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "댓글 스크롤 조회 성공", content = @Content(schema = @Schema(implementation = CommentScrollResponse.class)))
+    @GetMapping("/{diaryId}/comments/scroll")
+    public ResponseEntity<SuccessResponse<CommentScrollResponse>> getCommentsByKey(
+            @Parameter(description = "댓글을 조회할 일기 ID", required = true)
+            @PathVariable Long diaryId,
+            @Parameter(description = "이전 응답의 마지막 댓글 ID")
+            @RequestParam(required = false) Long key,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CommentScrollResponse response = commentService.getCommentsByKey(diaryId, key, size);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
     @Operation(summary = "댓글 조회", description = "특정 일기의 댓글을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "댓글 조회 성공", content = @Content(schema = @Schema(implementation = CommentsResponse.class)))
     @GetMapping("/{diaryId}/comments")
@@ -1,7 +1,11 @@
 package com.potatocake.everymoment.controller;
 
 import com.potatocake.everymoment.dto.SuccessResponse;
+import com.potatocake.everymoment.dto.request.FileUpdateRequest;
+import com.potatocake.everymoment.dto.request.FileUploadCompleteRequest;
+import com.potatocake.everymoment.dto.request.PresignedUploadRequest;
 import com.potatocake.everymoment.dto.response.FileResponse;
+import com.potatocake.everymoment.dto.response.PresignedUploadResponse;
 import com.potatocake.everymoment.security.MemberDetails;
 import com.potatocake.everymoment.service.FileService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,8 +15,11 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,6 +27,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
@@ -63,7 +72,58 @@ public class FileController {
                 .body(SuccessResponse.ok());
     }
 
-    @Operation(summary = "파일 수정", description = "특정 일기의 파일을 수정합니다.")
+    @Operation(summary = "파일 스트리밍 업로드", description = "요청 본문의 이미지를 S3 로 바로 스트리밍하여 특정 일기에 추가합니다.")
+    @ApiResponse(responseCode = "200", description = "파일 업로드 성공")
+    @PostMapping(path = "/stream", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
+    public ResponseEntity<SuccessResponse> uploadFileStream(
+            @Parameter(description = "파일을 업로드할 일기 ID", required = true)
+            @PathVariable Long diaryId,
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @Parameter(hidden = true)
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "업로드할 이미지 본문", required = true)
+            InputStream body
+    ) {
+        fileService.uploadFileStream(diaryId, memberDetails.getId(), body, contentType);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok());
+    }
+
+    @Operation(summary = "업로드 URL 발급", description = "S3 로 직접 파일을 올릴 수 있는 pre-signed PUT URL 을 발급합니다. 업로드할 때는 응답의 헤더를 그대로 보내야 하며, 요청한 크기와 다른 파일은 올라가지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "업로드 URL 발급 성공", content = @Content(schema = @Schema(implementation = PresignedUploadResponse.class)))
+    @PostMapping("/presigned")
+    public ResponseEntity<SuccessResponse<PresignedUploadResponse>> issueUploadUrl(
+            @Parameter(description = "파일을 업로드할 일기 ID", required = true)
+            @PathVariable Long diaryId,
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @RequestBody @Valid PresignedUploadRequest request
+    ) {
+        PresignedUploadResponse response = fileService.issueUploadUrl(diaryId, memberDetails.getId(), request);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
+    @Operation(summary = "업로드 완료", description = "pre-signed URL 로 올린 파일들을 일기의 마지막 순서 뒤에 등록합니다.")
+    @ApiResponse(responseCode = "200", description = "파일 등록 성공")
+    @PostMapping("/complete")
+    public ResponseEntity<SuccessResponse> completeUploads(
+            @Parameter(description = "파일을 등록할 일기 ID", required = true)
+            @PathVariable Long diaryId,
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @RequestBody @Valid FileUploadCompleteRequest request
+    ) {
+        fileService.completeUploads(diaryId, memberDetails.getId(), request.getKeys());
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok());
+    }
+
+    @Operation(summary = "파일 수정", description = "특정 일기의 파일 순서를 바꾸고, 빠진 파일은 삭제하며, 새 파일만 업로드합니다.")
     @ApiResponse(responseCode = "200", description = "파일 수정 성공")
     @PutMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<SuccessResponse> updateFiles(
@@ -71,10 +131,12 @@ public class FileController {
             @PathVariable Long diaryId,
             @Parameter(description = "인증된 사용자 정보", hidden = true)
             @AuthenticationPrincipal MemberDetails memberDetails,
-            @Parameter(description = "수정할 파일 목록")
+            @Parameter(description = "유지할 파일 ID 와 새 파일 자리(null)의 최종 순서 (없으면 기존 파일을 모두 교체)")
+            @RequestPart(required = false) @Valid FileUpdateRequest request,
+            @Parameter(description = "새로 추가할 파일 목록")
             @RequestPart(required = false) List<MultipartFile> files
     ) {
-        fileService.updateFiles(diaryId, memberDetails.getId(), files);
+        fileService.updateFiles(diaryId, memberDetails.getId(), request, files);
 
         return ResponseEntity.ok()
                 .body(SuccessResponse.ok());
@@ -13,9 +13,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -55,4 +57,34 @@ public class LikeController {
                 .body(SuccessResponse.ok());
     }
 
+    @Operation(summary = "좋아요", description = "특정 일기에 좋아요를 추가합니다. 이미 좋아요한 경우에도 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 성공")
+    @PutMapping
+    public ResponseEntity<SuccessResponse> like(
+            @Parameter(description = "좋아요할 일기 ID", required = true)
+            @PathVariable Long diaryId,
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails
+    ) {
+        likeService.like(memberDetails.getId(), diaryId);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok());
+    }
+
+    @Operation(summary = "좋아요 취소", description = "특정 일기의 좋아요를 취소합니다. 좋아요하지 않은 경우에도 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 취소 성공")
+    @DeleteMapping
+    public ResponseEntity<SuccessResponse> unlike(
+            @Parameter(description = "좋아요를 취소할 일기 ID", required = true)
+            @PathVariable Long diaryId,
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails
+    ) {
+        likeService.unlike(memberDetails.getId(), diaryId);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok());
+    }
+
 }
@@ -2,11 +2,14 @@ package com.potatocake.everymoment.controller;
 
 import com.potatocake.everymoment.dto.SuccessResponse;
 import com.potatocake.everymoment.dto.request.MemberLoginRequest;
+import com.potatocake.everymoment.dto.request.PresignedUploadRequest;
+import com.potatocake.everymoment.dto.request.ProfileImageCompleteRequest;
 import com.potatocake.everymoment.dto.response.AnonymousLoginResponse;
 import com.potatocake.everymoment.dto.response.JwtResponse;
 import com.potatocake.everymoment.dto.response.MemberDetailResponse;
 import com.potatocake.everymoment.dto.response.MemberMyResponse;
 import com.potatocake.everymoment.dto.response.MemberSearchResponse;
+import com.potatocake.everymoment.dto.response.PresignedUploadResponse;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.security.MemberDetails;
@@ -17,6 +20,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -125,6 +129,34 @@ public class MemberController {
                 .body(SuccessResponse.ok());
     }
 
+    @Operation(summary = "프로필 이미지 업로드 URL 발급", description = "S3 로 직접 프로필 이미지를 올릴 수 있는 pre-signed PUT URL 을 발급합니다. 업로드할 때는 응답의 헤더를 그대로 보내야 하며, 요청한 크기와 다른 파일은 올라가지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "업로드 URL 발급 성공", content = @Content(schema = @Schema(implementation = PresignedUploadResponse.class)))
+    @PostMapping("/profile-image/presigned")
+    public ResponseEntity<SuccessResponse<PresignedUploadResponse>> issueProfileImageUploadUrl(
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @RequestBody @Valid PresignedUploadRequest request
+    ) {
+        PresignedUploadResponse response = memberService.issueProfileImageUploadUrl(memberDetails.getId(), request);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
+    @Operation(summary = "프로필 이미지 업로드 완료", description = "pre-signed URL 로 올린 이미지를 프로필 이미지로 등록합니다.")
+    @ApiResponse(responseCode = "200", description = "프로필 이미지 등록 성공")
+    @PostMapping("/profile-image/complete")
+    public ResponseEntity<SuccessResponse<Void>> completeProfileImageUpload(
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @RequestBody @Valid ProfileImageCompleteRequest request
+    ) {
+        memberService.completeProfileImageUpload(memberDetails.getId(), request.getKey());
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok());
+    }
+
     @Operation(summary = "회원 탈퇴", description = "로그인한 회원의 계정을 삭제합니다.")
     @ApiResponse(responseCode = "200", description = "회원 탈퇴 성공")
     @DeleteMapping
@@ -1,7 +1,11 @@
 package com.potatocake.everymoment.controller;
 
 import com.potatocake.everymoment.dto.SuccessResponse;
+import com.potatocake.everymoment.dto.request.NotificationReadRequest;
+import com.potatocake.everymoment.dto.response.NotificationInboxResponse;
 import com.potatocake.everymoment.dto.response.NotificationListResponse;
+import com.potatocake.everymoment.dto.response.NotificationReadResponse;
+import com.potatocake.everymoment.dto.response.UnreadNotificationCountResponse;
 import com.potatocake.everymoment.security.MemberDetails;
 import com.potatocake.everymoment.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +14,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,7 +22,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Notifications", description = "알림 관리 API")
@@ -43,6 +50,57 @@ public class NotificationController {
                 .body(SuccessResponse.ok(response));
     }
 
+    @Operation(summary = "알림함 조회", description = "로그인한 사용자의 알림을 최신순으로 커서 기반 페이징하여 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "알림함 조회 성공", content = @Content(schema = @Schema(implementation = NotificationInboxResponse.class)))
+    @GetMapping("/inbox")
+    public ResponseEntity<SuccessResponse<NotificationInboxResponse>> getNotificationInbox(
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @Parameter(description = "페이지 키")
+            @RequestParam(required = false) Long key,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long memberId = memberDetails.getId();
+
+        NotificationInboxResponse response = notificationService.getNotificationInbox(memberId, key, size);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
+    @Operation(summary = "안 읽은 알림 수 조회", description = "로그인한 사용자의 안 읽은 알림 수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "안 읽은 알림 수 조회 성공", content = @Content(schema = @Schema(implementation = UnreadNotificationCountResponse.class)))
+    @GetMapping("/unread-count")
+    public ResponseEntity<SuccessResponse<UnreadNotificationCountResponse>> getUnreadNotificationCount(
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails
+    ) {
+        Long memberId = memberDetails.getId();
+
+        UnreadNotificationCountResponse response = notificationService.getUnreadNotificationCount(memberId);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
+    @Operation(summary = "알림 일괄 읽음 처리", description = "지정한 알림들 또는 특정 알림 ID 이하의 알림을 한 번에 읽음 처리합니다. ids 와 upToId 중 하나는 필요합니다.")
+    @ApiResponse(responseCode = "200", description = "알림 일괄 읽음 처리 성공", content = @Content(schema = @Schema(implementation = NotificationReadResponse.class)))
+    @PatchMapping
+    public ResponseEntity<SuccessResponse<NotificationReadResponse>> updateNotifications(
+            @Parameter(description = "인증된 사용자 정보", hidden = true)
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @Parameter(description = "읽음 처리 범위", required = true)
+            @RequestBody @Valid NotificationReadRequest request
+    ) {
+        Long memberId = memberDetails.getId();
+
+        NotificationReadResponse response = notificationService.updateNotifications(memberId, request);
+
+        return ResponseEntity.ok()
+                .body(SuccessResponse.ok(response));
+    }
+
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음 처리합니다.")
     @ApiResponse(responseCode = "200", description = "알림 읽음 처리 성공")
     @PatchMapping("/{notificationId}")
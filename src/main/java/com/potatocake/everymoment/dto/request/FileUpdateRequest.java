@@ -0,0 +1,18 @@
+package com.potatocake.everymoment.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class FileUpdateRequest {
+
+    // 유지할 기존 파일 ID 를 최종 순서대로 나열하고, 새 파일이 들어갈 자리는 null 로 표시 (앞에서부터 순서대로 채움)
+    @NotNull(message = "파일 순서는 필수입니다.")
+    private List<Long> order;
+
+}
@@ -0,0 +1,19 @@
+package com.potatocake.everymoment.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class FileUploadCompleteRequest {
+
+    @NotEmpty(message = "업로드한 파일 키는 필수입니다.")
+    @Size(max = 10, message = "한 번에 10개까지 등록할 수 있습니다.")
+    private List<String> keys;
+
+}
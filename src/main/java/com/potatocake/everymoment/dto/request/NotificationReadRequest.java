@@ -0,0 +1,20 @@
+package com.potatocake.everymoment.dto.request;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// ids 가 있으면 해당 알림만, 없으면 upToId 이하 전체를 읽음 처리 (둘 다 없으면 거절)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class NotificationReadRequest {
+
+    private Long upToId;
+
+    @Size(max = 1000, message = "한 번에 읽음 처리할 수 있는 알림은 1000개를 넘을 수 없습니다.")
+    private List<Long> ids;
+
+}
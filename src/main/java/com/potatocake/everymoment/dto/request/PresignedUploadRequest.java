@@ -0,0 +1,27 @@
+package com.potatocake.everymoment.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class PresignedUploadRequest {
+
+    @NotBlank(message = "파일 이름은 필수입니다.")
+    @Size(max = 200, message = "파일 이름은 200자를 넘을 수 없습니다.")
+    private String filename;
+
+    @NotBlank(message = "파일 형식은 필수입니다.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long contentLength;
+
+}
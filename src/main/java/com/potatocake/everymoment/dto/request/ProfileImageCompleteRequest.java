@@ -0,0 +1,16 @@
+package com.potatocake.everymoment.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ProfileImageCompleteRequest {
+
+    @NotBlank(message = "업로드한 파일 키는 필수입니다.")
+    private String key;
+
+}
@@ -1,5 +1,7 @@
 package com.potatocake.everymoment.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.potatocake.everymoment.util.CdnUrlSerializer;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,5 +10,6 @@ import lombok.Getter;
 public class CommentFriendResponse {
     private Long id;
     private String nickname;
+    @JsonSerialize(using = CdnUrlSerializer.class)
     private String profileImageUrl;
 }
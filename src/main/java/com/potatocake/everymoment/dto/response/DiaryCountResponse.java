@@ -0,0 +1,14 @@
+package com.potatocake.everymoment.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class DiaryCountResponse {
+
+    private Long diaryId;
+    private Long likeCount;
+    private Long commentCount;
+
+}
@@ -0,0 +1,13 @@
+package com.potatocake.everymoment.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class DiaryCountsResponse {
+
+    private List<DiaryCountResponse> counts;
+
+}
@@ -1,6 +1,8 @@
 package com.potatocake.everymoment.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.potatocake.everymoment.entity.File;
+import com.potatocake.everymoment.util.CdnUrlSerializer;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,13 +11,17 @@ import lombok.Getter;
 public class FileResponse {
 
     private Long id;
+    @JsonSerialize(using = CdnUrlSerializer.class)
     private String imageUrl;
+    @JsonSerialize(using = CdnUrlSerializer.class)
+    private String thumbnailUrl;
     private int order;
 
     public static FileResponse toResponseDto(File file) {
         return FileResponse.builder()
                 .id(file.getId())
                 .imageUrl(file.getImageUrl())
+                .thumbnailUrl(file.getThumbnailUrl())
                 .order(file.getOrder())
                 .build();
     }
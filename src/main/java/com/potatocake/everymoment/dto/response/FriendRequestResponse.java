@@ -1,5 +1,7 @@
 package com.potatocake.everymoment.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.potatocake.everymoment.util.CdnUrlSerializer;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,6 +12,7 @@ public class FriendRequestResponse {
     private Long id;
     private Long senderId;
     private String nickname;
+    @JsonSerialize(using = CdnUrlSerializer.class)
     private String profileImageUrl;
 
 }
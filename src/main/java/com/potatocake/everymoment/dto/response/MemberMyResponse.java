@@ -1,5 +1,7 @@
 package com.potatocake.everymoment.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.potatocake.everymoment.util.CdnUrlSerializer;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +10,7 @@ import lombok.Getter;
 public class MemberMyResponse {
 
     private Long id;
+    @JsonSerialize(using = CdnUrlSerializer.class)
     private String profileImageUrl;
     private String nickname;
 
@@ -0,0 +1,12 @@
+package com.potatocake.everymoment.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class NotificationReadResponse {
+
+    private int updatedCount;
+
+}
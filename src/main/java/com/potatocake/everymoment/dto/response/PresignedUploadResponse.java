@@ -0,0 +1,17 @@
+package com.potatocake.everymoment.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PresignedUploadResponse {
+
+    private String uploadUrl;
+    private String key;
+    private Map<String, String> headers;
+    private LocalDateTime expiresAt;
+
+}
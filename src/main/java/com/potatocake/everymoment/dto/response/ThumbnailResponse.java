@@ -1,5 +1,8 @@
 package com.potatocake.everymoment.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.potatocake.everymoment.entity.File;
+import com.potatocake.everymoment.util.CdnUrlSerializer;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,5 +10,14 @@ import lombok.Getter;
 @Builder
 public class ThumbnailResponse {
     private Long id;
+    @JsonSerialize(using = CdnUrlSerializer.class)
     private String imageUrl;
+
+    // 축소본이 아직 없으면 원본 URL 사용
+    public static ThumbnailResponse toResponseDto(File file) {
+        return ThumbnailResponse.builder()
+                .id(file.getId())
+                .imageUrl(file.getThumbnailUrl() != null ? file.getThumbnailUrl() : file.getImageUrl())
+                .build();
+    }
 }
@@ -19,8 +19,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.locationtech.jts.geom.Point;
 
+@DynamicUpdate
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -61,6 +63,16 @@ public class Diary extends BaseTimeEntity {
     @Builder.Default
     private boolean isPublic = false;
 
+    // 좋아요 수 (LikeCountBuffer 가 주기적으로 누적 반영)
+    @Column(nullable = false)
+    @Builder.Default
+    private long likeCount = 0;
+
+    // 댓글 수 (DiaryRepository 의 원자적 UPDATE 로만 변경)
+    @Column(nullable = false)
+    @Builder.Default
+    private long commentCount = 0;
+
     @OneToMany(mappedBy = "diary", cascade = CascadeType.REMOVE, orphanRemoval = true)
     @Builder.Default
     private Set<DiaryCategory> diaryCategories = new HashSet<>();
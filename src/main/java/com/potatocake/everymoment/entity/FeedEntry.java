@@ -0,0 +1,66 @@
+package com.potatocake.everymoment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Table(
+        name = "feed_entry",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_feed_entry_member_diary", columnNames = {"member_id", "diary_id"})
+        },
+        indexes = {
+                @Index(name = "idx_feed_entry_member_created", columnList = "member_id, diary_create_at, id"),
+                @Index(name = "idx_feed_entry_diary_id", columnList = "diary_id"),
+                @Index(name = "idx_feed_entry_author_id", columnList = "member_id, author_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class FeedEntry {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    // 피드를 받는 회원
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Member member;
+
+    // 일기 작성자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Member author;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Diary diary;
+
+    @Column(name = "diary_create_at", nullable = false)
+    private LocalDateTime diaryCreateAt;
+
+    @Builder
+    public FeedEntry(Long id, Member member, Member author, Diary diary, LocalDateTime diaryCreateAt) {
+        this.id = id;
+        this.member = member;
+        this.author = author;
+        this.diary = diary;
+        this.diaryCreateAt = diaryCreateAt;
+    }
+
+}
@@ -6,7 +6,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +16,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_file_content_hash", columnList = "content_hash"))
 @Entity
 public class File extends BaseTimeEntity {
 
@@ -30,12 +33,25 @@ public class File extends BaseTimeEntity {
     @Column(name = "\"order\"")
     private Integer order;
 
+    @Column(length = 2083)
+    private String thumbnailUrl;
+
+    // 내용 주소로 저장된 이미지의 SHA-256 (같은 값을 가진 행 수가 S3 객체의 참조 수)
+    @Column(length = 64)
+    private String contentHash;
+
     @Builder
-    public File(Long id, Diary diary, String imageUrl, Integer order) {
+    public File(Long id, Diary diary, String imageUrl, Integer order, String thumbnailUrl, String contentHash) {
         this.id = id;
         this.diary = diary;
         this.imageUrl = imageUrl;
         this.order = order;
+        this.thumbnailUrl = thumbnailUrl;
+        this.contentHash = contentHash;
+    }
+
+    public void updateOrder(int order) {
+        this.order = order;
     }
 
 }
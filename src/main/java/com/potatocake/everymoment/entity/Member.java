@@ -12,6 +12,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -21,6 +22,7 @@ import org.hibernate.annotations.SQLRestriction;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE member SET deleted = true WHERE id = ?")
 @SQLRestriction("deleted = false")
+@DynamicUpdate
 @Entity
 public class Member extends BaseTimeEntity {
 
@@ -41,6 +43,11 @@ public class Member extends BaseTimeEntity {
     @Builder.Default
     private boolean deleted = false;
 
+    // 안 읽은 알림 수 (MemberRepository 의 원자적 UPDATE 로만 변경)
+    @Column(nullable = false)
+    @Builder.Default
+    private int unreadNotificationCount = 0;
+
     public void update(String nickname, String profileImageUrl) {
         if (hasText(nickname)) {
             this.nickname = nickname;
@@ -3,18 +3,26 @@ package com.potatocake.everymoment.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+@Table(
+        indexes = {
+                @Index(name = "idx_notification_member_id", columnList = "member_id, id DESC"),
+                @Index(name = "idx_notification_member_type_target", columnList = "member_id, type, target_id"),
+                @Index(name = "idx_notification_type_create_at", columnList = "type, create_at")
+        }
+)
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -42,6 +50,11 @@ public class Notification extends BaseTimeEntity {
     @Column(nullable = false)
     private Long targetId;
 
+    // 묶인 알림 수 (LIKE, COMMENT), NotificationRepository.incrementAggregateCount 로만 올림
+    @Column(nullable = false)
+    @Builder.Default
+    private int aggregateCount = 1;
+
     public void updateIsRead() {
         this.isRead = true;
     }
@@ -0,0 +1,114 @@
+package com.potatocake.everymoment.entity;
+
+import com.potatocake.everymoment.constant.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 알림과 같은 트랜잭션에 저장되는 푸시 발송 대기열
+@Table(
+        name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_notification_outbox_notification_id", columnList = "notification_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class NotificationOutbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    private Long notificationId;
+
+    @Column(nullable = false)
+    private Long receiverId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String body;
+
+    @Column(length = 50, nullable = false)
+    private String type;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    // 같은 키의 푸시는 기기에서 마지막 것만 보이도록 묶음 (Android collapse_key, APNs apns-collapse-id)
+    @Column(length = 100)
+    private String collapseKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public NotificationOutbox(Long id, Long notificationId, Long receiverId, String title, String body, String type,
+                              Long targetId, String collapseKey, LocalDateTime nextAttemptAt) {
+        this.id = id;
+        this.notificationId = notificationId;
+        this.receiverId = receiverId;
+        this.title = title;
+        this.body = body;
+        this.type = type;
+        this.targetId = targetId;
+        this.collapseKey = collapseKey;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 발송 중인 동안 다른 relay 가 다시 가져가지 않도록 다음 시도 시각을 미룸
+    // 발송 도중 멈춰 결과를 남기지 못한 행도 최대 시도 횟수에 닿도록 lease 마다 시도로 셈
+    public void lease(LocalDateTime until) {
+        this.attempts++;
+        this.status = OutboxStatus.SENDING;
+        this.nextAttemptAt = until;
+    }
+
+    public void retry(String error, LocalDateTime nextAttemptAt) {
+        this.lastError = truncate(error);
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void dead(String error) {
+        this.lastError = truncate(error);
+        this.status = OutboxStatus.DEAD;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.potatocake.everymoment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// File, 프로필 이미지 변경과 같은 트랜잭션에 저장되는 S3 객체 삭제 대기열
+@Table(
+        name = "s3_object_tombstone",
+        indexes = {
+                @Index(name = "idx_s3_object_tombstone_next", columnList = "next_attempt_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+public class S3ObjectTombstone extends BaseTimeEntity {
+
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long id;
+
+    @Column(length = 1024, nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder
+    public S3ObjectTombstone(Long id, String objectKey, LocalDateTime nextAttemptAt) {
+        this.id = id;
+        this.objectKey = objectKey;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // 삭제 중인 동안 다른 인스턴스가 다시 가져가지 않도록 다음 시도 시각을 미룸
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void retry(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.potatocake.everymoment.event;
+
+import java.util.List;
+
+// 일기 파일 저장 후 발행되는 이벤트 (커밋 이후 썸네일 생성을 시작)
+public record FileUploadedEvent(
+        List<Long> fileIds
+) {
+}
@@ -0,0 +1,44 @@
+package com.potatocake.everymoment.event;
+
+import com.potatocake.everymoment.service.ImageRenditionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class FileUploadedEventListener {
+
+    private final ImageRenditionService imageRenditionService;
+    private final Executor imageRenditionExecutor;
+    private final Counter rejectedCounter;
+
+    public FileUploadedEventListener(ImageRenditionService imageRenditionService,
+                                     @Qualifier("imageRenditionExecutor") Executor imageRenditionExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.imageRenditionService = imageRenditionService;
+        this.imageRenditionExecutor = imageRenditionExecutor;
+        this.rejectedCounter = meterRegistry.counter("file.rendition.rejected");
+    }
+
+    // 커밋 이후 별도 스레드에서 축소본을 만들므로 업로드 요청은 이미지 처리를 기다리지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(FileUploadedEvent event) {
+        for (Long fileId : event.fileIds()) {
+            try {
+                imageRenditionExecutor.execute(() -> imageRenditionService.generate(fileId));
+            } catch (RejectedExecutionException e) {
+                // 축소본이 없으면 원본을 보여주므로 건너뜀
+                rejectedCounter.increment();
+                log.warn("축소본 생성 대기열이 가득 차 건너뜁니다. fileId: {}", fileId);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.potatocake.everymoment.event;
+
+// 알림과 outbox 저장 후 발행되는 이벤트 (커밋 이후 relay 를 깨움)
+public record NotificationCreatedEvent(
+        Long receiverId,
+        Long outboxId
+) {
+}
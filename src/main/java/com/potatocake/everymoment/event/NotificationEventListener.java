@@ -0,0 +1,77 @@
+package com.potatocake.everymoment.event;
+
+import com.potatocake.everymoment.config.NotificationOutboxProperties;
+import com.potatocake.everymoment.service.NotificationOutboxRelay;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 알림을 모아 relay 를 깨우는 리스너
+ * <p>
+ * 알림마다 바로 발송하지 않고 linger 동안 들어온 알림을 모아 한 번에 처리한다. 모인 알림이 배치 크기에 도달하면 기다리지 않고 바로 깨운다.
+ */
+@Slf4j
+@Component
+public class NotificationEventListener {
+
+    private final NotificationOutboxRelay notificationOutboxRelay;
+    private final Executor notificationExecutor;
+    private final TaskScheduler taskScheduler;
+    private final Duration linger;
+    private final int batchSize;
+    private final Counter rejectedCounter;
+
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public NotificationEventListener(NotificationOutboxRelay notificationOutboxRelay,
+                                     @Qualifier("notificationExecutor") Executor notificationExecutor,
+                                     TaskScheduler taskScheduler, NotificationOutboxProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.notificationOutboxRelay = notificationOutboxRelay;
+        this.notificationExecutor = notificationExecutor;
+        this.taskScheduler = taskScheduler;
+        this.linger = properties.linger();
+        this.batchSize = properties.batchSize();
+        this.rejectedCounter = meterRegistry.counter("notification.dispatch.rejected");
+    }
+
+    // 커밋이 끝난 뒤 별도 스레드에서 outbox 를 비우므로 요청 트랜잭션은 FCM 응답을 기다리지 않는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(NotificationCreatedEvent event) {
+        if (pending.incrementAndGet() >= batchSize) {
+            dispatch();
+            return;
+        }
+
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::dispatch, Instant.now().plus(linger));
+        }
+    }
+
+    private void dispatch() {
+        wakeUpScheduled.set(false);
+        int coalesced = pending.getAndSet(0);
+
+        try {
+            notificationExecutor.execute(notificationOutboxRelay::drain);
+        } catch (RejectedExecutionException e) {
+            // outbox 에 남아 있으므로 다음 polling 에서 발송된다
+            rejectedCounter.increment();
+            log.warn("알림 발송 대기열이 가득 차 다음 주기로 미룹니다. 대기 알림 수: {}", coalesced);
+        }
+    }
+
+}
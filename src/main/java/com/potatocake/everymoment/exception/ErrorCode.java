@@ -17,6 +17,7 @@ public enum ErrorCode {
     /* Diary */
     DIARY_NOT_PUBLIC("비공개 일기입니다.", HttpStatus.FORBIDDEN),
     DIARY_NOT_FOUND("존재하지 않는 일기입니다.", NOT_FOUND),
+    TOO_MANY_DIARY_IDS("한 번에 조회할 수 있는 일기는 100개까지입니다.", BAD_REQUEST),
 
     /* Member */
     MEMBER_NOT_FOUND("존재하지 않는 회원입니다.", NOT_FOUND),
@@ -26,6 +27,7 @@ public enum ErrorCode {
 
     /* Notification */
     NOTIFICATION_NOT_FOUND("존재하지 않는 알림입니다.", NOT_FOUND),
+    INVALID_NOTIFICATION_READ_RANGE("읽음 처리할 알림 ID 목록이나 기준 ID 를 입력해 주세요.", BAD_REQUEST),
 
     /* CategoryService */
     ALREADY_EXISTS_CATEGORY("이미 존재하는 카테고리입니다.", CONFLICT),
@@ -36,6 +38,8 @@ public enum ErrorCode {
     /* File */
     FILE_NOT_FOUND("존재하지 않는 파일입니다.", NOT_FOUND),
     FILE_SIZE_EXCEEDED("각 파일은 5MB 이하로, 전체 파일 크기는 25MB 이하로 첨부해 주세요.", PAYLOAD_TOO_LARGE),
+    INVALID_UPLOAD_KEY("유효하지 않은 업로드 키입니다.", BAD_REQUEST),
+    INVALID_FILE_ORDER("파일 순서가 올바르지 않습니다.", BAD_REQUEST),
 
     /* Comment */
     COMMENT_NOT_FOUND("존재하지 않는 댓글입니다.", NOT_FOUND),
@@ -68,7 +72,10 @@ public enum ErrorCode {
     FCM_MESSAGE_SEND_FAILED("FCM 메시지 전송에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 
     /* Friend */
-    ALREADY_FRIEND("이미 친구 관계입니다.", HttpStatus.CONFLICT);
+    ALREADY_FRIEND("이미 친구 관계입니다.", HttpStatus.CONFLICT),
+
+    /* PagingUtil */
+    INVALID_CURSOR("유효하지 않은 커서입니다.", BAD_REQUEST);
 
     private final String message;
     private final HttpStatus status;
@@ -3,10 +3,18 @@ package com.potatocake.everymoment.repository;
 import com.potatocake.everymoment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 작성자 정보를 함께 조회 (댓글마다 회원을 따로 조회하지 않도록)
+    @EntityGraph(attributePaths = "member")
     Page<Comment> findAllByDiaryId(Long diaryId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "member")
+    Window<Comment> findByDiaryId(Long diaryId, ScrollPosition scrollPosition, Pageable pageable);
+
     Long countByDiaryId(Long diaryId);
 }
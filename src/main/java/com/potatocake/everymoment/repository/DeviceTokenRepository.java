@@ -1,6 +1,7 @@
 package com.potatocake.everymoment.repository;
 
 import com.potatocake.everymoment.entity.DeviceToken;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,8 @@ public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long>
 
     List<DeviceToken> findAllByMemberId(Long memberId);
 
+    List<DeviceToken> findAllByMemberIdIn(Collection<Long> memberIds);
+
     Optional<DeviceToken> findByMemberIdAndDeviceId(Long memberId, String deviceId);
 
     void deleteByMemberIdAndDeviceId(Long memberId, String deviceId);
@@ -1,8 +1,59 @@
 package com.potatocake.everymoment.repository;
 
 import com.potatocake.everymoment.entity.Diary;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long>, JpaSpecificationExecutor<Diary> {
+
+    // 같은 증감값을 가진 일기들을 한 번에 반영 (음수로 내려가지 않도록 보정)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Diary d SET d.likeCount = "
+            + "CASE WHEN d.likeCount + :delta > 0 THEN d.likeCount + :delta ELSE 0 END "
+            + "WHERE d.id IN :ids")
+    int addLikeCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    // likes 테이블 기준으로 좋아요 수를 다시 계산 (LikeCountBuffer.reconcile)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Diary d SET d.likeCount = (SELECT COUNT(l) FROM Like l WHERE l.diary = d) WHERE d.id IN :ids")
+    int recountLikeCount(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Diary d SET d.commentCount = d.commentCount + 1 WHERE d.id = :diaryId")
+    int incrementCommentCount(@Param("diaryId") Long diaryId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Diary d SET d.commentCount = "
+            + "CASE WHEN d.commentCount > 0 THEN d.commentCount - 1 ELSE 0 END "
+            + "WHERE d.id = :diaryId")
+    int decrementCommentCount(@Param("diaryId") Long diaryId);
+
+    @Query("SELECT d.commentCount FROM Diary d WHERE d.id = :diaryId")
+    Optional<Long> findCommentCountById(@Param("diaryId") Long diaryId);
+
+    @Query("SELECT d.id AS diaryId, d.member.id AS memberId, d.isPublic AS isPublic, "
+            + "d.likeCount AS likeCount, d.commentCount AS commentCount "
+            + "FROM Diary d WHERE d.id IN :ids")
+    List<DiaryCounts> findCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface DiaryCounts {
+
+        Long getDiaryId();
+
+        Long getMemberId();
+
+        boolean getIsPublic();
+
+        long getLikeCount();
+
+        long getCommentCount();
+
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.potatocake.everymoment.repository;
+
+import com.potatocake.everymoment.entity.FeedEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    @EntityGraph(attributePaths = "diary")
+    Window<FeedEntry> findByMemberId(Long memberId, ScrollPosition scrollPosition, Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_entry (member_id, author_id, diary_id, diary_create_at)
+            SELECT f.member_id, d.member_id, d.id, d.create_at
+            FROM friend f
+            JOIN diary d ON d.member_id = f.friend_id
+            WHERE d.id = :diaryId
+              AND NOT EXISTS (SELECT 1 FROM feed_entry e WHERE e.member_id = f.member_id AND e.diary_id = d.id)
+            """, nativeQuery = true)
+    int fanOut(@Param("diaryId") Long diaryId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO feed_entry (member_id, author_id, diary_id, diary_create_at)
+            SELECT :memberId, d.member_id, d.id, d.create_at
+            FROM diary d
+            WHERE d.member_id = :authorId
+              AND d.is_public = true
+              AND NOT EXISTS (SELECT 1 FROM feed_entry e WHERE e.member_id = :memberId AND e.diary_id = d.id)
+            """, nativeQuery = true)
+    int backfill(@Param("memberId") Long memberId, @Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM FeedEntry e WHERE e.diary.id = :diaryId")
+    int deleteByDiaryId(@Param("diaryId") Long diaryId);
+
+    @Modifying
+    @Query("DELETE FROM FeedEntry e WHERE e.member.id = :memberId AND e.author.id = :authorId")
+    int deleteByMemberIdAndAuthorId(@Param("memberId") Long memberId, @Param("authorId") Long authorId);
+
+}
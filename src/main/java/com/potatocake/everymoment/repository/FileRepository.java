@@ -2,8 +2,13 @@ package com.potatocake.everymoment.repository;
 
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.File;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FileRepository extends JpaRepository<File, Long> {
 
@@ -13,6 +18,23 @@ public interface FileRepository extends JpaRepository<File, Long> {
 
     File findByDiaryAndOrder(Diary diary, int order);
 
+    List<File> findByDiaryIdInAndOrder(Collection<Long> diaryIds, int order);
+
     void deleteByDiary(Diary diary);
-    
+
+    @Query("SELECT COALESCE(MAX(f.order), 0) FROM File f WHERE f.diary.id = :diaryId")
+    int findMaxOrderByDiaryId(@Param("diaryId") Long diaryId);
+
+    @Modifying
+    @Query("UPDATE File f SET f.thumbnailUrl = :thumbnailUrl WHERE f.id = :id")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl);
+
+    @Query("SELECT DISTINCT f.contentHash FROM File f WHERE f.contentHash IN :contentHashes")
+    List<String> findReferencedContentHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    Optional<File> findFirstByContentHashAndThumbnailUrlIsNotNull(String contentHash);
+
+    @Query("SELECT DISTINCT f.imageUrl FROM File f WHERE f.imageUrl IN :imageUrls")
+    List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
 }
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FriendRepository extends JpaRepository<Friend, Long>, JpaSpecificationExecutor<Friend> {
 
@@ -15,4 +17,7 @@ public interface FriendRepository extends JpaRepository<Friend, Long>, JpaSpecif
 
     boolean existsByMemberIdAndFriendId(Long memberId, Long friendId);
 
+    @Query("SELECT f.friend.id FROM Friend f WHERE f.member.id = :memberId")
+    List<Long> findFriendIdsByMemberId(@Param("memberId") Long memberId);
+
 }
@@ -1,11 +1,15 @@
 package com.potatocake.everymoment.repository;
 
 import com.potatocake.everymoment.entity.FriendRequest;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FriendRequestRepository extends JpaRepository<FriendRequest, Long> {
 
@@ -15,4 +19,12 @@ public interface FriendRequestRepository extends JpaRepository<FriendRequest, Lo
 
     Optional<FriendRequest> findBySenderIdAndReceiverId(Long senderId, Long receiverId);
 
+    @Query("SELECT fr.receiver.id FROM FriendRequest fr WHERE fr.sender.id = :senderId AND fr.receiver.id IN :receiverIds")
+    List<Long> findReceiverIdsBySenderIdAndReceiverIdIn(@Param("senderId") Long senderId,
+                                                        @Param("receiverIds") Collection<Long> receiverIds);
+
+    @Query("SELECT fr.sender.id FROM FriendRequest fr WHERE fr.receiver.id = :receiverId AND fr.sender.id IN :senderIds")
+    List<Long> findSenderIdsByReceiverIdAndSenderIdIn(@Param("receiverId") Long receiverId,
+                                                      @Param("senderIds") Collection<Long> senderIds);
+
 }
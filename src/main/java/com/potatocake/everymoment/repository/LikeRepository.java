@@ -2,18 +2,21 @@ package com.potatocake.everymoment.repository;
 
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.Like;
-import jakarta.persistence.LockModeType;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT l FROM Like l WHERE l.member.id = :memberId AND l.diary.id = :diaryId")
-    Optional<Like> findByMemberIdAndDiaryIdWithLock(@Param("memberId") Long memberId, @Param("diaryId") Long diaryId);
+    // (member_id, diary_id) 유니크 제약에 걸리면 무시 (추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (member_id, diary_id) VALUES (:memberId, :diaryId)", nativeQuery = true)
+    int insertIgnore(@Param("memberId") Long memberId, @Param("diaryId") Long diaryId);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.member.id = :memberId AND l.diary.id = :diaryId")
+    int deleteByMemberIdAndDiaryId(@Param("memberId") Long memberId, @Param("diaryId") Long diaryId);
 
     Long countByDiary(Diary diary);
 
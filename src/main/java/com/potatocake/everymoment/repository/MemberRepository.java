@@ -1,12 +1,16 @@
 package com.potatocake.everymoment.repository;
 
 import com.potatocake.everymoment.entity.Member;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -19,4 +23,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT CASE WHEN MIN(m.number) > 0 OR MIN(m.number) IS NULL THEN -1 ELSE MIN(m.number) - 1 END FROM Member m")
     Long findNextAnonymousNumber();
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.unreadNotificationCount = m.unreadNotificationCount + 1 WHERE m.id = :memberId")
+    int incrementUnreadNotificationCount(@Param("memberId") Long memberId);
+
+    // 음수가 되지 않도록 0 에서 멈춤
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.unreadNotificationCount = "
+            + "CASE WHEN m.unreadNotificationCount > :amount THEN m.unreadNotificationCount - :amount ELSE 0 END "
+            + "WHERE m.id = :memberId")
+    int decrementUnreadNotificationCount(@Param("memberId") Long memberId, @Param("amount") int amount);
+
+    @Query("SELECT m.unreadNotificationCount FROM Member m WHERE m.id = :memberId")
+    Optional<Integer> findUnreadNotificationCountById(@Param("memberId") Long memberId);
+
+    @Query("SELECT m.profileImageUrl FROM Member m WHERE m.profileImageUrl IN :profileImageUrls")
+    List<String> findReferencedProfileImageUrls(@Param("profileImageUrls") Collection<String> profileImageUrls);
+
 }
@@ -0,0 +1,53 @@
+package com.potatocake.everymoment.repository;
+
+import com.potatocake.everymoment.constant.OutboxStatus;
+import com.potatocake.everymoment.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 다른 relay 가 잠근 행은 건너뛰고 가져온다 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o "
+            + "WHERE o.status IN :statuses AND o.nextAttemptAt <= :now "
+            + "ORDER BY o.id")
+    List<NotificationOutbox> findClaimable(@Param("statuses") Collection<OutboxStatus> statuses,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.lastError = null WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatus status);
+
+    long countByStatus(OutboxStatus status);
+
+    // 처리가 끝난(SENT, DEAD) 오래된 outbox id
+    @Query("SELECT o.id FROM NotificationOutbox o WHERE o.status IN :statuses AND o.createAt < :before ORDER BY o.id")
+    List<Long> findFinishedIds(@Param("statuses") Collection<OutboxStatus> statuses,
+                               @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 아직 발송되지 않은 outbox 의 내용만 바꿈 (재시도 대기 중인 행 포함, relay 가 가져가는 중이면 잠금이 풀린 뒤 SENDING 이라 0 을 반환)
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.body = :body "
+            + "WHERE o.notificationId = :notificationId AND o.status = :status")
+    int updateBodyByNotificationIdAndStatus(@Param("notificationId") Long notificationId,
+                                            @Param("status") OutboxStatus status,
+                                            @Param("body") String body);
+
+}
@@ -1,12 +1,69 @@
 package com.potatocake.everymoment.repository;
 
 import com.potatocake.everymoment.entity.Notification;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     List<Notification> findAllByMemberId(Long memberId, Sort sort);
 
+    Window<Notification> findByMemberId(Long memberId, ScrollPosition scrollPosition, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true "
+            + "WHERE n.member.id = :memberId AND n.isRead = false AND n.id <= :upToId")
+    int markAsReadUpTo(@Param("memberId") Long memberId, @Param("upToId") Long upToId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true "
+            + "WHERE n.member.id = :memberId AND n.isRead = false AND n.id IN :ids")
+    int markAsReadByIds(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+
+    // 보관 기간이 지난 알림 id (id 순으로 chunk 단위 조회)
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.createAt < :before ORDER BY n.id")
+    List<Long> findExpiredIds(@Param("type") String type, @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Query("SELECT n.member.id AS memberId, COUNT(n) AS count FROM Notification n "
+            + "WHERE n.id IN :ids AND n.isRead = false GROUP BY n.member.id")
+    List<UnreadCount> countUnreadByMember(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 묶을 수 있는 안 읽은 알림 (잠그지 않고 조회, 실제 합치기는 incrementAggregateCount 로)
+    Optional<Notification> findFirstByMemberIdAndTypeAndTargetIdAndIsReadFalseAndCreateAtGreaterThanEqualOrderByIdDesc(
+            Long memberId, String type, Long targetId, LocalDateTime since);
+
+    // 아직 안 읽은 알림일 때만 묶인 수를 올림 (그 사이 읽혔으면 0 을 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.aggregateCount = n.aggregateCount + 1 WHERE n.id = :id AND n.isRead = false")
+    int incrementAggregateCount(@Param("id") Long id);
+
+    @Query("SELECT n.aggregateCount FROM Notification n WHERE n.id = :id")
+    int findAggregateCountById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.content = :content WHERE n.id = :id")
+    int updateContent(@Param("id") Long id, @Param("content") String content);
+
+    interface UnreadCount {
+
+        Long getMemberId();
+
+        long getCount();
+
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.potatocake.everymoment.repository;
+
+import com.potatocake.everymoment.entity.S3ObjectTombstone;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface S3ObjectTombstoneRepository extends JpaRepository<S3ObjectTombstone, Long> {
+
+    // 다른 인스턴스가 잠근 행은 건너뛰고 가져온다 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM S3ObjectTombstone t WHERE t.nextAttemptAt <= :now ORDER BY t.id")
+    List<S3ObjectTombstone> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM S3ObjectTombstone t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+}
@@ -1,9 +1,12 @@
 package com.potatocake.everymoment.service;
 
+import static org.springframework.data.domain.Sort.Direction.ASC;
+
 import com.potatocake.everymoment.constant.NotificationType;
 import com.potatocake.everymoment.dto.request.CommentRequest;
 import com.potatocake.everymoment.dto.response.CommentFriendResponse;
 import com.potatocake.everymoment.dto.response.CommentResponse;
+import com.potatocake.everymoment.dto.response.CommentScrollResponse;
 import com.potatocake.everymoment.dto.response.CommentsResponse;
 import com.potatocake.everymoment.entity.Comment;
 import com.potatocake.everymoment.entity.Diary;
@@ -13,6 +16,7 @@ import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.CommentRepository;
 import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.PagingUtil;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -20,6 +24,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +38,7 @@ public class CommentService {
     private final DiaryRepository diaryRepository;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final PagingUtil pagingUtil;
 
     // 댓글 목록 조회
     public CommentsResponse getComments(Long diaryId, int key, int size) {
@@ -50,6 +57,24 @@ public class CommentService {
                 .build();
     }
 
+    // 댓글 목록 조회 (댓글 id 기준 keyset, 오래된 순)
+    @Transactional(readOnly = true)
+    public CommentScrollResponse getCommentsByKey(Long diaryId, Long key, int size) {
+        ScrollPosition scrollPosition = pagingUtil.createScrollPosition(key);
+        Pageable pageable = pagingUtil.createPageable(size, ASC);
+
+        Window<Comment> window = commentRepository.findByDiaryId(diaryId, scrollPosition, pageable);
+
+        List<CommentResponse> commentResponses = window.getContent().stream()
+                .map(this::convertToCommentResponseDTO)
+                .collect(Collectors.toList());
+
+        return CommentScrollResponse.builder()
+                .comments(commentResponses)
+                .next(pagingUtil.getNextKey(window, Comment::getId))
+                .build();
+    }
+
     // 댓글 작성
     public void createComment(Long memberId, Long diaryId, CommentRequest commentRequest) {
         Member member = memberRepository.findById(memberId)
@@ -69,6 +94,7 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
+        diaryRepository.incrementCommentCount(diaryId);
 
         // 자신의 게시글이 아닐 경우에만 알림 발송
         if (!diary.getMember().getId().equals(memberId)) {
@@ -91,6 +117,7 @@ public class CommentService {
     public void deleteComment(Long memberId, Long commentId) {
         Comment comment = getExistComment(memberId, commentId);
         commentRepository.delete(comment);
+        diaryRepository.decrementCommentCount(comment.getDiary().getId());
     }
 
     // 로그인한 유저가 쓴 댓글인지 확인하고, 맞을시 댓글 반환
@@ -128,7 +155,9 @@ public class CommentService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
     public Long getCommentCountByDiary(Long diaryId) {
-        return commentRepository.countByDiaryId(diaryId);
+        return diaryRepository.findCommentCountById(diaryId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.DIARY_NOT_FOUND));
     }
 }
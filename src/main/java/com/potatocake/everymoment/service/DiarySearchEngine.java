@@ -0,0 +1,20 @@
+package com.potatocake.everymoment.service;
+
+import com.potatocake.everymoment.entity.Diary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 일기 본문 키워드 검색 전략
+ * <p>
+ * diary.search.engine 설정으로 구현체를 선택한다. (like, fulltext)
+ */
+public interface DiarySearchEngine {
+
+    // 키워드가 본문에 포함된 일기만 남기는 조건
+    Specification<Diary> matches(String keyword);
+
+    // 키워드 검색 시 사용할 정렬 (관련도 순 정렬을 조건에서 직접 지정하는 엔진은 unsorted 반환)
+    Sort sort(Sort defaultSort);
+
+}
@@ -1,5 +1,7 @@
 package com.potatocake.everymoment.service;
 
+import static java.util.function.Function.identity;
+
 import com.potatocake.everymoment.constant.NotificationType;
 import com.potatocake.everymoment.dto.LocationPoint;
 import com.potatocake.everymoment.dto.request.CategoryRequest;
@@ -8,6 +10,8 @@ import com.potatocake.everymoment.dto.request.DiaryFilterRequest;
 import com.potatocake.everymoment.dto.request.DiaryManualCreateRequest;
 import com.potatocake.everymoment.dto.request.DiaryPatchRequest;
 import com.potatocake.everymoment.dto.response.CategoryResponse;
+import com.potatocake.everymoment.dto.response.DiaryCountResponse;
+import com.potatocake.everymoment.dto.response.DiaryCountsResponse;
 import com.potatocake.everymoment.dto.response.MyDiariesResponse;
 import com.potatocake.everymoment.dto.response.MyDiaryResponse;
 import com.potatocake.everymoment.dto.response.MyDiarySimpleResponse;
@@ -24,8 +28,13 @@ import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.FileRepository;
 import com.potatocake.everymoment.repository.LikeRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
+import com.potatocake.everymoment.util.FriendIdSet;
+import com.potatocake.everymoment.util.LikeCountBuffer;
+import com.potatocake.everymoment.util.S3ObjectReclaimer;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -38,12 +47,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class DiaryService {
 
+    private static final int MAX_COUNT_IDS = 100;
+
     private final DiaryRepository diaryRepository;
     private final DiaryCategoryRepository diaryCategoryRepository;
     private final MemberRepository memberRepository;
@@ -52,6 +64,11 @@ public class DiaryService {
     private final LikeRepository likeRepository;
     private final GeometryFactory geometryFactory;
     private final NotificationService notificationService;
+    private final FeedService feedService;
+    private final DiarySearchEngine diarySearchEngine;
+    private final LikeCountBuffer likeCountBuffer;
+    private final S3ObjectReclaimer objectReclaimer;
+    private final FriendGraphCache friendGraphCache;
 
     // 자동 일기 저장 (LocationPoint, Name, Adress 만 저장)
     public void createDiaryAuto(Long memberId, DiaryAutoCreateRequest diaryAutoCreateRequest) {
@@ -111,6 +128,9 @@ public class DiaryService {
         if (categoryRequestList != null) {
             addDiaryCategory(savedDiary, currentMember.getId(), categoryRequestList);
         }
+
+        // 친구 피드에 추가
+        feedService.fanOut(savedDiary);
     }
 
     // 내 일기 전체 조회 (타임라인)
@@ -131,7 +151,6 @@ public class DiaryService {
             LocalDate today = LocalDate.now();
 
             spec = DiarySpecification.filterDiaries(
-                            diaryFilterRequest.getKeyword(),
                             emojis,
                             categories,
                             today,
@@ -145,7 +164,6 @@ public class DiaryService {
                     PageRequest.of(diaryFilterRequest.getKey(), diaryFilterRequest.getSize()));
         } else {
             spec = DiarySpecification.filterDiaries(
-                            diaryFilterRequest.getKeyword(),
                             emojis,
                             categories,
                             diaryFilterRequest.getDate(),
@@ -155,13 +173,24 @@ public class DiaryService {
                             diaryFilterRequest.getIsPublic())
                     .and((root, query, builder) -> builder.equal(root.get("member"), currentMember));
 
+            Sort sort = Sort.by(Sort.Direction.DESC, "createAt");
+
+            // 키워드 검색은 설정된 검색 엔진에 위임 (관련도 순 정렬 포함)
+            String keyword = diaryFilterRequest.getKeyword();
+            if (StringUtils.hasText(keyword)) {
+                spec = spec.and(diarySearchEngine.matches(keyword));
+                sort = diarySearchEngine.sort(sort);
+            }
+
             diaryPage = diaryRepository.findAll(spec,
-                    PageRequest.of(diaryFilterRequest.getKey(), diaryFilterRequest.getSize(),
-                            Sort.by(Sort.Direction.DESC, "createAt")));
+                    PageRequest.of(diaryFilterRequest.getKey(), diaryFilterRequest.getSize(), sort));
         }
 
+        // 썸네일은 페이지 단위로 한 번에 조회
+        Map<Long, File> thumbnails = getThumbnailFiles(diaryPage.getContent());
+
         List<MyDiarySimpleResponse> diaryDTOs = diaryPage.getContent().stream()
-                .map(this::convertToMyDiarySimpleResponseDto)
+                .map(diary -> convertToMyDiarySimpleResponseDto(diary, thumbnails.get(diary.getId())))
                 .collect(Collectors.toList());
 
         Integer nextPage = diaryPage.hasNext() ? diaryFilterRequest.getKey() + 1 : null;
@@ -190,6 +219,31 @@ public class DiaryService {
                 .build();
     }
 
+    // 일기 목록의 좋아요/댓글 수 일괄 조회
+    @Transactional(readOnly = true)
+    public DiaryCountsResponse getDiaryCounts(Long memberId, List<Long> diaryIds) {
+        if (diaryIds.size() > MAX_COUNT_IDS) {
+            throw new GlobalException(ErrorCode.TOO_MANY_DIARY_IDS);
+        }
+
+        // 일기 조회와 같은 규칙으로, 내 일기이거나 친구의 공개 일기인 것만 응답에 담음
+        FriendIdSet friendIds = friendGraphCache.getFriendIds(memberId);
+
+        List<DiaryCountResponse> counts = diaryRepository.findCountsByIdIn(diaryIds).stream()
+                .filter(count -> memberId.equals(count.getMemberId())
+                        || (count.getIsPublic() && friendIds.contains(count.getMemberId())))
+                .map(count -> DiaryCountResponse.builder()
+                        .diaryId(count.getDiaryId())
+                        .likeCount(likeCountBuffer.countOf(count.getDiaryId(), count.getLikeCount()))
+                        .commentCount(count.getCommentCount())
+                        .build())
+                .toList();
+
+        return DiaryCountsResponse.builder()
+                .counts(counts)
+                .build();
+    }
+
     // 내 일기 수정
     public void updateDiary(Long memberId, Long diaryId, DiaryPatchRequest diaryPatchRequest) {
         Diary existingDiary = getExistDiary(memberId, diaryId);
@@ -226,6 +280,8 @@ public class DiaryService {
     // 내 일기 삭제
     public void deleteDiary(Long memberId, Long diaryId) {
         Diary existingDiary = getExistDiary(memberId, diaryId);
+        feedService.retract(existingDiary);
+        deleteFiles(diaryId);
         diaryRepository.delete(existingDiary);
     }
 
@@ -239,6 +295,28 @@ public class DiaryService {
     public void togglePrivacy(Long memberId, Long diaryId) {
         Diary existingDiary = getExistDiary(memberId, diaryId);
         existingDiary.togglePublic();
+
+        // 공개 여부에 따라 친구 피드에 추가하거나 제거
+        if (existingDiary.isPublic()) {
+            feedService.fanOut(existingDiary);
+        } else {
+            feedService.retract(existingDiary);
+        }
+    }
+
+    // 파일 행은 한 번에 지우고, S3 객체는 S3ObjectReclaimer 가 커밋 이후 정리
+    private void deleteFiles(Long diaryId) {
+        List<File> files = fileRepository.findByDiaryId(diaryId);
+        if (files.isEmpty()) {
+            return;
+        }
+
+        fileRepository.deleteAllByIdInBatch(files.stream()
+                .map(File::getId)
+                .toList());
+        objectReclaimer.recordWithRenditions(files.stream()
+                .map(File::getImageUrl)
+                .toList());
     }
 
     // 로그인한 유저의 일기가 맞는지 확인 후 일기 반환
@@ -302,15 +380,25 @@ public class DiaryService {
                 .build();
     }
 
+    // 일기 목록의 첫 번째 파일을 일기 id 기준으로 일괄 조회
+    private Map<Long, File> getThumbnailFiles(List<Diary> diaries) {
+        if (diaries.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> diaryIds = diaries.stream()
+                .map(Diary::getId)
+                .toList();
+
+        return fileRepository.findByDiaryIdInAndOrder(diaryIds, 1).stream()
+                .collect(Collectors.toMap(file -> file.getDiary().getId(), identity(), (first, second) -> first));
+    }
+
     //일기 전체 불러올 때, 일기DTO 변환
-    private MyDiarySimpleResponse convertToMyDiarySimpleResponseDto(Diary savedDiary) {
-        File thumbnailFile = fileRepository.findByDiaryAndOrder(savedDiary, 1);
+    private MyDiarySimpleResponse convertToMyDiarySimpleResponseDto(Diary savedDiary, File thumbnailFile) {
         ThumbnailResponse thumbnailResponse = null;
         if (thumbnailFile != null) {
-            thumbnailResponse = ThumbnailResponse.builder()
-                    .id(thumbnailFile.getId())
-                    .imageUrl(thumbnailFile.getImageUrl())
-                    .build();
+            thumbnailResponse = ThumbnailResponse.toResponseDto(thumbnailFile);
         }
 
         return MyDiarySimpleResponse.builder()
@@ -1,5 +1,8 @@
 package com.potatocake.everymoment.service;
 
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
 import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
@@ -7,19 +10,24 @@ import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
 import com.google.firebase.messaging.SendResponse;
-import com.potatocake.everymoment.dto.request.FcmNotificationRequest;
 import com.potatocake.everymoment.entity.DeviceToken;
 import com.potatocake.everymoment.entity.Member;
+import com.potatocake.everymoment.entity.NotificationOutbox;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.DeviceTokenRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -28,41 +36,108 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class FcmService {
 
+    // sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final FirebaseMessaging firebaseMessaging;
     private final DeviceTokenRepository deviceTokenRepository;
     private final MemberRepository memberRepository;
 
-    public void sendNotification(Long targetMemberId, FcmNotificationRequest request) {
-        List<DeviceToken> deviceTokens = deviceTokenRepository.findAllByMemberId(targetMemberId);
-
-        if (deviceTokens.isEmpty()) {
-            log.warn("FCM 토큰이 존재하지 않는 사용자입니다. memberId: {}", targetMemberId);
-            return;
+    /**
+     * 여러 수신자의 알림을 토큰별 메시지로 펼쳐 최대 500개씩 묶어 발송하고, 전달되지 못한 알림 id 와 사유를 반환한다.
+     * <p>
+     * 메시지 순서대로 DeviceToken 과 알림 id 를 함께 들고 있다가 SendResponse 의 인덱스로 되짚는다. Firebase 응답을 기다리는 동안 DB 커넥션을
+     * 점유하지 않도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, String> sendAll(List<NotificationOutbox> outboxes) {
+        Set<Long> receiverIds = outboxes.stream()
+                .map(NotificationOutbox::getReceiverId)
+                .collect(Collectors.toSet());
+
+        Map<Long, List<DeviceToken>> tokensByMember = deviceTokenRepository.findAllByMemberIdIn(receiverIds).stream()
+                .collect(Collectors.groupingBy(token -> token.getMember().getId()));
+
+        List<Message> messages = new ArrayList<>();
+        List<DeviceToken> deviceTokens = new ArrayList<>();
+        List<Long> outboxIds = new ArrayList<>();
+
+        for (NotificationOutbox outbox : outboxes) {
+            for (DeviceToken token : tokensByMember.getOrDefault(outbox.getReceiverId(), List.of())) {
+                messages.add(buildMessage(token, outbox));
+                deviceTokens.add(token);
+                outboxIds.add(outbox.getId());
+            }
         }
 
-        List<Message> messages = deviceTokens.stream()
-                .map(token -> Message.builder()
-                        .setToken(token.getFcmToken())
-                        .setNotification(Notification.builder()
-                                .setTitle(request.getTitle())
-                                .setBody(request.getBody())
-                                .build())
-                        .putData("type", request.getType())
-                        .putData("targetId", request.getTargetId().toString())
-                        .build())
-                .collect(Collectors.toList());
+        Map<Long, String> failures = new HashMap<>();
+        Set<Long> delivered = new HashSet<>();
+        List<DeviceToken> tokensToDelete = new ArrayList<>();
+
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            int to = Math.min(from + MAX_BATCH_SIZE, messages.size());
+            List<Long> chunkOutboxIds = outboxIds.subList(from, to);
+
+            try {
+                BatchResponse response = firebaseMessaging.sendEach(messages.subList(from, to));
+                List<SendResponse> responses = response.getResponses();
+
+                for (int i = 0; i < responses.size(); i++) {
+                    SendResponse sendResponse = responses.get(i);
+                    Long outboxId = chunkOutboxIds.get(i);
+
+                    if (sendResponse.isSuccessful()) {
+                        delivered.add(outboxId);
+                    } else if (!shouldDeleteToken(sendResponse.getException().getMessagingErrorCode())) {
+                        // 토큰 문제가 아닌 실패만 재시도 대상
+                        failures.putIfAbsent(outboxId, sendResponse.getException().getMessage());
+                    }
+                }
+
+                handleBatchResponse(response, deviceTokens.subList(from, to), tokensToDelete);
+            } catch (FirebaseMessagingException e) {
+                log.error("FCM 메시지 일괄 전송 실패. 메시지 수: {}, error: {}", to - from, e.getMessage());
+                chunkOutboxIds.forEach(outboxId -> failures.putIfAbsent(outboxId, e.getMessage()));
+            }
+        }
 
-        try {
-            BatchResponse response = firebaseMessaging.sendEach(messages);
-            handleBatchResponse(response, deviceTokens);
-        } catch (FirebaseMessagingException e) {
-            log.error("FCM 메시지 전송 실패. targetMemberId: {}, error: {}", targetMemberId, e.getMessage());
+        if (!tokensToDelete.isEmpty()) {
+            deviceTokenRepository.deleteAll(tokensToDelete);
+            log.info("유효하지 않은 FCM 토큰 {} 개를 삭제했습니다", tokensToDelete.size());
         }
+
+        // 기기 중 하나라도 받았다면 전달된 것으로 본다
+        failures.keySet().removeAll(delivered);
+        return failures;
     }
 
-    private void handleBatchResponse(BatchResponse response, List<DeviceToken> deviceTokens) {
-        List<DeviceToken> tokensToDelete = new ArrayList<>();
+    private Message buildMessage(DeviceToken token, NotificationOutbox outbox) {
+        Message.Builder builder = Message.builder()
+                .setToken(token.getFcmToken())
+                .setNotification(Notification.builder()
+                        .setTitle(outbox.getTitle())
+                        .setBody(outbox.getBody())
+                        .build())
+                .putData("type", outbox.getType())
+                .putData("targetId", outbox.getTargetId().toString());
+
+        // 묶인 알림은 기기에서 이전 푸시를 대체
+        if (outbox.getCollapseKey() != null) {
+            builder.setAndroidConfig(AndroidConfig.builder()
+                            .setCollapseKey(outbox.getCollapseKey())
+                            .build())
+                    .setApnsConfig(ApnsConfig.builder()
+                            .putHeader("apns-collapse-id", outbox.getCollapseKey())
+                            .setAps(Aps.builder().build())
+                            .build());
+        }
 
+        return builder.build();
+    }
+
+    // 실패한 응답을 기록하고, 더 이상 쓸 수 없는 토큰을 삭제 대상에 모음
+    private void handleBatchResponse(BatchResponse response, List<DeviceToken> deviceTokens,
+                                     List<DeviceToken> tokensToDelete) {
         for (int i = 0; i < response.getResponses().size(); i++) {
             SendResponse sendResponse = response.getResponses().get(i);
             DeviceToken deviceToken = deviceTokens.get(i);
@@ -81,11 +156,6 @@ public class FcmService {
                 }
             }
         }
-
-        if (!tokensToDelete.isEmpty()) {
-            deviceTokenRepository.deleteAll(tokensToDelete);
-            log.info("유효하지 않은 FCM 토큰 {} 개를 삭제했습니다", tokensToDelete.size());
-        }
     }
 
     private boolean shouldDeleteToken(MessagingErrorCode errorCode) {
@@ -0,0 +1,90 @@
+package com.potatocake.everymoment.service;
+
+import com.potatocake.everymoment.config.FeedProperties;
+import com.potatocake.everymoment.entity.Diary;
+import com.potatocake.everymoment.entity.FeedEntry;
+import com.potatocake.everymoment.repository.FeedEntryRepository;
+import com.potatocake.everymoment.util.PagingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@EnableConfigurationProperties(FeedProperties.class)
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class FeedService {
+
+    private static final String FEED_TIME_PROPERTY = "diaryCreateAt";
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedProperties feedProperties;
+    private final PagingUtil pagingUtil;
+
+    public boolean isFanOutEnabled() {
+        return feedProperties.fanOutEnabled();
+    }
+
+    // 기존 일기가 피드에 채워지기 전에는 빈 피드가 보이지 않도록 읽기는 따로 켬
+    public boolean isReadEnabled() {
+        return isFanOutEnabled() && feedProperties.readEnabled();
+    }
+
+    // 공개 일기를 작성자 친구들의 피드에 추가
+    public void fanOut(Diary diary) {
+        if (!isFanOutEnabled() || !diary.isPublic()) {
+            return;
+        }
+
+        feedEntryRepository.fanOut(diary.getId());
+    }
+
+    // 비공개 전환, 삭제된 일기를 모든 피드에서 제거
+    // (꺼져 있으면 feed_entry 테이블이 없을 수 있으므로 건너뜀, 다시 켤 때의 정리는 db/feed-entry.sql 참고)
+    public void retract(Diary diary) {
+        if (!isFanOutEnabled()) {
+            return;
+        }
+
+        feedEntryRepository.deleteByDiaryId(diary.getId());
+    }
+
+    // 친구 관계가 맺어지면 서로의 공개 일기를 피드에 채움
+    public void backfill(Long memberId, Long friendId) {
+        if (!isFanOutEnabled()) {
+            return;
+        }
+
+        feedEntryRepository.backfill(memberId, friendId);
+        feedEntryRepository.backfill(friendId, memberId);
+    }
+
+    // 친구 관계가 끊기면 서로의 일기를 피드에서 제거
+    public void cleanup(Long memberId, Long friendId) {
+        if (!isFanOutEnabled()) {
+            return;
+        }
+
+        feedEntryRepository.deleteByMemberIdAndAuthorId(memberId, friendId);
+        feedEntryRepository.deleteByMemberIdAndAuthorId(friendId, memberId);
+    }
+
+    // 회원의 피드 조회 (일기 작성 시간, id 역순)
+    @Transactional(readOnly = true)
+    public Window<FeedEntry> getFeed(Long memberId, String cursor, int size) {
+        ScrollPosition scrollPosition = pagingUtil.createCursorPosition(cursor, FEED_TIME_PROPERTY);
+        Pageable pageable = PageRequest.of(0, size, pagingUtil.createCursorSort(FEED_TIME_PROPERTY));
+
+        return feedEntryRepository.findByMemberId(memberId, scrollPosition, pageable);
+    }
+
+    public String getNextCursor(Window<FeedEntry> window) {
+        return pagingUtil.getNextCursor(window, FeedEntry::getDiaryCreateAt, FeedEntry::getId);
+    }
+
+}
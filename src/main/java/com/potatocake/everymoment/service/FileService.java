@@ -1,18 +1,38 @@
 package com.potatocake.everymoment.service;
 
+import com.potatocake.everymoment.dto.request.FileUpdateRequest;
+import com.potatocake.everymoment.dto.request.PresignedUploadRequest;
 import com.potatocake.everymoment.dto.response.FileResponse;
+import com.potatocake.everymoment.dto.response.PresignedUploadResponse;
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.File;
+import com.potatocake.everymoment.event.FileUploadedEvent;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.FileRepository;
+import com.potatocake.everymoment.util.ContentAddress;
 import com.potatocake.everymoment.util.S3FileUploader;
+import com.potatocake.everymoment.util.S3ObjectReclaimer;
+import com.potatocake.everymoment.util.S3PresignedUploader;
+import com.potatocake.everymoment.util.S3StreamingUploader;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @RequiredArgsConstructor
@@ -23,6 +43,11 @@ public class FileService {
     private final FileRepository fileRepository;
     private final DiaryRepository diaryRepository;
     private final S3FileUploader uploader;
+    private final S3StreamingUploader streamingUploader;
+    private final S3PresignedUploader presignedUploader;
+    private final S3ObjectReclaimer objectReclaimer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<FileResponse> getFiles(Long diaryId) {
@@ -31,42 +56,188 @@ public class FileService {
                 .toList();
     }
 
+    // S3 업로드는 트랜잭션 밖에서 동시에 진행하고, File 저장만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void uploadFiles(Long diaryId, Long memberId, List<MultipartFile> files) {
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new GlobalException(ErrorCode.DIARY_NOT_FOUND));
+        Diary diary = getDiary(diaryId, memberId);
 
-        diary.checkOwner(memberId);
+        List<String> urls = uploader.uploadFiles(files);
 
-        List<File> fileEntities = new ArrayList<>();
+        saveOrCompensate(urls, () -> fileRepository.saveAll(toFileEntities(diary, urls, 0)));
+    }
+
+    /**
+     * 유지할 파일은 그대로 두고 순서만 바꾸며, 새로 받은 파일만 업로드한다.
+     * order 가 없으면 기존 파일을 모두 지우고 받은 파일로 바꾼다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateFiles(Long diaryId, Long memberId, FileUpdateRequest request, List<MultipartFile> files) {
+        Diary diary = getDiary(diaryId, memberId);
+
+        List<MultipartFile> newFiles = files == null ? List.of() : files;
+        List<Long> order = request == null ? Collections.nCopies(newFiles.size(), null) : request.getOrder();
+        validateNewFileSlots(order, newFiles.size());
+
+        List<String> urls = newFiles.isEmpty() ? List.of() : uploader.uploadFiles(newFiles);
+
+        saveOrCompensate(urls, () -> applyOrder(diary, order, urls));
+    }
+
+    // 요청 본문을 S3 로 바로 흘려보내고 마지막 순서 뒤에 붙임
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void uploadFileStream(Long diaryId, Long memberId, InputStream input, String contentType) {
+        Diary diary = getDiary(diaryId, memberId);
+
+        String url = streamingUploader.upload(input, contentType);
+
+        saveOrCompensate(List.of(url), () -> fileRepository.saveAll(
+                toFileEntities(diary, List.of(url), fileRepository.findMaxOrderByDiaryId(diaryId))));
+    }
+
+    @Transactional(readOnly = true)
+    public PresignedUploadResponse issueUploadUrl(Long diaryId, Long memberId, PresignedUploadRequest request) {
+        getDiary(diaryId, memberId);
+
+        return presignedUploader.issue(uploadDirectory(diaryId), request.getFilename(), request.getContentType(),
+                request.getContentLength());
+    }
+
+    // 클라이언트가 S3 로 직접 올린 파일을 확인하고 마지막 순서 뒤에 등록 (이미 등록된 파일은 건너뜀)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void completeUploads(Long diaryId, Long memberId, List<String> keys) {
+        Diary diary = getDiary(diaryId, memberId);
+
+        List<String> urls = keys.stream()
+                .distinct()
+                .map(key -> presignedUploader.confirm(uploadDirectory(diaryId), key))
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> registeredUrls = fileRepository.findByDiaryId(diaryId).stream()
+                    .map(File::getImageUrl)
+                    .collect(Collectors.toSet());
+            List<String> newUrls = urls.stream()
+                    .filter(url -> !registeredUrls.contains(url))
+                    .toList();
+
+            publishUploaded(fileRepository.saveAll(
+                    toFileEntities(diary, newUrls, fileRepository.findMaxOrderByDiaryId(diaryId))));
+        });
+    }
+
+    // 빠진 파일은 한 번에 삭제하고, 순서가 바뀐 파일만 갱신한 뒤 새 파일을 추가
+    private List<File> applyOrder(Diary diary, List<Long> order, List<String> newUrls) {
+        Map<Long, File> existingFiles = fileRepository.findByDiaryId(diary.getId()).stream()
+                .collect(Collectors.toMap(File::getId, Function.identity()));
+        validateExistingFiles(order, existingFiles.keySet());
+
+        List<File> removedFiles = existingFiles.values().stream()
+                .filter(file -> !order.contains(file.getId()))
+                .toList();
+        deleteFiles(removedFiles);
+
+        List<File> addedFiles = new ArrayList<>();
+        Iterator<String> newUrlIterator = newUrls.iterator();
 
-        for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
+        for (int i = 0; i < order.size(); i++) {
+            Long fileId = order.get(i);
 
-            String url = uploader.uploadFile(file);
+            if (fileId == null) {
+                addedFiles.add(toFileEntity(diary, newUrlIterator.next(), i + 1));
+            } else {
+                existingFiles.get(fileId).updateOrder(i + 1);
+            }
+        }
+
+        return fileRepository.saveAll(addedFiles);
+    }
+
+    // S3 객체는 같은 트랜잭션에 기록해 두고 S3ObjectReclaimer 가 비동기로 정리
+    private void deleteFiles(List<File> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+
+        fileRepository.deleteAllByIdInBatch(files.stream()
+                .map(File::getId)
+                .toList());
+
+        objectReclaimer.recordWithRenditions(files.stream()
+                .map(File::getImageUrl)
+                .toList());
+    }
 
-            File fileEntity = File.builder()
-                    .diary(diary)
-                    .imageUrl(url)
-                    .order(i + 1)
-                    .build();
+    private void validateNewFileSlots(List<Long> order, int newFileCount) {
+        long newFileSlots = order.stream()
+                .filter(Objects::isNull)
+                .count();
 
-            fileEntities.add(fileEntity);
+        if (newFileSlots != newFileCount) {
+            throw new GlobalException(ErrorCode.INVALID_FILE_ORDER);
         }
+    }
+
+    private void validateExistingFiles(List<Long> order, Set<Long> existingFileIds) {
+        List<Long> keptFileIds = order.stream()
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (!existingFileIds.containsAll(keptFileIds) || keptFileIds.size() != Set.copyOf(keptFileIds).size()) {
+            throw new GlobalException(ErrorCode.INVALID_FILE_ORDER);
+        }
+    }
 
-        fileRepository.saveAll(fileEntities);
+    private String uploadDirectory(Long diaryId) {
+        return "diaries/" + diaryId;
     }
 
-    public void updateFiles(Long diaryId, Long memberId, List<MultipartFile> files) {
+    private Diary getDiary(Long diaryId, Long memberId) {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.DIARY_NOT_FOUND));
 
         diary.checkOwner(memberId);
 
-        fileRepository.deleteByDiary(diary);
+        return diary;
+    }
+
+    // 저장에 실패하면 이미 올라간 파일을 삭제
+    private void saveOrCompensate(List<String> urls, Supplier<List<File>> save) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> publishUploaded(save.get()));
+        } catch (RuntimeException e) {
+            uploader.deleteFiles(urls);
+            throw e;
+        }
+    }
 
-        if (files != null && !files.isEmpty()) {
-            uploadFiles(diaryId, memberId, files);
+    // 커밋 이후 축소본 생성을 시작
+    private void publishUploaded(List<File> files) {
+        if (files.isEmpty()) {
+            return;
         }
+
+        eventPublisher.publishEvent(new FileUploadedEvent(files.stream()
+                .map(File::getId)
+                .toList()));
+    }
+
+    private List<File> toFileEntities(Diary diary, List<String> urls, int lastOrder) {
+        List<File> fileEntities = new ArrayList<>();
+
+        for (int i = 0; i < urls.size(); i++) {
+            fileEntities.add(toFileEntity(diary, urls.get(i), lastOrder + i + 1));
+        }
+
+        return fileEntities;
+    }
+
+    private File toFileEntity(Diary diary, String url, int order) {
+        return File.builder()
+                .diary(diary)
+                .imageUrl(url)
+                .contentHash(ContentAddress.hashOf(url))
+                .order(order)
+                .build();
     }
 
 }
@@ -1,34 +1,43 @@
 package com.potatocake.everymoment.service;
 
+import static java.util.function.Function.identity;
+
 import com.potatocake.everymoment.dto.request.DiaryFilterRequest;
 import com.potatocake.everymoment.dto.response.CategoryResponse;
 import com.potatocake.everymoment.dto.response.FriendDiariesResponse;
+import com.potatocake.everymoment.dto.response.FriendDiaryFeedResponse;
 import com.potatocake.everymoment.dto.response.FriendDiaryResponse;
 import com.potatocake.everymoment.dto.response.FriendDiarySimpleResponse;
 import com.potatocake.everymoment.dto.response.LikeCountResponse;
 import com.potatocake.everymoment.dto.response.ThumbnailResponse;
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.DiaryCategory;
+import com.potatocake.everymoment.entity.FeedEntry;
 import com.potatocake.everymoment.entity.File;
-import com.potatocake.everymoment.entity.Friend;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.DiaryCategoryRepository;
 import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.FileRepository;
-import com.potatocake.everymoment.repository.FriendRepository;
 import com.potatocake.everymoment.repository.LikeRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
+import com.potatocake.everymoment.util.LikeCountBuffer;
+import com.potatocake.everymoment.util.PagingUtil;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @RequiredArgsConstructor
 @Transactional
@@ -36,20 +45,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class FriendDiaryService {
     private final DiaryRepository diaryRepository;
     private final DiaryCategoryRepository diaryCategoryRepository;
-    private final FriendRepository friendRepository;
     private final MemberRepository memberRepository;
     private final FileRepository fileRepository;
     private final LikeRepository likeRepository;
+    private final PagingUtil pagingUtil;
+    private final FeedService feedService;
+    private final FriendGraphCache friendGraphCache;
+    private final LikeCountBuffer likeCountBuffer;
+    private final DiarySearchEngine diarySearchEngine;
 
     //친구 일기 조회
     public FriendDiariesResponse getFriendDiaries(Long memberId, DiaryFilterRequest diaryFilterRequest) {
         Member currentMember = memberRepository.findById(memberId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND));
 
-        List<Friend> friends = friendRepository.findFriendsByMember(currentMember);
-        List<Long> friendIdList = friends.stream()
-                .map(friend -> friend.getFriend().getId())
-                .collect(Collectors.toList());
+        List<Long> friendIdList = friendGraphCache.getFriendIds(currentMember.getId()).toList();
 
         Page<Diary> diaryPage;
 
@@ -58,7 +68,6 @@ public class FriendDiaryService {
         List<String> emojis = diaryFilterRequest.getEmojis();
 
         Specification<Diary> spec = FriendDiarySpecification.filterDiaries(
-                        diaryFilterRequest.getKeyword(),
                         emojis,
                         categories,
                         diaryFilterRequest.getDate(),
@@ -66,13 +75,20 @@ public class FriendDiaryService {
                         diaryFilterRequest.getUntil())
                 .and((root, query, builder) -> root.get("member").get("id").in(friendIdList));
 
+        Sort sort = Sort.by(Sort.Direction.DESC, "createAt");
+
+        // 키워드 검색은 설정된 검색 엔진에 위임 (관련도 순 정렬 포함)
+        String keyword = diaryFilterRequest.getKeyword();
+        if (StringUtils.hasText(keyword)) {
+            spec = spec.and(diarySearchEngine.matches(keyword));
+            sort = diarySearchEngine.sort(sort);
+        }
+
         diaryPage = diaryRepository.findAll(spec,
-                PageRequest.of(diaryFilterRequest.getKey(), diaryFilterRequest.getSize(),
-                        Sort.by(Sort.Direction.DESC, "createAt")));
+                PageRequest.of(diaryFilterRequest.getKey(), diaryFilterRequest.getSize(), sort));
 
-        List<FriendDiarySimpleResponse> friendDiarySimpleResponseList = diaryPage.getContent().stream()
-                .map(this::convertToFriendDiariesResponseDTO)
-                .collect(Collectors.toList());
+        List<FriendDiarySimpleResponse> friendDiarySimpleResponseList = convertToFriendDiariesResponseDTOs(
+                diaryPage.getContent());
 
         Integer nextPage = diaryPage.hasNext() ? diaryFilterRequest.getKey() + 1 : null;
 
@@ -82,6 +98,54 @@ public class FriendDiaryService {
                 .build();
     }
 
+    //친구 일기 피드 조회 (커서 기반, count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public FriendDiaryFeedResponse getFriendDiaryFeed(Long memberId, DiaryFilterRequest diaryFilterRequest,
+                                                      String cursor) {
+        Member currentMember = memberRepository.findById(memberId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND));
+
+        // 필터가 없으면 미리 쌓아둔 회원별 피드에서 바로 조회
+        if (feedService.isReadEnabled() && !diaryFilterRequest.hasFilter()) {
+            Window<FeedEntry> feed = feedService.getFeed(currentMember.getId(), cursor, diaryFilterRequest.getSize());
+            List<Diary> diaries = feed.getContent().stream()
+                    .map(FeedEntry::getDiary)
+                    .toList();
+
+            return FriendDiaryFeedResponse.builder()
+                    .diaries(convertToFriendDiariesResponseDTOs(diaries))
+                    .next(feedService.getNextCursor(feed))
+                    .build();
+        }
+
+        List<Long> friendIdList = friendGraphCache.getFriendIds(currentMember.getId()).toList();
+
+        Specification<Diary> spec = FriendDiarySpecification.filterDiaries(
+                        diaryFilterRequest.getEmojis(),
+                        diaryFilterRequest.getCategories(),
+                        diaryFilterRequest.getDate(),
+                        diaryFilterRequest.getFrom(),
+                        diaryFilterRequest.getUntil())
+                .and((root, query, builder) -> root.get("member").get("id").in(friendIdList));
+
+        // 커서는 작성 시각 기준이므로 키워드는 조건으로만 사용
+        if (StringUtils.hasText(diaryFilterRequest.getKeyword())) {
+            spec = spec.and(diarySearchEngine.matches(diaryFilterRequest.getKeyword()));
+        }
+
+        ScrollPosition scrollPosition = pagingUtil.createCursorPosition(cursor, "createAt");
+
+        Window<Diary> window = diaryRepository.findBy(spec, query -> query
+                .sortBy(pagingUtil.createCursorSort("createAt"))
+                .limit(diaryFilterRequest.getSize())
+                .scroll(scrollPosition));
+
+        return FriendDiaryFeedResponse.builder()
+                .diaries(convertToFriendDiariesResponseDTOs(window.getContent()))
+                .next(pagingUtil.getNextCursor(window, Diary::getCreateAt, Diary::getId))
+                .build();
+    }
+
     // 친구 다이어리 하나 조회
     public FriendDiaryResponse getFriendDiary(Long memberId, Long diaryId) {
         Diary diary = diaryRepository.findById(diaryId)
@@ -95,12 +159,7 @@ public class FriendDiaryService {
         Member currentMember = memberRepository.findById(memberId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND));
 
-        List<Friend> friends = friendRepository.findFriendsByMember(currentMember);
-        List<Long> friendIdList = friends.stream()
-                .map(friend -> friend.getFriend().getId())
-                .collect(Collectors.toList());
-
-        if (!friendIdList.contains(diary.getMember().getId())) {
+        if (!friendGraphCache.isFriend(currentMember.getId(), diary.getMember().getId())) {
             throw new GlobalException(ErrorCode.FRIEND_NOT_FOUND);
         }
 
@@ -114,7 +173,7 @@ public class FriendDiaryService {
                 .collect(Collectors.toList());
 
         //like 갯수 반환
-        Long likeCount = likeRepository.countByDiary(diary);
+        Long likeCount = likeCountBuffer.countOf(diary);
         boolean isLiked = likeRepository.existsByMemberIdAndDiaryId(memberId, diary.getId());
 
         LikeCountResponse count = LikeCountResponse.builder()
@@ -135,15 +194,29 @@ public class FriendDiaryService {
         return diaryResponseDTO;
     }
 
+    //친구 일기 목록 DTO변환 (썸네일은 일괄 조회)
+    private List<FriendDiarySimpleResponse> convertToFriendDiariesResponseDTOs(List<Diary> diaries) {
+        if (diaries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> diaryIds = diaries.stream()
+                .map(Diary::getId)
+                .toList();
+
+        Map<Long, File> thumbnails = fileRepository.findByDiaryIdInAndOrder(diaryIds, 1).stream()
+                .collect(Collectors.toMap(file -> file.getDiary().getId(), identity(), (first, second) -> first));
+
+        return diaries.stream()
+                .map(diary -> convertToFriendDiariesResponseDTO(diary, thumbnails.get(diary.getId())))
+                .collect(Collectors.toList());
+    }
+
     //친구 일기 DTO변환
-    private FriendDiarySimpleResponse convertToFriendDiariesResponseDTO(Diary savedDiary) {
-        File thumbnailFile = fileRepository.findByDiaryAndOrder(savedDiary, 1);
+    private FriendDiarySimpleResponse convertToFriendDiariesResponseDTO(Diary savedDiary, File thumbnailFile) {
         ThumbnailResponse thumbnailResponse = null;
         if (thumbnailFile != null) {
-            thumbnailResponse = ThumbnailResponse.builder()
-                    .id(thumbnailFile.getId())
-                    .imageUrl(thumbnailFile.getImageUrl())
-                    .build();
+            thumbnailResponse = ThumbnailResponse.toResponseDto(thumbnailFile);
         }
 
         return FriendDiarySimpleResponse.builder()
@@ -16,15 +16,11 @@ import org.springframework.data.jpa.domain.Specification;
 public class FriendDiarySpecification {
 
     public static Specification<Diary> filterDiaries(
-            String keyword, List<String> emojis, List<String> categories,
+            List<String> emojis, List<String> categories,
             LocalDate date, LocalDate from, LocalDate until) {
         return (Root<Diary> root, CriteriaQuery<?> query, CriteriaBuilder builder) -> {
             Predicate predicate = builder.conjunction();
 
-            if (keyword != null) {
-                predicate = builder.and(predicate, builder.like(root.get("content"), "%" + keyword + "%"));
-            }
-
             if (emojis != null && !emojis.isEmpty()) {
                 predicate = builder.and(predicate, root.get("emoji").in(emojis));
             }
@@ -14,6 +14,7 @@ import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.FriendRepository;
 import com.potatocake.everymoment.repository.FriendRequestRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
 import com.potatocake.everymoment.util.PagingUtil;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,8 @@ public class FriendRequestService {
     private final FriendRepository friendRepository;
     private final PagingUtil pagingUtil;
     private final NotificationService notificationService;
+    private final FeedService feedService;
+    private final FriendGraphCache friendGraphCache;
 
     @Transactional(readOnly = true)
     public FriendRequestPageRequest getFriendRequests(Long key, int size, Long memberId) {
@@ -52,7 +55,7 @@ public class FriendRequestService {
 
     public void sendFriendRequest(Long senderId, Long receiverId) {
         // 이미 친구인 경우 체크
-        if (friendRepository.existsByMemberIdAndFriendId(senderId, receiverId)) {
+        if (friendGraphCache.isFriend(senderId, receiverId)) {
             throw new GlobalException(ErrorCode.ALREADY_FRIEND);
         }
 
@@ -108,6 +111,9 @@ public class FriendRequestService {
         friendRepository.save(friend1);
         friendRepository.save(friend2);
 
+        friendGraphCache.invalidate(friendRequest.getSender().getId(), friendRequest.getReceiver().getId());
+        feedService.backfill(friendRequest.getSender().getId(), friendRequest.getReceiver().getId());
+
         friendRequestRepository.delete(friendRequest);
 
         // 알림 발송
@@ -138,6 +144,9 @@ public class FriendRequestService {
 
         friendRepository.save(friend1);
         friendRepository.save(friend2);
+
+        friendGraphCache.invalidate(member1.getId(), member2.getId());
+        feedService.backfill(member1.getId(), member2.getId());
     }
 
     private FriendRequest findAndValidateFriendRequest(Long requestId, Long memberId) {
@@ -15,6 +15,7 @@ import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.FileRepository;
 import com.potatocake.everymoment.repository.FriendRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -36,6 +37,8 @@ public class FriendService {
     private final MemberRepository memberRepository;
     private final DiaryRepository diaryRepository;
     private final FileRepository fileRepository;
+    private final FeedService feedService;
+    private final FriendGraphCache friendGraphCache;
 
     //특정 친구 일기 조회
     @Transactional(readOnly = true)
@@ -53,7 +56,7 @@ public class FriendService {
         Pageable pageable = PageRequest.of(key, size, Sort.by(Sort.Direction.DESC, "createAt"));
 
         Page<Diary> diaries = diaryRepository.findAll(
-                FriendDiarySpecification.filterDiaries(null, null, null, date, null, null)
+                FriendDiarySpecification.filterDiaries(null, null, date, null, null)
                         .and((root, query, builder) -> builder.equal(root.get("member").get("id"), friendId)),
                 pageable);
 
@@ -110,6 +113,9 @@ public class FriendService {
 
         friendRepository.delete(friendMine);
         friendRepository.delete(friendFriends);
+
+        friendGraphCache.invalidate(currentMember.getId(), friendMember.getId());
+        feedService.cleanup(currentMember.getId(), friendMember.getId());
     }
 
     //다이어리 DTO 변환
@@ -118,10 +124,7 @@ public class FriendService {
         File thumbnailFile = fileRepository.findByDiaryAndOrder(savedDiary, 1);
         ThumbnailResponse thumbnailResponse = null;
         if (thumbnailFile != null) {
-            thumbnailResponse = ThumbnailResponse.builder()
-                    .id(thumbnailFile.getId())
-                    .imageUrl(thumbnailFile.getImageUrl())
-                    .build();
+            thumbnailResponse = ThumbnailResponse.toResponseDto(thumbnailFile);
         }
 
         return FriendDiarySimpleResponse.builder()
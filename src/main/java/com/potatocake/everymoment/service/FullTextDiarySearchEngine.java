@@ -0,0 +1,68 @@
+package com.potatocake.everymoment.service;
+
+import static com.potatocake.everymoment.config.MySqlFunctionContributor.MATCH_AGAINST;
+
+import com.potatocake.everymoment.entity.Diary;
+import jakarta.persistence.criteria.Expression;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL FULLTEXT(ngram) 인덱스를 사용하는 검색
+ * <p>
+ * 인덱스 생성 스크립트는 db/diary-fulltext.sql 참고. 인덱스를 만든 뒤 DIARY_SEARCH_ENGINE=fulltext 로 전환한다.
+ */
+@ConditionalOnProperty(prefix = "diary.search", name = "engine", havingValue = "fulltext")
+@Component
+public class FullTextDiarySearchEngine implements DiarySearchEngine {
+
+    // boolean mode 에서 연산자로 해석되는 문자
+    private static final String OPERATOR_CHARACTERS = "[+\\-<>()~*\"@]";
+
+    @Override
+    public Specification<Diary> matches(String keyword) {
+        String against = toBooleanQuery(keyword);
+
+        // 연산자만 있는 검색어는 MATCH 에 넘길 단어가 없으므로 원래 문자열로 LIKE 검색
+        if (against.isEmpty()) {
+            return (root, query, builder) -> {
+                if (!Long.class.equals(query.getResultType())) {
+                    query.orderBy(builder.desc(root.get("createAt")));
+                }
+
+                return builder.like(root.get("content"), "%" + keyword + "%");
+            };
+        }
+
+        return (root, query, builder) -> {
+            Expression<Double> score = builder.function(MATCH_AGAINST, Double.class,
+                    root.get("content"), builder.literal(against));
+
+            // count 쿼리에는 정렬을 붙이지 않는다
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(builder.desc(score), builder.desc(root.get("createAt")));
+            }
+
+            return builder.greaterThan(score, 0.0);
+        };
+    }
+
+    @Override
+    public Sort sort(Sort defaultSort) {
+        // 관련도 순 정렬은 matches 에서 지정
+        return Sort.unsorted();
+    }
+
+    // 공백으로 나눈 단어를 모두 포함하는 구문 검색으로 변환 ("+\"단어1\" +\"단어2\"")
+    static String toBooleanQuery(String keyword) {
+        return Arrays.stream(keyword.replaceAll(OPERATOR_CHARACTERS, " ").trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.potatocake.everymoment.service;
+
+import com.potatocake.everymoment.entity.File;
+import com.potatocake.everymoment.repository.FileRepository;
+import com.potatocake.everymoment.util.ImageResizer;
+import com.potatocake.everymoment.util.S3FileUploader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 업로드된 원본을 내려받아 축소본을 만들고 원본 옆에 저장한다.
+ * <p>
+ * 가장 작은 축소본의 URL 을 File 에 기록하며, 실패하면 썸네일은 계속 원본을 가리킨다.
+ */
+@Slf4j
+@Service
+public class ImageRenditionService {
+
+    private final FileRepository fileRepository;
+    private final S3FileUploader uploader;
+    private final ImageResizer imageResizer;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter generatedCounter;
+    private final Counter failedCounter;
+
+    public ImageRenditionService(FileRepository fileRepository, S3FileUploader uploader, ImageResizer imageResizer,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.uploader = uploader;
+        this.imageResizer = imageResizer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.generatedCounter = meterRegistry.counter("file.rendition.generated");
+        this.failedCounter = meterRegistry.counter("file.rendition.failed");
+    }
+
+    public void generate(Long fileId) {
+        File file = fileRepository.findById(fileId).orElse(null);
+        if (file == null) {
+            return;
+        }
+
+        // 같은 내용의 이미지는 축소본도 같으므로 이미 만든 것을 재사용
+        String existingThumbnailUrl = findExistingThumbnailUrl(file);
+        if (existingThumbnailUrl != null) {
+            updateThumbnailUrl(fileId, existingThumbnailUrl);
+            return;
+        }
+
+        try (InputStream original = uploader.download(file.getImageUrl())) {
+            Map<Integer, byte[]> renditions = imageResizer.resize(original);
+
+            // 원본이 가장 작은 너비보다 작으면 원본을 그대로 사용
+            if (renditions.isEmpty()) {
+                return;
+            }
+
+            String thumbnailUrl = null;
+            for (Map.Entry<Integer, byte[]> rendition : renditions.entrySet()) {
+                String url = uploader.uploadRendition(file.getImageUrl(), rendition.getKey(), rendition.getValue());
+                if (thumbnailUrl == null) {
+                    thumbnailUrl = url;
+                }
+            }
+
+            updateThumbnailUrl(fileId, thumbnailUrl);
+            generatedCounter.increment(renditions.size());
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("축소본 생성 실패. fileId: {}", fileId, e);
+        }
+    }
+
+    private String findExistingThumbnailUrl(File file) {
+        if (file.getContentHash() == null) {
+            return null;
+        }
+
+        return fileRepository.findFirstByContentHashAndThumbnailUrlIsNotNull(file.getContentHash())
+                .map(File::getThumbnailUrl)
+                .orElse(null);
+    }
+
+    private void updateThumbnailUrl(Long fileId, String thumbnailUrl) {
+        transactionTemplate.executeWithoutResult(status -> fileRepository.updateThumbnailUrl(fileId, thumbnailUrl));
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.potatocake.everymoment.service;
+
+import com.potatocake.everymoment.entity.Diary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+// 인덱스 없이 LIKE '%keyword%' 로 검색 (H2, 전문 인덱스가 없는 환경의 기본값)
+@ConditionalOnProperty(prefix = "diary.search", name = "engine", havingValue = "like", matchIfMissing = true)
+@Component
+public class LikeDiarySearchEngine implements DiarySearchEngine {
+
+    @Override
+    public Specification<Diary> matches(String keyword) {
+        return (root, query, builder) -> builder.like(root.get("content"), "%" + keyword + "%");
+    }
+
+    @Override
+    public Sort sort(Sort defaultSort) {
+        return defaultSort;
+    }
+
+}
@@ -3,14 +3,13 @@ package com.potatocake.everymoment.service;
 import com.potatocake.everymoment.constant.NotificationType;
 import com.potatocake.everymoment.dto.response.LikeCountResponse;
 import com.potatocake.everymoment.entity.Diary;
-import com.potatocake.everymoment.entity.Like;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.LikeRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
-import java.util.Optional;
+import com.potatocake.everymoment.util.LikeCountBuffer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,13 +23,14 @@ public class LikeService {
     private final DiaryRepository diaryRepository;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final LikeCountBuffer likeCountBuffer;
 
     @Transactional(readOnly = true)
     public LikeCountResponse getLikeCount(Long diaryId) {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.DIARY_NOT_FOUND));
 
-        Long likeCount = likeRepository.countByDiary(diary);
+        Long likeCount = likeCountBuffer.countOf(diary);
 
         return LikeCountResponse.builder()
                 .likeCount(likeCount)
@@ -38,6 +38,29 @@ public class LikeService {
     }
 
     public void toggleLike(Long memberId, Long diaryId) {
+        Diary diary = getLikeableDiary(memberId, diaryId);
+
+        // 잠금 없이 삭제를 먼저 시도하고, 지운 행이 없으면 추가
+        if (!removeLike(memberId, diaryId)) {
+            addLike(memberId, diary);
+        }
+    }
+
+    // 이미 좋아요한 상태여도 성공 (멱등)
+    public void like(Long memberId, Long diaryId) {
+        addLike(memberId, getLikeableDiary(memberId, diaryId));
+    }
+
+    // 좋아요하지 않은 상태여도 성공 (멱등)
+    public void unlike(Long memberId, Long diaryId) {
+        if (!diaryRepository.existsById(diaryId)) {
+            throw new GlobalException(ErrorCode.DIARY_NOT_FOUND);
+        }
+
+        removeLike(memberId, diaryId);
+    }
+
+    private Diary getLikeableDiary(Long memberId, Long diaryId) {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.DIARY_NOT_FOUND));
 
@@ -45,32 +68,37 @@ public class LikeService {
             throw new GlobalException(ErrorCode.DIARY_NOT_PUBLIC);
         }
 
+        return diary;
+    }
+
+    private void addLike(Long memberId, Diary diary) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND));
 
-        Optional<Like> existingLike = likeRepository.findByMemberIdAndDiaryIdWithLock(memberId, diaryId);
-
-        if (existingLike.isPresent()) {
-            // 이미 좋아요가 존재하면 삭제 (좋아요 취소)
-            likeRepository.delete(existingLike.get());
-        } else {
-            // 좋아요가 없으면 새로 생성 (좋아요 추가)
-            Like likeEntity = Like.builder()
-                    .diary(diary)
-                    .member(member)
-                    .build();
-
-            likeRepository.save(likeEntity);
-
-            if (!diary.getMember().getId().equals(memberId)) {
-                notificationService.createAndSendNotification(
-                        diary.getMember().getId(),
-                        NotificationType.LIKE,
-                        diaryId,
-                        member.getNickname()
-                );
-            }
+        // 동시에 들어온 같은 요청은 유니크 제약으로 한 번만 반영됨
+        if (likeRepository.insertIgnore(memberId, diary.getId()) == 0) {
+            return;
+        }
+
+        likeCountBuffer.add(diary.getId(), 1);
+
+        if (!diary.getMember().getId().equals(memberId)) {
+            notificationService.createAndSendNotification(
+                    diary.getMember().getId(),
+                    NotificationType.LIKE,
+                    diary.getId(),
+                    member.getNickname()
+            );
         }
     }
 
+    private boolean removeLike(Long memberId, Long diaryId) {
+        if (likeRepository.deleteByMemberIdAndDiaryId(memberId, diaryId) == 0) {
+            return false;
+        }
+
+        likeCountBuffer.add(diaryId, -1);
+        return true;
+    }
+
 }
@@ -1,23 +1,32 @@
 package com.potatocake.everymoment.service;
 
+import static java.util.function.Function.identity;
 import static org.springframework.data.domain.Sort.Direction.ASC;
 
+import com.potatocake.everymoment.dto.request.PresignedUploadRequest;
 import com.potatocake.everymoment.dto.response.AnonymousLoginResponse;
 import com.potatocake.everymoment.dto.response.FriendRequestStatus;
 import com.potatocake.everymoment.dto.response.MemberDetailResponse;
 import com.potatocake.everymoment.dto.response.MemberMyResponse;
 import com.potatocake.everymoment.dto.response.MemberSearchResponse;
 import com.potatocake.everymoment.dto.response.MemberSearchResultResponse;
+import com.potatocake.everymoment.dto.response.PresignedUploadResponse;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
-import com.potatocake.everymoment.repository.FriendRepository;
 import com.potatocake.everymoment.repository.FriendRequestRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
+import com.potatocake.everymoment.util.FriendIdSet;
 import com.potatocake.everymoment.util.JwtUtil;
 import com.potatocake.everymoment.util.PagingUtil;
 import com.potatocake.everymoment.util.S3FileUploader;
+import com.potatocake.everymoment.util.S3ObjectReclaimer;
+import com.potatocake.everymoment.util.S3PresignedUploader;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -34,9 +43,11 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final FriendRequestRepository friendRequestRepository;
-    private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
     private final PagingUtil pagingUtil;
     private final S3FileUploader s3FileUploader;
+    private final S3PresignedUploader s3PresignedUploader;
+    private final S3ObjectReclaimer objectReclaimer;
     private final JwtUtil jwtUtil;
 
     @Transactional(readOnly = true)
@@ -117,7 +128,22 @@ public class MemberService {
             profileImageUrl = s3FileUploader.uploadFile(profileImage);
         }
 
-        member.update(nickname, profileImageUrl);
+        updateMember(member, nickname, profileImageUrl);
+    }
+
+    @Transactional(readOnly = true)
+    public PresignedUploadResponse issueProfileImageUploadUrl(Long memberId, PresignedUploadRequest request) {
+        return s3PresignedUploader.issue(profileImageDirectory(memberId), request.getFilename(),
+                request.getContentType(), request.getContentLength());
+    }
+
+    public void completeProfileImageUpload(Long memberId, String key) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND));
+
+        String profileImageUrl = s3PresignedUploader.confirm(profileImageDirectory(memberId), key);
+
+        updateMember(member, null, profileImageUrl);
     }
 
     public void deleteMember(Long memberId) {
@@ -127,6 +153,21 @@ public class MemberService {
         memberRepository.delete(member);
     }
 
+    // 바뀐 이전 프로필 이미지는 S3ObjectReclaimer 가 커밋 이후 정리
+    private void updateMember(Member member, String nickname, String profileImageUrl) {
+        String previousProfileImageUrl = member.getProfileImageUrl();
+
+        member.update(nickname, profileImageUrl);
+
+        if (previousProfileImageUrl != null && !previousProfileImageUrl.equals(member.getProfileImageUrl())) {
+            objectReclaimer.record(List.of(previousProfileImageUrl));
+        }
+    }
+
+    private String profileImageDirectory(Long memberId) {
+        return "members/" + memberId;
+    }
+
     private Window<Member> fetchMemberWindow(String nickname, Long key, int size) {
         ScrollPosition scrollPosition = pagingUtil.createScrollPosition(key);
         Pageable pageable = pagingUtil.createPageable(size, ASC);
@@ -137,32 +178,60 @@ public class MemberService {
     }
 
     private List<MemberSearchResultResponse> convertToMemberResponses(List<Member> members, Long currentMemberId) {
+        List<Long> memberIds = members.stream()
+                .map(Member::getId)
+                .toList();
+
+        Map<Long, FriendRequestStatus> statuses = resolveFriendRequestStatuses(currentMemberId, memberIds);
+
         return members.stream()
                 .map(member -> MemberSearchResultResponse.builder()
                         .id(member.getId())
                         .profileImageUrl(member.getProfileImageUrl())
                         .nickname(member.getNickname())
-                        .friendRequestStatus(getFriendRequestStatus(currentMemberId, member.getId()))
+                        .friendRequestStatus(statuses.get(member.getId()))
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private FriendRequestStatus getFriendRequestStatus(Long currentMemberId, Long targetMemberId) {
+    // 친구 관계, 보낸 요청, 받은 요청을 한 번씩만 조회한 뒤 메모리에서 상태를 결정
+    private Map<Long, FriendRequestStatus> resolveFriendRequestStatuses(Long currentMemberId, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        FriendIdSet friendIds = friendGraphCache.getFriendIds(currentMemberId);
+        Set<Long> sentIds = new HashSet<>(
+                friendRequestRepository.findReceiverIdsBySenderIdAndReceiverIdIn(currentMemberId, memberIds));
+        Set<Long> receivedIds = new HashSet<>(
+                friendRequestRepository.findSenderIdsByReceiverIdAndSenderIdIn(currentMemberId, memberIds));
+
+        return memberIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(identity(), targetMemberId ->
+                        getFriendRequestStatus(currentMemberId, targetMemberId, friendIds, sentIds, receivedIds)));
+    }
+
+    private FriendRequestStatus getFriendRequestStatus(Long currentMemberId, Long targetMemberId,
+                                                       FriendIdSet friendIds, Set<Long> sentIds,
+                                                       Set<Long> receivedIds) {
         if (currentMemberId.equals(targetMemberId)) {
             return FriendRequestStatus.SELF;
         }
 
-        if (friendRepository.existsByMemberIdAndFriendId(currentMemberId, targetMemberId)) {
+        if (friendIds.contains(targetMemberId)) {
             return FriendRequestStatus.FRIEND;
         }
 
-        return friendRequestRepository.findBySenderIdAndReceiverId(currentMemberId, targetMemberId)
-                .map(request -> FriendRequestStatus.SENT)
-                .orElseGet(() ->
-                        friendRequestRepository.findBySenderIdAndReceiverId(targetMemberId, currentMemberId)
-                                .map(request -> FriendRequestStatus.RECEIVED)
-                                .orElse(FriendRequestStatus.NONE)
-                );
+        if (sentIds.contains(targetMemberId)) {
+            return FriendRequestStatus.SENT;
+        }
+
+        if (receivedIds.contains(targetMemberId)) {
+            return FriendRequestStatus.RECEIVED;
+        }
+
+        return FriendRequestStatus.NONE;
     }
 
 }
@@ -0,0 +1,194 @@
+package com.potatocake.everymoment.service;
+
+import com.potatocake.everymoment.config.NotificationOutboxProperties;
+import com.potatocake.everymoment.constant.OutboxStatus;
+import com.potatocake.everymoment.entity.NotificationOutbox;
+import com.potatocake.everymoment.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * notification_outbox 에 쌓인 푸시를 FCM 으로 전달하는 relay
+ * <p>
+ * 대상 행은 SKIP LOCKED 로 가져와 lease 를 걸어두고, 트랜잭션 밖에서 발송한 뒤 결과를 반영한다. 실패한 행은 지수 백오프로 재시도하고 최대 시도
+ * 횟수를 넘기면 DEAD 로 남긴다. 시도 횟수는 lease 할 때 세므로 발송 도중 멈춘 행도 결국 DEAD 가 된다.
+ */
+@Slf4j
+@EnableConfigurationProperties(NotificationOutboxProperties.class)
+@Service
+public class NotificationOutboxRelay {
+
+    // lease 가 끝난 SENDING 행은 발송 도중 멈춘 relay 가 남긴 것이므로 다시 가져감
+    private static final List<OutboxStatus> CLAIMABLE_STATUSES = List.of(OutboxStatus.PENDING, OutboxStatus.SENDING);
+    private static final String STALLED_ERROR = "lease expired without a result";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final FcmService fcmService;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationOutboxProperties properties;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean();
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository, FcmService fcmService,
+                                   PlatformTransactionManager transactionManager,
+                                   NotificationOutboxProperties properties, MeterRegistry meterRegistry) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.fcmService = fcmService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.sentCounter = meterRegistry.counter("notification.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("notification.outbox.retried");
+        this.deadCounter = meterRegistry.counter("notification.outbox.dead");
+    }
+
+    // 커밋 직후 깨우기가 누락되거나 재시도 시각이 된 행을 주기적으로 처리
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:PT10S}")
+    public void poll() {
+        drain();
+    }
+
+    // 대기 중인 행이 없을 때까지 배치 단위로 처리 (동시에 호출되면 실행 중인 쪽이 한 번 더 돈다)
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            rerun.set(true);
+            return;
+        }
+
+        try {
+            do {
+                rerun.set(false);
+
+                // 가득 찬 배치였다면 남은 행이 더 있을 수 있음
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (relayed >= properties.batchSize());
+            } while (rerun.get());
+        } catch (Exception e) {
+            log.error("알림 outbox 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    public int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NotificationOutbox> claimed = transactionTemplate.execute(status -> {
+            List<NotificationOutbox> outboxes = notificationOutboxRepository.findClaimable(CLAIMABLE_STATUSES, now,
+                    PageRequest.of(0, properties.batchSize()));
+            outboxes.forEach(outbox -> claim(outbox, now));
+            return outboxes;
+        });
+
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<NotificationOutbox> leased = claimed.stream()
+                .filter(outbox -> outbox.getStatus() == OutboxStatus.SENDING)
+                .toList();
+
+        if (!leased.isEmpty()) {
+            Map<Long, String> failures = send(leased);
+
+            transactionTemplate.executeWithoutResult(status -> complete(leased, failures, now));
+        }
+
+        return claimed.size();
+    }
+
+    // 발송 도중 멈춘 relay 가 시도 횟수를 다 쓰고 남긴 행은 다시 보내지 않고 DEAD 로 남김
+    private void claim(NotificationOutbox outbox, LocalDateTime now) {
+        if (outbox.getAttempts() >= properties.maxAttempts()) {
+            outbox.dead(STALLED_ERROR);
+            deadCounter.increment();
+            log.warn("발송 결과 없이 시도 횟수를 다 쓴 알림을 포기합니다. outboxId: {}, receiverId: {}",
+                    outbox.getId(), outbox.getReceiverId());
+            return;
+        }
+
+        outbox.lease(now.plus(properties.leaseTimeout()));
+    }
+
+    // 예상하지 못한 예외로 배치 전체가 실패하면, 문제 있는 행만 실패로 남도록 한 건씩 다시 보냄
+    // (예외 전에 이미 전달된 행은 한 번 더 갈 수 있음)
+    private Map<Long, String> send(List<NotificationOutbox> outboxes) {
+        try {
+            return fcmService.sendAll(outboxes);
+        } catch (RuntimeException e) {
+            if (outboxes.size() == 1) {
+                log.warn("알림 발송 중 오류가 발생했습니다. outboxId: {}", outboxes.get(0).getId(), e);
+                return Map.of(outboxes.get(0).getId(), e.toString());
+            }
+
+            log.warn("알림 일괄 발송 중 오류가 발생해 한 건씩 다시 보냅니다. 건수: {}", outboxes.size(), e);
+
+            Map<Long, String> failures = new HashMap<>();
+            outboxes.forEach(outbox -> failures.putAll(send(List.of(outbox))));
+            return failures;
+        }
+    }
+
+    private void complete(List<NotificationOutbox> leased, Map<Long, String> failures, LocalDateTime now) {
+        List<Long> sentIds = leased.stream()
+                .map(NotificationOutbox::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+
+        if (!sentIds.isEmpty()) {
+            notificationOutboxRepository.updateStatus(sentIds, OutboxStatus.SENT);
+            sentCounter.increment(sentIds.size());
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        // 시도 횟수는 lease 할 때 이미 셌음
+        for (NotificationOutbox outbox : notificationOutboxRepository.findAllById(failures.keySet())) {
+            String error = failures.get(outbox.getId());
+
+            if (outbox.getAttempts() >= properties.maxAttempts()) {
+                outbox.dead(error);
+                deadCounter.increment();
+                log.warn("알림 발송을 포기합니다. outboxId: {}, receiverId: {}, error: {}",
+                        outbox.getId(), outbox.getReceiverId(), error);
+            } else {
+                outbox.retry(error, now.plus(backoff(outbox.getAttempts() - 1)));
+                retriedCounter.increment();
+            }
+        }
+    }
+
+    // initialBackoff * 2^attempts (maxBackoff 이하)
+    Duration backoff(int attempts) {
+        Duration maxBackoff = properties.maxBackoff();
+        Duration backoff = properties.initialBackoff();
+
+        for (int i = 0; i < attempts && backoff.compareTo(maxBackoff) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+}
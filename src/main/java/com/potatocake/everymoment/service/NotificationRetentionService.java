@@ -0,0 +1,119 @@
+package com.potatocake.everymoment.service;
+
+import com.potatocake.everymoment.config.NotificationRetentionProperties;
+import com.potatocake.everymoment.constant.NotificationType;
+import com.potatocake.everymoment.constant.OutboxStatus;
+import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.repository.NotificationOutboxRepository;
+import com.potatocake.everymoment.repository.NotificationRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간이 지난 알림과 처리가 끝난 outbox 를 정리
+ * <p>
+ * 한 번에 chunkSize 개씩 id 순으로 잘라 각각 짧은 트랜잭션으로 지운다. 지워지는 안 읽은 알림만큼 회원의 안 읽은 알림 수도 함께 줄인다.
+ */
+@Slf4j
+@EnableConfigurationProperties(NotificationRetentionProperties.class)
+@Service
+public class NotificationRetentionService {
+
+    private static final List<OutboxStatus> FINISHED_STATUSES = List.of(OutboxStatus.SENT, OutboxStatus.DEAD);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationRetentionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer purgeTimer;
+    private final DistributionSummary purgedPerRun;
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        NotificationOutboxRepository notificationOutboxRepository,
+                                        MemberRepository memberRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        NotificationRetentionProperties properties, MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.purgeTimer = meterRegistry.timer("notification.retention.duration");
+        this.purgedPerRun = meterRegistry.summary("notification.retention.purged.run");
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public void purge() {
+        purgeTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            long total = 0;
+
+            for (NotificationType type : NotificationType.values()) {
+                long purged = purgeNotifications(type, now.minus(properties.periodOf(type)));
+                meterRegistry.counter("notification.retention.purged", "type", type.name()).increment(purged);
+                total += purged;
+            }
+
+            long purgedOutbox = purgeOutbox(now.minus(properties.outboxPeriod()));
+            meterRegistry.counter("notification.retention.purged", "type", "OUTBOX").increment(purgedOutbox);
+
+            purgedPerRun.record(total + purgedOutbox);
+            log.info("알림 보관 기간 정리 완료. 알림: {}, outbox: {}", total, purgedOutbox);
+        });
+    }
+
+    long purgeNotifications(NotificationType type, LocalDateTime before) {
+        return purgeInChunks(() -> {
+            List<Long> ids = notificationRepository.findExpiredIds(type.name(), before,
+                    PageRequest.of(0, properties.chunkSize()));
+
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            notificationRepository.countUnreadByMember(ids).forEach(unread ->
+                    memberRepository.decrementUnreadNotificationCount(unread.getMemberId(),
+                            (int) unread.getCount()));
+
+            return notificationRepository.deleteAllByIdIn(ids);
+        });
+    }
+
+    long purgeOutbox(LocalDateTime before) {
+        return purgeInChunks(() -> {
+            List<Long> ids = notificationOutboxRepository.findFinishedIds(FINISHED_STATUSES, before,
+                    PageRequest.of(0, properties.chunkSize()));
+
+            return ids.isEmpty() ? 0 : notificationOutboxRepository.deleteAllByIdIn(ids);
+        });
+    }
+
+    // chunk 하나씩 별도 트랜잭션으로 지우고, 덜 찬 chunk 가 나오면 종료
+    private long purgeInChunks(IntSupplier chunk) {
+        long total = 0;
+        int deleted;
+
+        do {
+            deleted = transactionTemplate.execute(status -> chunk.getAsInt());
+            total += deleted;
+        } while (deleted >= properties.chunkSize());
+
+        return total;
+    }
+
+}
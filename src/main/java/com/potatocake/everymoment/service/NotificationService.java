@@ -1,38 +1,68 @@
 package com.potatocake.everymoment.service;
 
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+import com.potatocake.everymoment.config.NotificationAggregationProperties;
 import com.potatocake.everymoment.constant.NotificationType;
-import com.potatocake.everymoment.dto.request.FcmNotificationRequest;
+import com.potatocake.everymoment.constant.OutboxStatus;
+import com.potatocake.everymoment.dto.request.NotificationReadRequest;
+import com.potatocake.everymoment.dto.response.NotificationInboxResponse;
 import com.potatocake.everymoment.dto.response.NotificationListResponse;
+import com.potatocake.everymoment.dto.response.NotificationReadResponse;
+import com.potatocake.everymoment.dto.response.UnreadNotificationCountResponse;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.entity.Notification;
+import com.potatocake.everymoment.entity.NotificationOutbox;
+import com.potatocake.everymoment.event.NotificationCreatedEvent;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.repository.NotificationOutboxRepository;
 import com.potatocake.everymoment.repository.NotificationRepository;
+import com.potatocake.everymoment.util.PagingUtil;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
+@EnableConfigurationProperties(NotificationAggregationProperties.class)
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class NotificationService {
 
+    // 알림함 한 페이지의 최대 크기
+    public static final int MAX_INBOX_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
     private final MemberRepository memberRepository;
-    private final FcmService fcmService;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationAggregationProperties aggregationProperties;
+    private final PagingUtil pagingUtil;
 
     public void createAndSendNotification(Long receiverId, NotificationType type, Long targetId,
                                           String... messageArgs) {
         Member receiver = memberRepository.findById(receiverId)
                 .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND));
 
+        LocalDateTime now = LocalDateTime.now();
+
+        // 좋아요, 댓글은 같은 일기에 대한 안 읽은 알림이 있으면 새로 만들지 않고 합침
+        if (type.isAggregatable() && aggregate(receiverId, type, targetId, now, messageArgs)) {
+            return;
+        }
+
         // DB에 알림 저장
         Notification notification = Notification.builder()
                 .member(receiver)
@@ -43,18 +73,55 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        memberRepository.incrementUnreadNotificationCount(receiverId);
+
+        enqueuePush(notification, notification.getContent(), type, now);
+    }
+
+    // 받는 회원 전체를 잠그지 않고 합칠 알림 행만 조건부 UPDATE 로 갱신 (그 사이 읽혔으면 새 알림을 만듦)
+    private boolean aggregate(Long receiverId, NotificationType type, Long targetId, LocalDateTime now,
+                              String... messageArgs) {
+        Optional<Notification> aggregatable = notificationRepository
+                .findFirstByMemberIdAndTypeAndTargetIdAndIsReadFalseAndCreateAtGreaterThanEqualOrderByIdDesc(
+                        receiverId, type.name(), targetId, now.minus(aggregationProperties.window()));
+
+        if (aggregatable.isEmpty() || notificationRepository.incrementAggregateCount(aggregatable.get().getId()) == 0) {
+            return false;
+        }
 
-        // FCM 알림 발송
-        try {
-            fcmService.sendNotification(receiverId, FcmNotificationRequest.builder()
-                    .title(type.getTitle())
-                    .body(type.formatMessage(messageArgs))
-                    .type(type.name())
-                    .targetId(targetId)
-                    .build());
-        } catch (Exception e) {
-            log.error("FCM 알림 발송 실패. receiverId: {}, type: {}", receiverId, type, e);
+        Notification notification = aggregatable.get();
+
+        // UPDATE 로 잡은 행 잠금 안에서 다시 읽으므로 동시에 들어온 이벤트와 수가 겹치지 않음
+        int aggregateCount = notificationRepository.findAggregateCountById(notification.getId());
+        String content = type.formatAggregatedMessage(messageArgs[0], aggregateCount - 1);
+        notificationRepository.updateContent(notification.getId(), content);
+
+        // 아직 발송 전이면 대기 중인 푸시 내용만 바꾸고, 이미 나갔거나 발송 중이면 같은 collapse key 로 한 번 더 보냄
+        int updated = notificationOutboxRepository.updateBodyByNotificationIdAndStatus(
+                notification.getId(), OutboxStatus.PENDING, content);
+        if (updated == 0) {
+            enqueuePush(notification, content, type, now);
         }
+
+        return true;
+    }
+
+    // 푸시는 같은 트랜잭션의 outbox 에 남기고, 커밋 이후 relay 가 발송
+    private void enqueuePush(Notification notification, String content, NotificationType type, LocalDateTime now) {
+        Long receiverId = notification.getMember().getId();
+
+        NotificationOutbox outbox = notificationOutboxRepository.save(NotificationOutbox.builder()
+                .notificationId(notification.getId())
+                .receiverId(receiverId)
+                .title(type.getTitle())
+                .body(content)
+                .type(type.name())
+                .targetId(notification.getTargetId())
+                .collapseKey(type.isAggregatable() ? type.collapseKey(notification.getTargetId()) : null)
+                .nextAttemptAt(now)
+                .build());
+
+        eventPublisher.publishEvent(new NotificationCreatedEvent(receiverId, outbox.getId()));
     }
 
     public List<NotificationListResponse> getNotifications(Long memberId) {
@@ -80,7 +147,61 @@ public class NotificationService {
             throw new GlobalException(ErrorCode.NOTIFICATION_NOT_FOUND);
         }
 
-        notification.updateIsRead();
+        if (!notification.isRead()) {
+            notification.updateIsRead();
+            memberRepository.decrementUnreadNotificationCount(currentMember.getId(), 1);
+        }
+    }
+
+    // 여러 알림을 한 번의 UPDATE 로 읽음 처리하고, 실제로 바뀐 수만큼 안 읽은 알림 수를 줄임
+    public NotificationReadResponse updateNotifications(Long memberId, NotificationReadRequest request) {
+        int updatedCount;
+
+        // 빈 요청이 모든 알림을 읽음 처리하지 않도록 범위를 반드시 받음
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            updatedCount = notificationRepository.markAsReadByIds(memberId, request.getIds());
+        } else if (request.getUpToId() != null) {
+            updatedCount = notificationRepository.markAsReadUpTo(memberId, request.getUpToId());
+        } else {
+            throw new GlobalException(ErrorCode.INVALID_NOTIFICATION_READ_RANGE);
+        }
+
+        if (updatedCount > 0) {
+            memberRepository.decrementUnreadNotificationCount(memberId, updatedCount);
+        }
+
+        return NotificationReadResponse.builder()
+                .updatedCount(updatedCount)
+                .build();
+    }
+
+    // 알림함 조회 (id 기준 커서, 최신순)
+    @Transactional(readOnly = true)
+    public NotificationInboxResponse getNotificationInbox(Long memberId, Long key, int size) {
+        ScrollPosition scrollPosition = pagingUtil.createScrollPosition(key);
+        // 클라이언트가 보낸 size 를 1 ~ MAX_INBOX_SIZE 로 제한
+        Pageable pageable = pagingUtil.createPageable(Math.max(1, Math.min(size, MAX_INBOX_SIZE)), DESC);
+
+        Window<Notification> window = notificationRepository.findByMemberId(memberId, scrollPosition, pageable);
+
+        List<NotificationListResponse> notifications = window.getContent().stream()
+                .map(this::convertToNotificationResponseDTO)
+                .collect(Collectors.toList());
+
+        return NotificationInboxResponse.builder()
+                .notifications(notifications)
+                .next(pagingUtil.getNextKey(window, Notification::getId))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public UnreadNotificationCountResponse getUnreadNotificationCount(Long memberId) {
+        int unreadCount = memberRepository.findUnreadNotificationCountById(memberId)
+                .orElseThrow(() -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND));
+
+        return UnreadNotificationCountResponse.builder()
+                .unreadCount(unreadCount)
+                .build();
     }
 
     // 알림 DTO 변환
@@ -0,0 +1,37 @@
+package com.potatocake.everymoment.util;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.CdnProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 이 버킷의 객체 URL 을 CDN 주소로 바꾼다.
+ * <p>
+ * DB 에는 S3 URL 을 그대로 두고 응답으로 내보낼 때만 바꾸므로, CDN 주소를 바꾸거나 끄더라도 저장된 데이터는 손대지 않는다.
+ */
+@EnableConfigurationProperties({AwsS3Properties.class, CdnProperties.class})
+@Component
+public class CdnUrlRewriter {
+
+    private final String originPrefix;
+    private final String cdnPrefix;
+
+    public CdnUrlRewriter(AmazonS3 amazonS3, AwsS3Properties properties, CdnProperties cdnProperties) {
+        this.originPrefix = amazonS3.getUrl(properties.bucket(), "").toString();
+        this.cdnPrefix = StringUtils.hasText(cdnProperties.baseUrl())
+                ? StringUtils.trimTrailingCharacter(cdnProperties.baseUrl(), '/') + "/" : null;
+    }
+
+    // 카카오 프로필 같은 외부 URL 은 그대로 반환
+    public String rewrite(String url) {
+        if (cdnPrefix == null || url == null || !url.startsWith(originPrefix)) {
+            return url;
+        }
+
+        return cdnPrefix + url.substring(originPrefix.length());
+    }
+
+}
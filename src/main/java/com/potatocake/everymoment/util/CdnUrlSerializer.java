@@ -0,0 +1,33 @@
+package com.potatocake.everymoment.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 응답의 이미지 URL 필드를 {@link CdnUrlRewriter} 로 바꿔 내보낸다.
+ * <p>
+ * Spring 이 관리하는 ObjectMapper 에서는 rewriter 를 주입받고, 그 밖의 ObjectMapper 에서는 URL 을 그대로 쓴다.
+ */
+public class CdnUrlSerializer extends JsonSerializer<String> {
+
+    private final CdnUrlRewriter rewriter;
+
+    public CdnUrlSerializer() {
+        this.rewriter = null;
+    }
+
+    @Autowired
+    public CdnUrlSerializer(ObjectProvider<CdnUrlRewriter> rewriter) {
+        this.rewriter = rewriter.getIfAvailable();
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeString(rewriter != null ? rewriter.rewrite(value) : value);
+    }
+
+}
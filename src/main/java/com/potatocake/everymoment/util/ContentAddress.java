@@ -0,0 +1,82 @@
+package com.potatocake.everymoment.util;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.http.MediaType;
+
+/**
+ * 내용의 SHA-256 으로 S3 키를 정하는 규칙 (images/{hash}.{ext})
+ * <p>
+ * 같은 이미지는 항상 같은 키가 되므로 이미 있는 객체는 다시 올리지 않는다. 어떤 File 도 참조하지 않는 객체는
+ * {@link S3ContentGarbageCollector} 가 정리한다.
+ */
+public final class ContentAddress {
+
+    public static final String PREFIX = "images/";
+    public static final String TEMP_PREFIX = "tmp/";
+
+    // 원본(images/{hash}.png)과 축소본(images/{hash}_w160.jpg) 모두에서 hash 를 찾음
+    private static final Pattern HASH_PATTERN = Pattern.compile("images/([0-9a-f]{64})(?:_w\\d+)?\\.[a-z]+$");
+
+    private ContentAddress() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String keyOf(MessageDigest digest, String contentType) {
+        String extension = MediaType.IMAGE_PNG_VALUE.equals(contentType) ? ".png" : ".jpg";
+
+        return PREFIX + HexFormat.of().formatHex(digest.digest()) + extension;
+    }
+
+    // 내용 주소 키(또는 그 URL)가 아니면 null
+    public static String hashOf(String keyOrUrl) {
+        if (keyOrUrl == null) {
+            return null;
+        }
+
+        Matcher matcher = HASH_PATTERN.matcher(keyOrUrl);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 이미 같은 내용의 객체가 있으면 제자리 복사로 수정 시각을 갱신하고 true 를 반환한다.
+     * 수정 시각을 갱신해 두어야 아직 커밋되지 않은 참조가 있는 객체를 GC 가 지우지 않는다.
+     */
+    public static boolean touchIfExists(AmazonS3 amazonS3, String bucket, String key, String contentType) {
+        if (!amazonS3.doesObjectExist(bucket, key)) {
+            return false;
+        }
+
+        // 메타데이터를 통째로 바꾸는 복사이므로 Cache-Control 도 다시 지정해야 함
+        amazonS3.copyObject(new CopyObjectRequest(bucket, key, bucket, key)
+                .withNewObjectMetadata(S3ObjectMetadata.of(contentType))
+                .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+        return true;
+    }
+
+    // 임시 키로 올린 객체를 내용 주소로 복사 (이미 같은 내용이 있으면 수정 시각만 갱신)
+    public static void copyIfAbsent(AmazonS3 amazonS3, String bucket, String sourceKey, String key,
+                                    String contentType) {
+        if (touchIfExists(amazonS3, bucket, key, contentType)) {
+            return;
+        }
+
+        amazonS3.copyObject(new CopyObjectRequest(bucket, sourceKey, bucket, key)
+                .withNewObjectMetadata(S3ObjectMetadata.of(contentType))
+                .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.potatocake.everymoment.util;
+
+import com.potatocake.everymoment.config.FriendCacheProperties;
+import com.potatocake.everymoment.repository.FriendRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 회원별 친구 id 목록을 담는 TTL + LRU 캐시
+@EnableConfigurationProperties(FriendCacheProperties.class)
+@Component
+public class FriendGraphCache {
+
+    private static final String CACHE_NAME = "friendGraph";
+
+    private final FriendRepository friendRepository;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    private final Map<Long, CacheEntry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public FriendGraphCache(FriendRepository friendRepository, FriendCacheProperties properties,
+                            MeterRegistry meterRegistry) {
+        this(friendRepository, properties, meterRegistry, System::nanoTime);
+    }
+
+    FriendGraphCache(FriendRepository friendRepository, FriendCacheProperties properties,
+                     MeterRegistry meterRegistry, LongSupplier ticker) {
+        this.friendRepository = friendRepository;
+        this.maximumSize = properties.maximumSize();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+                boolean evict = size() > maximumSize;
+                if (evict) {
+                    evictionCounter.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.hitCounter = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("cache.evictions")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, FriendGraphCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    public FriendIdSet getFriendIds(Long memberId) {
+        CacheEntry cached = getIfPresent(memberId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.friendIds();
+        }
+
+        missCounter.increment();
+
+        // 조회 중 무효화가 일어났다면 오래된 값을 캐시에 넣지 않음
+        long loadGeneration = generation.get();
+        FriendIdSet friendIds = FriendIdSet.of(friendRepository.findFriendIdsByMemberId(memberId));
+
+        synchronized (entries) {
+            if (loadGeneration == generation.get()) {
+                entries.put(memberId, new CacheEntry(friendIds, ticker.getAsLong() + ttlNanos));
+            }
+        }
+
+        return friendIds;
+    }
+
+    public boolean isFriend(Long memberId, Long friendId) {
+        return getFriendIds(memberId).contains(friendId);
+    }
+
+    // 친구 관계가 바뀐 회원들의 캐시를 즉시, 그리고 트랜잭션이 끝난 뒤 한 번 더 제거
+    // (롤백되어도 그 사이에 다른 요청이 채운 값이 남지 않도록 커밋, 롤백 모두에서 제거)
+    public void invalidate(Long... memberIds) {
+        evict(memberIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(memberIds);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CacheEntry getIfPresent(Long memberId) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(memberId);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiresAt() - ticker.getAsLong() <= 0) {
+                entries.remove(memberId);
+                evictionCounter.increment();
+                return null;
+            }
+
+            return entry;
+        }
+    }
+
+    private void evict(Long... memberIds) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Arrays.stream(memberIds).forEach(entries::remove);
+        }
+    }
+
+    private record CacheEntry(FriendIdSet friendIds, long expiresAt) {
+    }
+
+}
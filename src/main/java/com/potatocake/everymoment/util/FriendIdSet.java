@@ -0,0 +1,48 @@
+package com.potatocake.everymoment.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// 정렬된 long 배열로 친구 id 를 보관하는 불변 집합
+public final class FriendIdSet {
+
+    private static final FriendIdSet EMPTY = new FriendIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private FriendIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static FriendIdSet of(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new FriendIdSet(ids.stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray());
+    }
+
+    public boolean contains(Long id) {
+        return id != null && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public List<Long> toList() {
+        return Arrays.stream(ids)
+                .boxed()
+                .toList();
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.potatocake.everymoment.util;
+
+import com.potatocake.everymoment.config.ImageRenditionProperties;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 이미지를 설정된 너비들로 줄여 JPEG 로 인코딩한다. (ImageIO 만 사용)
+ * <p>
+ * 큰 원본은 디코딩할 때부터 subsampling 으로 읽어 메모리 사용을 줄이고, 원본보다 큰 너비는 만들지 않는다.
+ * 축소본에는 EXIF 가 없으므로 JPEG 의 EXIF Orientation 대로 픽셀을 돌린 뒤 줄인다.
+ */
+@EnableConfigurationProperties(ImageRenditionProperties.class)
+@Component
+public class ImageResizer {
+
+    private static final int NORMAL_ORIENTATION = 1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+
+    private final List<Integer> widths;
+    private final float quality;
+    private final long maxSourcePixels;
+
+    public ImageResizer(ImageRenditionProperties properties) {
+        this.widths = properties.widths().stream()
+                .sorted()
+                .toList();
+        this.quality = properties.quality();
+        this.maxSourcePixels = properties.maxSourcePixels();
+    }
+
+    // 너비 오름차순으로 정렬된 rendition 반환 (만들 수 있는 것이 없으면 빈 Map)
+    public Map<Integer, byte[]> resize(InputStream input) throws IOException {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            ImageReader reader = getReader(imageInput);
+            int orientation = readOrientation(imageInput);
+
+            try {
+                reader.setInput(imageInput, true, true);
+                return resize(reader, orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Map<Integer, byte[]> resize(ImageReader reader, int orientation) throws IOException {
+        int sourceWidth = reader.getWidth(0);
+        int sourceHeight = reader.getHeight(0);
+
+        if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+            throw new IOException("이미지가 너무 큽니다. " + sourceWidth + "x" + sourceHeight);
+        }
+
+        // 5~8 은 90도 돌아간 방향이라 보이는 너비가 원본의 높이
+        int displayWidth = orientation >= 5 ? sourceHeight : sourceWidth;
+
+        List<Integer> targetWidths = widths.stream()
+                .filter(width -> width < displayWidth)
+                .toList();
+        if (targetWidths.isEmpty()) {
+            return Map.of();
+        }
+
+        // 가장 큰 rendition 의 두 배 이상만 남기고 건너뛰며 읽음
+        int largestWidth = targetWidths.get(targetWidths.size() - 1);
+        int subsampling = Math.max(1, displayWidth / (largestWidth * 2));
+        ImageReadParam readParam = reader.getDefaultReadParam();
+        readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+        BufferedImage image = orient(toRgb(reader.read(0, readParam)), orientation);
+        Map<Integer, byte[]> renditions = new TreeMap<>();
+
+        // 큰 너비부터 만들어 다음 rendition 의 원본으로 재사용
+        for (int i = targetWidths.size() - 1; i >= 0; i--) {
+            int width = targetWidths.get(i);
+            image = scaleToWidth(image, width);
+            renditions.put(width, encodeJpeg(image));
+        }
+
+        return renditions;
+    }
+
+    private ImageReader getReader(ImageInputStream imageInput) throws IOException {
+        if (imageInput == null) {
+            throw new IOException("이미지를 읽을 수 없습니다.");
+        }
+
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+        if (!readers.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+        return readers.next();
+    }
+
+    // JPEG 의 APP1 세그먼트에서 EXIF Orientation 값을 읽음 (없거나 읽을 수 없으면 1)
+    private static int readOrientation(ImageInputStream imageInput) throws IOException {
+        imageInput.mark();
+
+        try {
+            if (imageInput.readUnsignedShort() != 0xFFD8) {
+                return NORMAL_ORIENTATION;
+            }
+
+            // 이미지 데이터(SOS)가 시작되기 전까지의 세그먼트만 살펴봄
+            while (true) {
+                int marker = imageInput.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) {
+                    return NORMAL_ORIENTATION;
+                }
+
+                int length = imageInput.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL_ORIENTATION;
+                }
+
+                if (marker == 0xFFE1) {
+                    byte[] segment = new byte[length];
+                    imageInput.readFully(segment);
+
+                    int orientation = exifOrientation(segment);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                } else {
+                    imageInput.skipBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return NORMAL_ORIENTATION;
+        } finally {
+            imageInput.reset();
+        }
+    }
+
+    // EXIF 헤더 뒤의 TIFF 구조에서 IFD0 의 Orientation 태그를 찾음 (없으면 0)
+    private static int exifOrientation(byte[] segment) {
+        if (segment.length < EXIF_HEADER.length + 8
+                || !Arrays.equals(segment, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+            return 0;
+        }
+
+        ByteBuffer tiff = ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length)
+                .slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+            return 0;
+        }
+
+        int entryCount = Short.toUnsignedInt(tiff.getShort(ifdOffset));
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return orientation >= 1 && orientation <= 8 ? orientation : 0;
+            }
+        }
+
+        return 0;
+    }
+
+    // EXIF Orientation 2~8 을 보이는 방향으로 뒤집거나 돌림
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean rotated = orientation >= 5;
+        BufferedImage target = new BufferedImage(rotated ? height : width, rotated ? width : height,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춤
+    private BufferedImage scaleToWidth(BufferedImage image, int targetWidth) {
+        BufferedImage current = image;
+
+        while (current.getWidth() / 2 >= targetWidth) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+
+        if (current.getWidth() == targetWidth) {
+            return current;
+        }
+
+        int targetHeight = Math.max(1, (int) Math.round((double) current.getHeight() * targetWidth
+                / current.getWidth()));
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
+    }
+
+    // JPEG 은 투명도를 지원하지 않으므로 흰 배경 위에 그림
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return rgb;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam writeParam = writer.getDefaultWriteParam();
+        writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        writeParam.setCompressionQuality(quality);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), writeParam);
+        } finally {
+            writer.dispose();
+        }
+
+        return output.toByteArray();
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.potatocake.everymoment.util;
+
+import com.potatocake.everymoment.config.LikeCountProperties;
+import com.potatocake.everymoment.entity.Diary;
+import com.potatocake.everymoment.repository.DiaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일기별 좋아요 수 증감을 메모리에 모았다가 주기적으로 diary.like_count 에 반영
+ * <p>
+ * 증감은 일기마다 LongAdder 에 누적되어 인기 일기에서도 행 잠금 경합이 없다. 조회는 저장된 값에 아직 반영되지 않은 증감을 더해 돌려준다.
+ * <p>
+ * 반영이 어긋나더라도 최근 증감이 있었던 일기는 조용해진 뒤 reconcile 이 likes 테이블 기준으로 다시 계산한다.
+ */
+@Slf4j
+@EnableConfigurationProperties(LikeCountProperties.class)
+@Component
+public class LikeCountBuffer {
+
+    private final DiaryRepository diaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LikeCountProperties properties;
+
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+    // 다시 계산할 일기와 마지막 증감 시각 (System.nanoTime)
+    private final Map<Long, Long> touched = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+    private final Counter flushFailureCounter;
+    private final Counter reconciledCounter;
+
+    public LikeCountBuffer(DiaryRepository diaryRepository, PlatformTransactionManager transactionManager,
+                           LikeCountProperties properties, MeterRegistry meterRegistry) {
+        this.diaryRepository = diaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        this.flushedCounter = meterRegistry.counter("diary.like_count.flushed");
+        this.flushFailureCounter = meterRegistry.counter("diary.like_count.flush.failures");
+        this.reconciledCounter = meterRegistry.counter("diary.like_count.reconciled");
+        Gauge.builder("diary.like_count.pending", deltas, Map::size)
+                .register(meterRegistry);
+    }
+
+    // 좋아요 추가/취소를 기록 (트랜잭션 안이면 커밋된 뒤에만 반영)
+    public void add(Long diaryId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(diaryId, delta);
+                }
+            });
+            return;
+        }
+
+        record(diaryId, delta);
+    }
+
+    public long pending(Long diaryId) {
+        LongAdder adder = deltas.get(diaryId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long countOf(Diary diary) {
+        return countOf(diary.getId(), diary.getLikeCount());
+    }
+
+    public long countOf(Long diaryId, long storedCount) {
+        return Math.max(0, storedCount + pending(diaryId));
+    }
+
+    @Scheduled(fixedDelayString = "${diary.like-count.flush-interval:PT1S}")
+    public synchronized int flush() {
+        Map<Long, Long> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> groupByDelta(drained).forEach((delta, ids) -> {
+                for (int from = 0; from < ids.size(); from += properties.flushBatchSize()) {
+                    diaryRepository.addLikeCount(ids.subList(from,
+                            Math.min(from + properties.flushBatchSize(), ids.size())), delta);
+                }
+            }));
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증감은 되돌려 두고 다음 flush 에서 다시 시도
+            drained.forEach(this::record);
+            flushFailureCounter.increment();
+            log.warn("좋아요 수 반영 실패. 일기 수: {}", drained.size(), e);
+            return 0;
+        }
+
+        flushedCounter.increment(drained.size());
+        return drained.size();
+    }
+
+    /**
+     * 마지막 증감 후 quiet period 가 지났고 아직 반영할 증감이 없는 일기의 좋아요 수를 likes 테이블 기준으로 다시 계산
+     * <p>
+     * 다른 인스턴스에 남아 있던 증감이 다시 계산한 값 위에 더해지더라도, 그 인스턴스도 같은 일기를 기록해 두었다가 조용해진 뒤 다시 계산하므로
+     * 결국 맞춰진다.
+     */
+    @Scheduled(fixedDelayString = "${diary.like-count.reconcile-interval:PT1M}")
+    public synchronized int reconcile() {
+        long now = System.nanoTime();
+        long quietNanos = properties.reconcileQuietPeriod().toNanos();
+
+        Map<Long, Long> quiet = new HashMap<>();
+        touched.forEach((diaryId, touchedAt) -> {
+            if (now - touchedAt >= quietNanos && pending(diaryId) == 0) {
+                quiet.put(diaryId, touchedAt);
+            }
+        });
+
+        List<Long> ids = new ArrayList<>(quiet.keySet());
+        int reconciled = 0;
+
+        for (int from = 0; from < ids.size(); from += properties.reconcileBatchSize()) {
+            List<Long> batch = ids.subList(from, Math.min(from + properties.reconcileBatchSize(), ids.size()));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> diaryRepository.recountLikeCount(batch));
+            } catch (RuntimeException e) {
+                // 남겨 두고 다음 reconcile 에서 다시 시도
+                log.warn("좋아요 수 재계산 실패. 일기 수: {}", batch.size(), e);
+                continue;
+            }
+
+            // 다시 계산하는 사이 새 증감이 들어온 일기는 남겨 둠
+            batch.forEach(diaryId -> touched.remove(diaryId, quiet.get(diaryId)));
+            reconciled += batch.size();
+        }
+
+        reconciledCounter.increment(reconciled);
+        return reconciled;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void record(Long diaryId, long delta) {
+        deltas.computeIfAbsent(diaryId, id -> new LongAdder()).add(delta);
+        touched.put(diaryId, System.nanoTime());
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+
+        deltas.forEach((diaryId, adder) -> {
+            long delta = adder.sum();
+
+            if (delta == 0) {
+                // 변화가 없는 카운터는 정리하고, 제거 직전에 들어온 증감은 새 카운터로 옮김
+                if (deltas.remove(diaryId, adder)) {
+                    long late = adder.sumThenReset();
+                    if (late != 0) {
+                        record(diaryId, late);
+                    }
+                }
+                return;
+            }
+
+            adder.add(-delta);
+            drained.put(diaryId, delta);
+        });
+
+        return drained;
+    }
+
+    private Map<Long, List<Long>> groupByDelta(Map<Long, Long> drained) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        drained.forEach((diaryId, delta) -> grouped.computeIfAbsent(delta, d -> new ArrayList<>()).add(diaryId));
+        return grouped;
+    }
+
+}
@@ -1,6 +1,14 @@
 package com.potatocake.everymoment.util;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.potatocake.everymoment.exception.ErrorCode;
+import com.potatocake.everymoment.exception.GlobalException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Map;
+import java.util.function.Function;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.ScrollPosition;
@@ -11,6 +19,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class PagingUtil {
 
+    private static final String CURSOR_DELIMITER = "|";
+
     public ScrollPosition createScrollPosition(Long key) {
         return key == null ? ScrollPosition.offset() : ScrollPosition.forward(Map.of("id", key));
     }
@@ -26,4 +36,43 @@ public class PagingUtil {
         return idExtractor.extractId(window.getContent().get(window.getContent().size() - 1));
     }
 
+    // (시간, id) 복합 키를 담은 불투명 커서를 스크롤 위치로 변환
+    public ScrollPosition createCursorPosition(String cursor, String timeProperty) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            int delimiterIndex = decoded.indexOf(CURSOR_DELIMITER);
+
+            if (delimiterIndex < 0) {
+                throw new GlobalException(ErrorCode.INVALID_CURSOR);
+            }
+
+            LocalDateTime time = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            Long id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+
+            return ScrollPosition.forward(Map.of(timeProperty, time, "id", id));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GlobalException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public Sort createCursorSort(String timeProperty) {
+        return Sort.by(Sort.Direction.DESC, timeProperty, "id");
+    }
+
+    public <T> String getNextCursor(Window<T> window, Function<? super T, LocalDateTime> timeExtractor,
+                                    IdExtractor<? super T> idExtractor) {
+        if (!window.hasNext() || window.getContent().isEmpty()) {
+            return null;
+        }
+
+        T last = window.getContent().get(window.getContent().size() - 1);
+        String raw = timeExtractor.apply(last) + CURSOR_DELIMITER + idExtractor.extractId(last);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
 }
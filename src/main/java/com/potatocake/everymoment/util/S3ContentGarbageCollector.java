@@ -0,0 +1,157 @@
+package com.potatocake.everymoment.util;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileGcProperties;
+import com.potatocake.everymoment.repository.FileRepository;
+import com.potatocake.everymoment.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 어떤 File 이나 프로필 이미지도 참조하지 않는 내용 주소 객체와 남은 임시 객체를 배치로 지운다.
+ * <p>
+ * 업로드 직후 아직 커밋되지 않은 참조를 지우지 않도록 grace period 보다 오래된 객체만 대상으로 한다.
+ * 목록을 읽은 뒤에 같은 내용이 다시 올라오면 업로더가 객체를 복사해 수정 시각을 갱신하므로, 내용 주소 객체는 지우기 직전에
+ * 수정 시각을 다시 확인한다.
+ */
+@Slf4j
+@EnableConfigurationProperties({AwsS3Properties.class, FileGcProperties.class})
+@Component
+public class S3ContentGarbageCollector {
+
+    private final AmazonS3 amazonS3;
+    private final AwsS3Properties properties;
+    private final FileGcProperties gcProperties;
+    private final FileRepository fileRepository;
+    private final MemberRepository memberRepository;
+    private final Counter deletedCounter;
+
+    public S3ContentGarbageCollector(AmazonS3 amazonS3, AwsS3Properties properties, FileGcProperties gcProperties,
+                                     FileRepository fileRepository, MemberRepository memberRepository,
+                                     MeterRegistry meterRegistry) {
+        this.amazonS3 = amazonS3;
+        this.properties = properties;
+        this.gcProperties = gcProperties;
+        this.fileRepository = fileRepository;
+        this.memberRepository = memberRepository;
+        this.deletedCounter = meterRegistry.counter("file.gc.deleted");
+    }
+
+    @Scheduled(cron = "${file.gc.cron:0 0 5 * * *}")
+    public void collect() {
+        int deleted = collect(Instant.now().minus(gcProperties.gracePeriod()));
+
+        log.info("S3 객체 정리 완료. 삭제: {}", deleted);
+    }
+
+    int collect(Instant before) {
+        return sweep(ContentAddress.PREFIX, before, keys -> notModifiedSince(unreferenced(keys), before))
+                + sweep(ContentAddress.TEMP_PREFIX, before, UnaryOperator.identity());
+    }
+
+    // prefix 아래를 batchSize 씩 나누어 읽고, 각 페이지에서 골라낸 키를 한 번의 DeleteObjects 로 지움
+    private int sweep(String prefix, Instant before, UnaryOperator<List<String>> orphanFilter) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(properties.bucket())
+                .withPrefix(prefix)
+                .withMaxKeys(gcProperties.batchSize());
+
+        int deleted = 0;
+        ListObjectsV2Result page;
+
+        do {
+            page = amazonS3.listObjectsV2(request);
+
+            List<String> expiredKeys = page.getObjectSummaries().stream()
+                    .filter(summary -> summary.getLastModified().toInstant().isBefore(before))
+                    .map(S3ObjectSummary::getKey)
+                    .toList();
+
+            deleted += deleteObjects(orphanFilter.apply(expiredKeys));
+            request.setContinuationToken(page.getNextContinuationToken());
+        } while (page.isTruncated());
+
+        return deleted;
+    }
+
+    private List<String> unreferenced(List<String> keys) {
+        List<String> contentHashes = keys.stream()
+                .map(ContentAddress::hashOf)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (contentHashes.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> referencedHashes = new HashSet<>(fileRepository.findReferencedContentHashes(contentHashes));
+        Set<String> referencedUrls = new HashSet<>(memberRepository.findReferencedProfileImageUrls(keys.stream()
+                .map(key -> amazonS3.getUrl(properties.bucket(), key).toString())
+                .toList()));
+
+        return keys.stream()
+                .filter(key -> ContentAddress.hashOf(key) != null)
+                .filter(key -> !referencedHashes.contains(ContentAddress.hashOf(key)))
+                .filter(key -> !referencedUrls.contains(amazonS3.getUrl(properties.bucket(), key).toString()))
+                .toList();
+    }
+
+    // 참조를 확인하는 동안 touchIfExists 로 갱신된 객체는 곧 커밋될 File 이 참조하므로 제외
+    private List<String> notModifiedSince(List<String> keys, Instant before) {
+        return keys.stream()
+                .filter(key -> {
+                    Date lastModified = findLastModified(key);
+                    return lastModified != null && lastModified.toInstant().isBefore(before);
+                })
+                .toList();
+    }
+
+    // 이미 지워졌거나 확인할 수 없으면 null
+    private Date findLastModified(String key) {
+        try {
+            return amazonS3.getObjectMetadata(properties.bucket(), key).getLastModified();
+        } catch (RuntimeException e) {
+            log.warn("S3 객체 수정 시각 확인 실패. key: {}", key, e);
+            return null;
+        }
+    }
+
+    private int deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        // quiet 모드는 실패한 키만 응답하므로 요청 수에서 실패 수를 뺌
+        int deleted = keys.size();
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(properties.bucket())
+                    .withKeys(keys.toArray(String[]::new))
+                    .withQuiet(true));
+        } catch (MultiObjectDeleteException e) {
+            // 실패한 객체는 다음 실행에서 다시 시도
+            deleted -= e.getErrors().size();
+            log.warn("일부 S3 객체 삭제 실패. 실패 수: {}", e.getErrors().size());
+        }
+
+        deletedCounter.increment(deleted);
+        return deleted;
+    }
+
+}
@@ -1,70 +1,231 @@
 package com.potatocake.everymoment.util;
 
-import com.amazonaws.auth.AWSCredentials;
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileUploadProperties;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
-import jakarta.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-@RequiredArgsConstructor
-@EnableConfigurationProperties(AwsS3Properties.class)
+/**
+ * multipart 로 받은 이미지를 {@link ContentAddress} 키로 S3 에 저장한다.
+ * <p>
+ * 파일은 한 번만 읽는다. 읽으면서 SHA-256 을 구해 임시 키로 올린 뒤 내용 주소로 복사한다. 같은 내용의 객체가 이미 있어도 본문은 한 번
+ * 올라가며, 이때는 복사 대신 기존 객체의 수정 시각만 갱신하고 임시 객체를 지운다.
+ */
+@Slf4j
+@EnableConfigurationProperties({AwsS3Properties.class, FileUploadProperties.class})
 @Component
 public class S3FileUploader {
 
-    private AmazonS3 amazonS3;
+    private final AmazonS3 amazonS3;
     private final AwsS3Properties properties;
+    private final FileUploadProperties uploadProperties;
+    private final ExecutorService uploadExecutor;
+    private final Semaphore uploadPermits;
 
-    @PostConstruct
-    private void s3Client() {
-        AWSCredentials awsCredentials = new BasicAWSCredentials(properties.accessKey(), properties.secretKey());
-
-        amazonS3 = AmazonS3ClientBuilder.standard()
-                .withRegion(properties.region())
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+    public S3FileUploader(AmazonS3 amazonS3, AwsS3Properties properties, FileUploadProperties uploadProperties,
+                          @Qualifier("fileUploadExecutor") ExecutorService uploadExecutor) {
+        this.amazonS3 = amazonS3;
+        this.properties = properties;
+        this.uploadProperties = uploadProperties;
+        this.uploadExecutor = uploadExecutor;
+        this.uploadPermits = new Semaphore(uploadProperties.maxConcurrency());
     }
 
     public String uploadFile(MultipartFile file) {
-        String filename = UUID.randomUUID() + "_" + file.getOriginalFilename();
+        validateFileType(file);
+
+        return amazonS3.getUrl(properties.bucket(), putObject(file)).toString();
+    }
+
+    // 여러 파일을 동시에 업로드하고 순서대로 URL 반환 (하나라도 실패하면 이미 올라간 파일은 되돌림)
+    public List<String> uploadFiles(List<MultipartFile> files) {
+        files.forEach(this::validateFileType);
+
+        List<Future<String>> uploads = files.stream()
+                .map(file -> uploadExecutor.submit(() -> putObjectWithPermit(file)))
+                .toList();
+
+        List<String> keys = new ArrayList<>();
+        GlobalException failure = null;
+
+        for (Future<String> upload : uploads) {
+            try {
+                keys.add(upload.get());
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof GlobalException cause
+                        ? cause : new GlobalException(ErrorCode.FILE_STORE_FAILED);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new GlobalException(ErrorCode.FILE_STORE_FAILED);
+            }
+        }
+
+        if (failure != null) {
+            keys.forEach(this::deleteUnsharedObject);
+            throw failure;
+        }
+
+        return keys.stream()
+                .map(key -> amazonS3.getUrl(properties.bucket(), key).toString())
+                .toList();
+    }
+
+    // 업로드 이후 단계가 실패했을 때 올라간 파일을 되돌림
+    public void deleteFiles(List<String> urls) {
+        urls.stream()
+                .map(this::keyOf)
+                .forEach(this::deleteUnsharedObject);
+    }
+
+    public InputStream download(String url) {
+        return amazonS3.getObject(properties.bucket(), keyOf(url)).getObjectContent();
+    }
+
+    // 축소본은 원본 옆에 저장 (images/{hash}.png -> images/{hash}_w320.jpg)
+    public String uploadRendition(String originalUrl, int width, byte[] image) {
+        String key = renditionKey(keyOf(originalUrl), width);
+
+        ObjectMetadata objectMetadata = S3ObjectMetadata.of(MediaType.IMAGE_JPEG_VALUE, image.length,
+                S3ObjectMetadata.md5(image, image.length));
+
+        PutObjectRequest request = new PutObjectRequest(properties.bucket(), key, new ByteArrayInputStream(image),
+                objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+        request.setSdkClientExecutionTimeout((int) uploadProperties.timeout().toMillis());
+
+        amazonS3.putObject(request);
+
+        return amazonS3.getUrl(properties.bucket(), key).toString();
+    }
+
+    static String renditionKey(String key, int width) {
+        int extensionIndex = key.lastIndexOf('.');
+        String baseKey = extensionIndex > key.lastIndexOf('/') ? key.substring(0, extensionIndex) : key;
+
+        return baseKey + "_w" + width + ".jpg";
+    }
+
+    private String putObjectWithPermit(MultipartFile file) throws InterruptedException {
+        if (!uploadPermits.tryAcquire(uploadProperties.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new GlobalException(ErrorCode.FILE_STORE_FAILED);
+        }
 
         try {
-            validateFileType(file);
+            return putObject(file);
+        } finally {
+            uploadPermits.release();
+        }
+    }
 
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentType(file.getContentType());
+    // 내용을 한 번만 읽으며 SHA-256 을 구해 임시 키로 올린 뒤 내용 주소로 옮김
+    private String putObject(MultipartFile file) {
+        MessageDigest sha256 = ContentAddress.newDigest();
+        String tempKey = ContentAddress.TEMP_PREFIX + UUID.randomUUID();
+
+        try (InputStream input = new SinglePassDigestInputStream(file.getInputStream(), sha256)) {
+            ObjectMetadata objectMetadata = S3ObjectMetadata.of(file.getContentType());
             objectMetadata.setContentLength(file.getSize());
 
-            amazonS3.putObject(
-                    new PutObjectRequest(properties.bucket(), filename, file.getInputStream(), objectMetadata)
-                            .withCannedAcl(CannedAccessControlList.PublicRead));
+            PutObjectRequest request = new PutObjectRequest(properties.bucket(), tempKey, input, objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+            request.setSdkClientExecutionTimeout((int) uploadProperties.timeout().toMillis());
+
+            amazonS3.putObject(request);
         } catch (IOException e) {
             throw new GlobalException(ErrorCode.FILE_STORE_FAILED);
         }
 
-        return amazonS3.getUrl(properties.bucket(), filename).toString();
+        String key = ContentAddress.keyOf(sha256, file.getContentType());
+
+        try {
+            ContentAddress.copyIfAbsent(amazonS3, properties.bucket(), tempKey, key, file.getContentType());
+        } finally {
+            // 지우지 못한 임시 객체는 GC 가 정리
+            deleteUnsharedObject(tempKey);
+        }
+
+        return key;
+    }
+
+    // 내용 주소 객체는 다른 File 이 함께 참조할 수 있으므로 바로 지우지 않고 GC 에 맡김
+    private void deleteUnsharedObject(String key) {
+        if (ContentAddress.hashOf(key) != null) {
+            return;
+        }
+
+        try {
+            amazonS3.deleteObject(properties.bucket(), key);
+        } catch (RuntimeException e) {
+            log.warn("업로드 취소된 파일 삭제 실패. key: {}", key, e);
+        }
+    }
+
+    // 이 버킷에 저장된 객체의 URL 인지 (카카오 프로필 같은 외부 URL 은 제외)
+    boolean isStoredObject(String url) {
+        return url.startsWith(amazonS3.getUrl(properties.bucket(), "").toString());
     }
 
-    private void validateFileType(MultipartFile file) throws IOException {
-        String fileType = file.getContentType();
+    // path-style 주소(MinIO 등)는 경로 앞에 버킷 이름이 붙음
+    String keyOf(String url) {
+        String path = URLDecoder.decode(URI.create(url).getRawPath(), UTF_8).substring(1);
+        String bucketPrefix = properties.bucket() + "/";
+
+        if (properties.pathStyleAccess() && path.startsWith(bucketPrefix)) {
+            return path.substring(bucketPrefix.length());
+        }
+        return path;
+    }
+
+    private void validateFileType(MultipartFile file) {
+        validateImageType(file.getContentType());
+    }
 
+    static void validateImageType(String fileType) {
         if (fileType == null || (!fileType.equals(MediaType.IMAGE_JPEG_VALUE) && !fileType.equals(
                 MediaType.IMAGE_PNG_VALUE))) {
             throw new GlobalException(ErrorCode.INVALID_FILE_TYPE);
         }
     }
 
+    // SDK 가 재시도하며 mark/reset 으로 다시 읽으면 같은 바이트가 digest 에 두 번 들어가므로 mark 를 막음
+    private static class SinglePassDigestInputStream extends DigestInputStream {
+
+        SinglePassDigestInputStream(InputStream input, MessageDigest digest) {
+            super(input, digest);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+    }
+
 }
@@ -0,0 +1,54 @@
+package com.potatocake.everymoment.util;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 업로드하는 객체에 공통으로 붙이는 메타데이터
+ * <p>
+ * 모든 키는 내용 hash 나 UUID 로 정해져 한 번 올라간 객체의 내용이 바뀌지 않으므로, 브라우저와 CDN 이 재검증 없이
+ * 1년 동안 캐시하도록 immutable 로 둔다.
+ */
+public final class S3ObjectMetadata {
+
+    public static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private S3ObjectMetadata() {
+    }
+
+    public static ObjectMetadata of(String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setCacheControl(CACHE_CONTROL);
+        return metadata;
+    }
+
+    // 본문의 MD5 를 함께 보내면 S3 가 받은 내용을 검증하고, 같은 값을 ETag 로 씀
+    public static ObjectMetadata of(String contentType, long contentLength, MessageDigest md5) {
+        ObjectMetadata metadata = of(contentType);
+        metadata.setContentLength(contentLength);
+        metadata.setContentMD5(base64(md5));
+        return metadata;
+    }
+
+    public static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static MessageDigest md5(byte[] buffer, int length) {
+        MessageDigest md5 = newMd5();
+        md5.update(buffer, 0, length);
+        return md5;
+    }
+
+    public static String base64(MessageDigest md5) {
+        return Base64.getEncoder().encodeToString(md5.digest());
+    }
+
+}
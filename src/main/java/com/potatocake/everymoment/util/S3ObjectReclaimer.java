@@ -0,0 +1,274 @@
+package com.potatocake.everymoment.util;
+
+import static java.util.function.Function.identity;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.ImageRenditionProperties;
+import com.potatocake.everymoment.config.S3ReclaimProperties;
+import com.potatocake.everymoment.entity.S3ObjectTombstone;
+import com.potatocake.everymoment.repository.FileRepository;
+import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.repository.S3ObjectTombstoneRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제된 일기, 파일과 바뀐 프로필 이미지의 S3 객체를 지운다.
+ * <p>
+ * 지울 키는 File, Member 변경과 같은 트랜잭션에서 s3_object_tombstone 에 기록하고, 대상 행을 SKIP LOCKED 로 가져와 DeleteObjects
+ * 한 번에 최대 1000개씩 지운다. 내용 주소 객체는 다른 File 이 함께 참조할 수 있으므로 기록하지 않고
+ * {@link S3ContentGarbageCollector} 에 맡긴다.
+ * <p>
+ * 완료 통보 재시도나 이전 프로필 이미지로 되돌리기처럼 기록한 키가 다시 등록될 수 있으므로, 지우기 전에 File 이나 프로필 이미지가
+ * 참조하는 키와 그 축소본은 지우지 않고 기록만 없앤다.
+ */
+@Slf4j
+@EnableConfigurationProperties({AwsS3Properties.class, S3ReclaimProperties.class, ImageRenditionProperties.class})
+@Component
+public class S3ObjectReclaimer {
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final AmazonS3 amazonS3;
+    private final AwsS3Properties properties;
+    private final S3ReclaimProperties reclaimProperties;
+    private final S3FileUploader uploader;
+    private final List<Integer> renditionWidths;
+    private final S3ObjectTombstoneRepository tombstoneRepository;
+    private final FileRepository fileRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter deletedCounter;
+    private final Counter skippedCounter;
+    private final Counter retriedCounter;
+    private final Counter abandonedCounter;
+
+    private final AtomicBoolean reclaiming = new AtomicBoolean();
+
+    public S3ObjectReclaimer(AmazonS3 amazonS3, AwsS3Properties properties, S3ReclaimProperties reclaimProperties,
+                             S3FileUploader uploader, ImageRenditionProperties renditionProperties,
+                             S3ObjectTombstoneRepository tombstoneRepository, FileRepository fileRepository,
+                             MemberRepository memberRepository, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.amazonS3 = amazonS3;
+        this.properties = properties;
+        this.reclaimProperties = reclaimProperties;
+        this.uploader = uploader;
+        this.renditionWidths = renditionProperties.widths();
+        this.tombstoneRepository = tombstoneRepository;
+        this.fileRepository = fileRepository;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deletedCounter = meterRegistry.counter("file.reclaim.deleted");
+        this.skippedCounter = meterRegistry.counter("file.reclaim.skipped");
+        this.retriedCounter = meterRegistry.counter("file.reclaim.retried");
+        this.abandonedCounter = meterRegistry.counter("file.reclaim.abandoned");
+    }
+
+    // 롤백되면 기록도 함께 사라지도록 호출한 쪽의 트랜잭션 안에서 저장
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Collection<String> urls) {
+        save(keysOf(urls).toList());
+    }
+
+    // 일기 이미지는 원본 옆의 축소본도 함께 지움 (없는 키는 DeleteObjects 가 무시)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordWithRenditions(Collection<String> urls) {
+        save(keysOf(urls)
+                .flatMap(key -> Stream.concat(Stream.of(key), renditionWidths.stream()
+                        .map(width -> S3FileUploader.renditionKey(key, width))))
+                .toList());
+    }
+
+    @Scheduled(fixedDelayString = "${file.reclaim.poll-interval:PT1M}")
+    public void reclaim() {
+        if (!reclaiming.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            // 가득 찬 배치였다면 남은 행이 더 있을 수 있음
+            int reclaimed;
+            do {
+                long startedAt = System.nanoTime();
+                reclaimed = reclaimBatch(LocalDateTime.now());
+                throttle(reclaimed, System.nanoTime() - startedAt);
+            } while (reclaimed >= batchSize());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("S3 객체 정리 중 오류가 발생했습니다.", e);
+        } finally {
+            reclaiming.set(false);
+        }
+    }
+
+    public int reclaimBatch(LocalDateTime now) {
+        ClaimedBatch batch = transactionTemplate.execute(status -> {
+            List<S3ObjectTombstone> tombstones = tombstoneRepository.findClaimable(now,
+                    PageRequest.of(0, batchSize()));
+            tombstones.forEach(tombstone -> tombstone.lease(now.plus(reclaimProperties.leaseTimeout())));
+            return new ClaimedBatch(tombstones, referencedKeys(tombstones));
+        });
+
+        if (batch == null || batch.tombstones().isEmpty()) {
+            return 0;
+        }
+
+        List<S3ObjectTombstone> claimed = batch.tombstones();
+        Set<String> failedKeys = deleteObjects(claimed.stream()
+                .map(S3ObjectTombstone::getObjectKey)
+                .filter(key -> !batch.referencedKeys().contains(key))
+                .distinct()
+                .toList());
+
+        transactionTemplate.executeWithoutResult(status -> complete(claimed, batch.referencedKeys(), failedKeys, now));
+
+        return claimed.size();
+    }
+
+    // 다시 등록되어 File 이나 프로필 이미지가 참조하는 키와, 참조하는 원본의 축소본 키
+    private Set<String> referencedKeys(List<S3ObjectTombstone> tombstones) {
+        if (tombstones.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<String, String> keysByUrl = tombstones.stream()
+                .map(S3ObjectTombstone::getObjectKey)
+                .distinct()
+                .collect(Collectors.toMap(key -> amazonS3.getUrl(properties.bucket(), key).toString(), identity()));
+
+        return Stream.concat(fileRepository.findReferencedImageUrls(keysByUrl.keySet()).stream(),
+                        memberRepository.findReferencedProfileImageUrls(keysByUrl.keySet()).stream())
+                .map(keysByUrl::get)
+                .filter(Objects::nonNull)
+                .flatMap(key -> Stream.concat(Stream.of(key), renditionWidths.stream()
+                        .map(width -> S3FileUploader.renditionKey(key, width))))
+                .collect(Collectors.toSet());
+    }
+
+    private Stream<String> keysOf(Collection<String> urls) {
+        return urls.stream()
+                .filter(Objects::nonNull)
+                .filter(uploader::isStoredObject)
+                .map(uploader::keyOf)
+                .filter(key -> ContentAddress.hashOf(key) == null)
+                .distinct();
+    }
+
+    private void save(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        // 방금 응답으로 내려간 URL 은 잠시 동안 열리도록 delay 이후에 지움
+        LocalDateTime reclaimAt = LocalDateTime.now().plus(reclaimProperties.delay());
+
+        tombstoneRepository.saveAll(keys.stream()
+                .map(key -> S3ObjectTombstone.builder()
+                        .objectKey(key)
+                        .nextAttemptAt(reclaimAt)
+                        .build())
+                .toList());
+    }
+
+    // 지우지 못한 키 반환 (없는 키는 S3 가 성공으로 처리)
+    private Set<String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(properties.bucket())
+                    .withKeys(keys.toArray(String[]::new))
+                    .withQuiet(true));
+            return Set.of();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(DeleteError::getKey)
+                    .collect(Collectors.toSet());
+        } catch (RuntimeException e) {
+            log.warn("S3 객체 삭제 요청 실패. 키 수: {}", keys.size(), e);
+            return new HashSet<>(keys);
+        }
+    }
+
+    private void complete(List<S3ObjectTombstone> claimed, Set<String> referencedKeys, Set<String> failedKeys,
+                          LocalDateTime now) {
+        List<Long> finishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        int skipped = 0;
+
+        for (S3ObjectTombstone tombstone : claimed) {
+            if (referencedKeys.contains(tombstone.getObjectKey())) {
+                finishedIds.add(tombstone.getId());
+                skipped++;
+            } else if (failedKeys.contains(tombstone.getObjectKey())) {
+                failedIds.add(tombstone.getId());
+            } else {
+                finishedIds.add(tombstone.getId());
+            }
+        }
+        deletedCounter.increment(finishedIds.size() - skipped);
+        skippedCounter.increment(skipped);
+
+        for (S3ObjectTombstone tombstone : tombstoneRepository.findAllById(failedIds)) {
+            if (tombstone.getAttempts() + 1 >= reclaimProperties.maxAttempts()) {
+                finishedIds.add(tombstone.getId());
+                abandonedCounter.increment();
+                log.warn("S3 객체 삭제를 포기합니다. key: {}", tombstone.getObjectKey());
+            } else {
+                tombstone.retry(now.plus(reclaimProperties.retryBackoff()));
+                retriedCounter.increment();
+            }
+        }
+
+        if (!finishedIds.isEmpty()) {
+            tombstoneRepository.deleteAllByIdIn(finishedIds);
+        }
+    }
+
+    // 초당 삭제 수가 maxDeletesPerSecond 를 넘지 않도록 배치 사이에 쉼
+    private void throttle(int deleted, long elapsedNanos) throws InterruptedException {
+        long minimumNanos = TimeUnit.SECONDS.toNanos(deleted) / reclaimProperties.maxDeletesPerSecond();
+
+        if (minimumNanos > elapsedNanos) {
+            TimeUnit.NANOSECONDS.sleep(minimumNanos - elapsedNanos);
+        }
+    }
+
+    private int batchSize() {
+        return Math.min(reclaimProperties.batchSize(), MAX_DELETE_KEYS);
+    }
+
+    private record ClaimedBatch(List<S3ObjectTombstone> tombstones, Set<String> referencedKeys) {
+    }
+
+}
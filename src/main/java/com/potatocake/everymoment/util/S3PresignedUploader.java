@@ -0,0 +1,157 @@
+package com.potatocake.everymoment.util;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileUploadProperties;
+import com.potatocake.everymoment.dto.response.PresignedUploadResponse;
+import com.potatocake.everymoment.exception.ErrorCode;
+import com.potatocake.everymoment.exception.GlobalException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 클라이언트가 S3 로 직접 올릴 수 있는 pre-signed PUT URL 을 발급하고,
+ * 업로드 완료 통보를 받으면 실제로 올라간 객체를 확인한 뒤 URL 을 돌려준다.
+ * <p>
+ * URL 은 임시 경로 아래에 발급하고 완료 통보 때 최종 경로로 복사하므로, 완료되지 않은 업로드는
+ * {@link S3ContentGarbageCollector} 가 임시 객체와 함께 지운다.
+ */
+@Slf4j
+@EnableConfigurationProperties({AwsS3Properties.class, FileUploadProperties.class})
+@Component
+public class S3PresignedUploader {
+
+    private final AmazonS3 amazonS3;
+    private final AwsS3Properties properties;
+    private final FileUploadProperties uploadProperties;
+
+    public S3PresignedUploader(AmazonS3 amazonS3, AwsS3Properties properties,
+                               FileUploadProperties uploadProperties) {
+        this.amazonS3 = amazonS3;
+        this.properties = properties;
+        this.uploadProperties = uploadProperties;
+    }
+
+    // 키는 임시 경로의 directory 아래에만 발급해서 완료 통보 때 소유자를 확인할 수 있게 함
+    public PresignedUploadResponse issue(String directory, String filename, String contentType, long contentLength) {
+        S3FileUploader.validateImageType(contentType);
+
+        if (contentLength > uploadProperties.presignMaxSize().toBytes()) {
+            throw new GlobalException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        String key = tempPrefix(directory) + UUID.randomUUID() + "_" + StringUtils.getFilename(filename);
+        Instant expiresAt = Instant.now().plus(uploadProperties.presignExpiration());
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(properties.bucket(), key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        // 크기를 서명에 포함해서 요청한 크기와 다른 본문은 S3 가 받지 않게 함
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        request.putCustomRequestHeader(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+        // 서명에 포함해서 클라이언트가 직접 올린 객체도 같은 캐시 헤더를 갖게 함
+        request.putCustomRequestHeader(Headers.CACHE_CONTROL, S3ObjectMetadata.CACHE_CONTROL);
+
+        return PresignedUploadResponse.builder()
+                .uploadUrl(amazonS3.generatePresignedUrl(request).toString())
+                .key(key)
+                .headers(Map.of(
+                        HttpHeaders.CONTENT_TYPE, contentType,
+                        HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength),
+                        Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString(),
+                        HttpHeaders.CACHE_CONTROL, S3ObjectMetadata.CACHE_CONTROL))
+                .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .build();
+    }
+
+    // 올라간 객체의 형식과 크기를 확인해 최종 경로로 옮기고, 조건에 맞지 않으면 지운 뒤 예외를 던짐
+    public String confirm(String directory, String key) {
+        validateKey(directory, key);
+
+        String destinationKey = key.substring(ContentAddress.TEMP_PREFIX.length());
+        ObjectMetadata metadata = findObjectMetadata(key);
+
+        if (metadata == null) {
+            // 이미 옮긴 업로드의 완료 통보가 다시 온 경우
+            if (findObjectMetadata(destinationKey) == null) {
+                throw new GlobalException(ErrorCode.FILE_NOT_FOUND);
+            }
+            return amazonS3.getUrl(properties.bucket(), destinationKey).toString();
+        }
+
+        try {
+            S3FileUploader.validateImageType(metadata.getContentType());
+
+            if (metadata.getContentLength() > uploadProperties.presignMaxSize().toBytes()) {
+                throw new GlobalException(ErrorCode.FILE_SIZE_EXCEEDED);
+            }
+        } catch (GlobalException e) {
+            deleteObject(key);
+            throw e;
+        }
+
+        // 복사에 실패하면 임시 객체를 남겨 두어 완료 통보를 다시 받을 수 있게 함
+        try {
+            amazonS3.copyObject(new CopyObjectRequest(properties.bucket(), key, properties.bucket(), destinationKey)
+                    .withNewObjectMetadata(S3ObjectMetadata.of(metadata.getContentType()))
+                    .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+        } catch (RuntimeException e) {
+            log.warn("업로드 파일을 최종 경로로 옮기지 못했습니다. key: {}", key, e);
+            throw new GlobalException(ErrorCode.FILE_STORE_FAILED);
+        }
+        deleteObject(key);
+
+        return amazonS3.getUrl(properties.bucket(), destinationKey).toString();
+    }
+
+    private String tempPrefix(String directory) {
+        return ContentAddress.TEMP_PREFIX + directory + "/";
+    }
+
+    private void validateKey(String directory, String key) {
+        String prefix = tempPrefix(directory);
+
+        if (key == null || !key.startsWith(prefix) || key.indexOf('/', prefix.length()) != -1) {
+            throw new GlobalException(ErrorCode.INVALID_UPLOAD_KEY);
+        }
+    }
+
+    // 없는 객체면 null
+    private ObjectMetadata findObjectMetadata(String key) {
+        try {
+            return amazonS3.getObjectMetadata(properties.bucket(), key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return null;
+            }
+            throw new GlobalException(ErrorCode.FILE_STORE_FAILED);
+        }
+    }
+
+    // 지우지 못한 임시 객체는 S3ContentGarbageCollector 가 정리
+    private void deleteObject(String key) {
+        try {
+            amazonS3.deleteObject(properties.bucket(), key);
+        } catch (RuntimeException e) {
+            log.warn("업로드 임시 파일 삭제 실패. key: {}", key, e);
+        }
+    }
+
+}
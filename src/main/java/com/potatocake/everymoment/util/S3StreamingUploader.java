@@ -0,0 +1,225 @@
+package com.potatocake.everymoment.util;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileUploadProperties;
+import com.potatocake.everymoment.exception.ErrorCode;
+import com.potatocake.everymoment.exception.GlobalException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 본문을 고정 크기 버퍼 단위로 읽어 S3 멀티파트 업로드로 바로 흘려보낸다.
+ * 버퍼는 풀에서 재사용하므로 업로드 하나가 쓰는 힙은 파일 크기와 상관없이 part 크기 하나로 제한된다.
+ * <p>
+ * 읽는 동안 SHA-256 을 함께 계산해 {@link ContentAddress} 키에 저장한다.
+ */
+@Slf4j
+@EnableConfigurationProperties({AwsS3Properties.class, FileUploadProperties.class})
+@Component
+public class S3StreamingUploader {
+
+    private final AmazonS3 amazonS3;
+    private final AwsS3Properties properties;
+    private final FileUploadProperties uploadProperties;
+    private final int partSize;
+    private final Semaphore bufferPermits;
+    private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger allocatedBuffers = new AtomicInteger();
+
+    public S3StreamingUploader(AmazonS3 amazonS3, AwsS3Properties properties,
+                               FileUploadProperties uploadProperties) {
+        this.amazonS3 = amazonS3;
+        this.properties = properties;
+        this.uploadProperties = uploadProperties;
+        this.partSize = (int) uploadProperties.streamPartSize().toBytes();
+        this.bufferPermits = new Semaphore(uploadProperties.streamBufferCount());
+    }
+
+    public String upload(InputStream input, String contentType) {
+        S3FileUploader.validateImageType(contentType);
+
+        MessageDigest digest = ContentAddress.newDigest();
+        byte[] buffer = acquireBuffer();
+        String key;
+
+        try {
+            int read = readFully(input, buffer);
+
+            // 첫 버퍼에 다 들어가면 멀티파트 없이 한 번에 올림
+            if (read < buffer.length) {
+                digest.update(buffer, 0, read);
+                key = ContentAddress.keyOf(digest, contentType);
+
+                if (!ContentAddress.touchIfExists(amazonS3, properties.bucket(), key, contentType)) {
+                    putObject(key, contentType, buffer, read);
+                }
+            } else {
+                // 끝까지 읽기 전에는 hash 를 모르므로 임시 키로 올린 뒤 내용 주소로 옮김
+                String tempKey = ContentAddress.TEMP_PREFIX + UUID.randomUUID();
+                multipartUpload(tempKey, contentType, input, buffer, read, digest);
+
+                key = ContentAddress.keyOf(digest, contentType);
+                moveToContentKey(tempKey, key, contentType);
+            }
+        } catch (IOException e) {
+            throw new GlobalException(ErrorCode.FILE_STORE_FAILED);
+        } finally {
+            releaseBuffer(buffer);
+        }
+
+        return amazonS3.getUrl(properties.bucket(), key).toString();
+    }
+
+    int allocatedBuffers() {
+        return allocatedBuffers.get();
+    }
+
+    private void putObject(String key, String contentType, byte[] buffer, int length) {
+        ObjectMetadata objectMetadata = S3ObjectMetadata.of(contentType, length,
+                S3ObjectMetadata.md5(buffer, length));
+
+        PutObjectRequest request = new PutObjectRequest(properties.bucket(), key,
+                new ByteArrayInputStream(buffer, 0, length), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+        request.setSdkClientExecutionTimeout(timeoutMillis());
+
+        amazonS3.putObject(request);
+    }
+
+    private void multipartUpload(String key, String contentType, InputStream input, byte[] buffer, int firstRead,
+                                 MessageDigest digest) throws IOException {
+        InitiateMultipartUploadRequest initRequest = new InitiateMultipartUploadRequest(properties.bucket(), key,
+                S3ObjectMetadata.of(contentType))
+                .withCannedACL(CannedAccessControlList.PublicRead);
+        String uploadId = amazonS3.initiateMultipartUpload(initRequest).getUploadId();
+
+        List<PartETag> partETags = new ArrayList<>();
+        long totalSize = 0;
+
+        try {
+            int read = firstRead;
+
+            while (read > 0) {
+                totalSize += read;
+                if (totalSize > uploadProperties.streamMaxSize().toBytes()) {
+                    throw new GlobalException(ErrorCode.FILE_SIZE_EXCEEDED);
+                }
+
+                digest.update(buffer, 0, read);
+                partETags.add(uploadPart(key, uploadId, partETags.size() + 1, buffer, read));
+                read = readFully(input, buffer);
+            }
+
+            amazonS3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(properties.bucket(), key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void moveToContentKey(String tempKey, String key, String contentType) {
+        try {
+            ContentAddress.copyIfAbsent(amazonS3, properties.bucket(), tempKey, key, contentType);
+        } finally {
+            deleteTempObject(tempKey);
+        }
+    }
+
+    // 지우지 못한 임시 객체는 GC 가 정리
+    private void deleteTempObject(String tempKey) {
+        try {
+            amazonS3.deleteObject(properties.bucket(), tempKey);
+        } catch (RuntimeException e) {
+            log.warn("임시 업로드 객체 삭제 실패. key: {}", tempKey, e);
+        }
+    }
+
+    private PartETag uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(properties.bucket())
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                .withPartSize(length)
+                .withMD5Digest(S3ObjectMetadata.base64(S3ObjectMetadata.md5(buffer, length)));
+        request.setSdkClientExecutionTimeout(timeoutMillis());
+
+        return amazonS3.uploadPart(request).getPartETag();
+    }
+
+    private void abortMultipartUpload(String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(properties.bucket(), key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("멀티파트 업로드 취소 실패. key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+    // 버퍼가 가득 차거나 스트림이 끝날 때까지 읽음
+    private int readFully(InputStream input, byte[] buffer) throws IOException {
+        int offset = 0;
+
+        while (offset < buffer.length) {
+            int read = input.read(buffer, offset, buffer.length - offset);
+            if (read == -1) {
+                break;
+            }
+            offset += read;
+        }
+
+        return offset;
+    }
+
+    // 버퍼는 필요할 때 만들고 최대 streamBufferCount 개까지만 유지
+    private byte[] acquireBuffer() {
+        try {
+            if (!bufferPermits.tryAcquire(uploadProperties.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new GlobalException(ErrorCode.FILE_STORE_FAILED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException(ErrorCode.FILE_STORE_FAILED);
+        }
+
+        byte[] buffer = freeBuffers.poll();
+        if (buffer == null) {
+            allocatedBuffers.incrementAndGet();
+            buffer = new byte[partSize];
+        }
+        return buffer;
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        bufferPermits.release();
+    }
+
+    private int timeoutMillis() {
+        return (int) uploadProperties.timeout().toMillis();
+    }
+
+}
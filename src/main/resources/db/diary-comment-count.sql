@@ -0,0 +1,5 @@
+-- diary.comment_count 추가 및 기존 데이터 채우기
+ALTER TABLE diary ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE diary d
+SET d.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.diary_id = d.id);
@@ -0,0 +1,3 @@
+-- diary.search.engine=fulltext 사용 시 필요한 인덱스 (MySQL 8, ngram_token_size 기본값 2)
+-- 인덱스 생성이 끝난 뒤 DIARY_SEARCH_ENGINE=fulltext 로 배포
+ALTER TABLE diary ADD FULLTEXT INDEX ft_diary_content (content) WITH PARSER ngram;
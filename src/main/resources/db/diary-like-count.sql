@@ -0,0 +1,8 @@
+-- diary.like_count 추가 및 기존 데이터 채우기
+ALTER TABLE diary ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기 (최근 좋아요가 바뀐 일기는 실행 중에 LikeCountBuffer.reconcile 이 다시 계산)
+-- 전체를 다시 계산하려면 모든 인스턴스를 내려 버퍼가 비워진 뒤 아래 UPDATE 만 실행
+-- (다른 인스턴스에 남은 증감이 다시 계산한 값 위에 더해지면 두 번 세어짐)
+UPDATE diary d
+SET d.like_count = (SELECT COUNT(*) FROM likes l WHERE l.diary_id = d.id);
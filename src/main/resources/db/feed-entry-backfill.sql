@@ -0,0 +1,8 @@
+-- feed.fan-out-enabled 를 켠 뒤, feed.read-enabled 를 켜기 전에 실행
+-- 이미 들어간 항목은 건너뛰므로 여러 번 실행해도 되고, 행이 많으면 f.member_id 범위를 나누어 실행
+INSERT INTO feed_entry (member_id, author_id, diary_id, diary_create_at)
+SELECT f.member_id, d.member_id, d.id, d.create_at
+FROM friend f
+         JOIN diary d ON d.member_id = f.friend_id
+WHERE d.is_public = true
+  AND NOT EXISTS (SELECT 1 FROM feed_entry e WHERE e.member_id = f.member_id AND e.diary_id = d.id);
@@ -0,0 +1,19 @@
+-- 친구 일기 피드 (FeedService 가 공개 일기를 친구들의 피드에 미리 넣어 둠)
+-- feed.fan-out-enabled 를 켜기 전에 실행하고, 켠 뒤 feed-entry-backfill.sql 로 기존 일기를 채움
+CREATE TABLE feed_entry
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id       BIGINT      NOT NULL,
+    author_id       BIGINT      NOT NULL,
+    diary_id        BIGINT      NOT NULL,
+    diary_create_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_feed_entry_member_diary UNIQUE (member_id, diary_id)
+);
+
+CREATE INDEX idx_feed_entry_member_created ON feed_entry (member_id, diary_create_at, id);
+CREATE INDEX idx_feed_entry_diary_id ON feed_entry (diary_id);
+CREATE INDEX idx_feed_entry_author_id ON feed_entry (member_id, author_id);
+
+-- fan-out 이 꺼져 있는 동안에는 일기 삭제, 비공개 전환, 친구 끊기가 피드를 정리하지 않음
+-- 껐다가 다시 켤 때는 남은 항목이 어긋나 있으므로 feed.read-enabled 를 끈 상태에서 비운 뒤 backfill 을 다시 실행
+-- TRUNCATE TABLE feed_entry;
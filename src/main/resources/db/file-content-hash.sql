@@ -0,0 +1,4 @@
+-- file.content_hash 추가 (기존 파일은 NULL 로 두어 GC 대상에서 제외)
+ALTER TABLE file ADD COLUMN content_hash VARCHAR(64) NULL;
+
+CREATE INDEX idx_file_content_hash ON file (content_hash);
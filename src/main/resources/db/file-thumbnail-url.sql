@@ -0,0 +1,2 @@
+-- file.thumbnail_url 추가 (기존 파일은 NULL 로 두고 원본을 썸네일로 사용)
+ALTER TABLE file ADD COLUMN thumbnail_url VARCHAR(2083) NULL;
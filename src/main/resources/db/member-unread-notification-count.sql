@@ -0,0 +1,7 @@
+-- member.unread_notification_count 추가 및 기존 데이터 채우기
+ALTER TABLE member ADD COLUMN unread_notification_count INT NOT NULL DEFAULT 0;
+
+UPDATE member m
+SET m.unread_notification_count = (SELECT COUNT(*) FROM notification n WHERE n.member_id = m.id AND n.is_read = false);
+
+CREATE INDEX idx_notification_member_id ON notification (member_id, id DESC);
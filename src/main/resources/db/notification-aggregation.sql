@@ -0,0 +1,8 @@
+-- 좋아요, 댓글 알림 묶기 (notification.aggregate_count) 및 관련 인덱스
+-- 기존 알림은 모두 한 건짜리 알림이므로 기본값 1 로 채움
+ALTER TABLE notification ADD COLUMN aggregate_count INT NOT NULL DEFAULT 1;
+
+-- 묶을 수 있는 안 읽은 알림 조회 (회원, 종류, 대상 일기)
+CREATE INDEX idx_notification_member_type_target ON notification (member_id, type, target_id);
+-- 종류별 보관 기간이 지난 알림 정리 (findExpiredIds)
+CREATE INDEX idx_notification_type_create_at ON notification (type, create_at);
@@ -0,0 +1,24 @@
+-- 알림과 같은 트랜잭션에 저장되는 푸시 발송 대기열 (NotificationOutboxRelay 가 처리)
+-- 알림 저장이 이 테이블에 함께 쓰므로 애플리케이션을 배포하기 전에 실행
+CREATE TABLE notification_outbox
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    notification_id BIGINT,
+    receiver_id     BIGINT       NOT NULL,
+    title           VARCHAR(255) NOT NULL,
+    body            VARCHAR(255) NOT NULL,
+    type            VARCHAR(50)  NOT NULL,
+    target_id       BIGINT       NOT NULL,
+    collapse_key    VARCHAR(100),
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    create_at       DATETIME(6),
+    modify_at       DATETIME(6)
+);
+
+-- 발송할 행 조회 (findClaimable)
+CREATE INDEX idx_notification_outbox_status_next ON notification_outbox (status, next_attempt_at);
+-- 묶인 알림의 대기 중인 푸시 내용 변경 (updateBodyByNotificationIdAndStatus)
+CREATE INDEX idx_notification_outbox_notification_id ON notification_outbox (notification_id);
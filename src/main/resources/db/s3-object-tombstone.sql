@@ -0,0 +1,12 @@
+-- 삭제할 S3 객체 키 대기열 (S3ObjectReclaimer 가 처리 후 행을 지움)
+CREATE TABLE s3_object_tombstone
+(
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    object_key      VARCHAR(1024) NOT NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    create_at       DATETIME(6),
+    modify_at       DATETIME(6)
+);
+
+CREATE INDEX idx_s3_object_tombstone_next ON s3_object_tombstone (next_attempt_at);
@@ -25,8 +25,12 @@ import com.potatocake.everymoment.dto.request.DiaryFilterRequest;
 import com.potatocake.everymoment.dto.request.DiaryManualCreateRequest;
 import com.potatocake.everymoment.dto.request.DiaryPatchRequest;
 import com.potatocake.everymoment.dto.response.CommentResponse;
+import com.potatocake.everymoment.dto.response.CommentScrollResponse;
 import com.potatocake.everymoment.dto.response.CommentsResponse;
+import com.potatocake.everymoment.dto.response.DiaryCountResponse;
+import com.potatocake.everymoment.dto.response.DiaryCountsResponse;
 import com.potatocake.everymoment.dto.response.FriendDiariesResponse;
+import com.potatocake.everymoment.dto.response.FriendDiaryFeedResponse;
 import com.potatocake.everymoment.dto.response.FriendDiaryResponse;
 import com.potatocake.everymoment.dto.response.FriendDiarySimpleResponse;
 import com.potatocake.everymoment.dto.response.MyDiariesResponse;
@@ -314,6 +318,42 @@ class DiaryControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("여러 일기의 좋아요/댓글 수가 성공적으로 조회된다.")
+    void should_ReturnDiaryCounts_When_IdsGiven() throws Exception {
+        // given
+        Member member = Member.builder()
+                .id(1L)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        MemberDetails memberDetails = new MemberDetails(member);
+
+        DiaryCountsResponse response = DiaryCountsResponse.builder()
+                .counts(List.of(DiaryCountResponse.builder()
+                        .diaryId(1L)
+                        .likeCount(3L)
+                        .commentCount(2L)
+                        .build()))
+                .build();
+
+        given(diaryService.getDiaryCounts(member.getId(), List.of(1L, 2L))).willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/diaries/counts")
+                .param("ids", "1,2")
+                .with(user(memberDetails)));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.info.counts[0].diaryId").value(1))
+                .andExpect(jsonPath("$.info.counts[0].likeCount").value(3))
+                .andExpect(jsonPath("$.info.counts[0].commentCount").value(2));
+
+        then(diaryService).should().getDiaryCounts(member.getId(), List.of(1L, 2L));
+    }
+
     @Test
     @DisplayName("일기가 성공적으로 삭제된다.")
     void should_DeleteDiary_When_ValidId() throws Exception {
@@ -433,6 +473,45 @@ class DiaryControllerTest {
         then(friendDiaryService).should().getFriendDiaries(eq(member.getId()), any(DiaryFilterRequest.class));
     }
 
+    @Test
+    @DisplayName("친구의 일기 피드가 커서 기반으로 성공적으로 조회된다.")
+    void should_ReturnFriendDiaryFeed_When_ValidCursor() throws Exception {
+        // given
+        Member member = Member.builder()
+                .id(1L)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        MemberDetails memberDetails = new MemberDetails(member);
+
+        FriendDiaryFeedResponse response = FriendDiaryFeedResponse.builder()
+                .diaries(List.of(FriendDiarySimpleResponse.builder()
+                        .id(1L)
+                        .content("Friend's content")
+                        .locationName("Friend's location")
+                        .build()))
+                .next("nextCursor")
+                .build();
+
+        given(friendDiaryService.getFriendDiaryFeed(eq(member.getId()), any(DiaryFilterRequest.class), eq("cursor")))
+                .willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/diaries/friend/feed")
+                .with(user(memberDetails))
+                .param("cursor", "cursor")
+                .param("size", "10"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.info.diaries").isArray())
+                .andExpect(jsonPath("$.info.next").value("nextCursor"));
+
+        then(friendDiaryService).should()
+                .getFriendDiaryFeed(eq(member.getId()), any(DiaryFilterRequest.class), eq("cursor"));
+    }
+
     @Test
     @DisplayName("친구의 일기 상세 정보가 성공적으로 조회된다.")
     void should_ReturnFriendDiaryDetail_When_ValidId() throws Exception {
@@ -503,6 +582,31 @@ class DiaryControllerTest {
         then(commentService).should().getComments(diaryId, 0, 10);
     }
 
+    @Test
+    @DisplayName("댓글 목록이 댓글 id 커서로 성공적으로 조회된다.")
+    void should_GetCommentsByKey_When_ValidDiaryId() throws Exception {
+        // given
+        Long diaryId = 1L;
+        CommentScrollResponse response = CommentScrollResponse.builder()
+                .comments(List.of())
+                .next(20L)
+                .build();
+
+        given(commentService.getCommentsByKey(diaryId, 10L, 20)).willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/diaries/{diaryId}/comments/scroll", diaryId)
+                .param("key", "10"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.info.comments").isArray())
+                .andExpect(jsonPath("$.info.next").value(20));
+
+        then(commentService).should().getCommentsByKey(diaryId, 10L, 20);
+    }
+
     @Test
     @DisplayName("댓글이 성공적으로 작성된다.")
     void should_CreateComment_When_ValidInput() throws Exception {
@@ -1,5 +1,8 @@
 package com.potatocake.everymoment.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -7,14 +10,22 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.potatocake.everymoment.dto.request.FileUploadCompleteRequest;
+import com.potatocake.everymoment.dto.request.PresignedUploadRequest;
 import com.potatocake.everymoment.dto.response.FileResponse;
+import com.potatocake.everymoment.dto.response.PresignedUploadResponse;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.security.MemberDetails;
 import com.potatocake.everymoment.service.FileService;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +44,9 @@ class FileControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private FileService fileService;
 
@@ -133,7 +147,7 @@ class FileControllerTest {
                 "test image".getBytes()
         );
 
-        willDoNothing().given(fileService).updateFiles(diaryId, memberId, List.of(file));
+        willDoNothing().given(fileService).updateFiles(diaryId, memberId, null, List.of(file));
 
         // when
         ResultActions result = mockMvc.perform(multipart("/api/diaries/{diaryId}/files", diaryId)
@@ -150,7 +164,144 @@ class FileControllerTest {
                 .andExpect(jsonPath("$.code").value(200))
                 .andExpect(jsonPath("$.message").value("success"));
 
-        then(fileService).should().updateFiles(diaryId, memberId, List.of(file));
+        then(fileService).should().updateFiles(diaryId, memberId, null, List.of(file));
+    }
+
+    @Test
+    @DisplayName("유지할 파일과 새 파일의 순서를 함께 보내 파일을 수정한다.")
+    void should_UpdateFilesWithOrder_When_OrderGiven() throws Exception {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        MemberDetails memberDetails = new MemberDetails(member);
+
+        MockMultipartFile file = new MockMultipartFile(
+                "files",
+                "test.jpg",
+                MediaType.IMAGE_JPEG_VALUE,
+                "test image".getBytes()
+        );
+        MockMultipartFile request = new MockMultipartFile(
+                "request",
+                "",
+                MediaType.APPLICATION_JSON_VALUE,
+                "{\"order\":[3,null,1]}".getBytes()
+        );
+
+        // when
+        ResultActions result = mockMvc.perform(multipart("/api/diaries/{diaryId}/files", diaryId)
+                .file(file)
+                .file(request)
+                .with(httpRequest -> {
+                    httpRequest.setMethod("PUT");
+                    return httpRequest;
+                })
+                .with(user(memberDetails))
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk());
+
+        then(fileService).should().updateFiles(eq(diaryId), eq(memberId),
+                argThat(updateRequest -> updateRequest.getOrder().equals(Arrays.asList(3L, null, 1L))),
+                eq(List.of(file)));
+    }
+
+    @Test
+    @DisplayName("요청 본문의 이미지가 스트리밍 업로드된다.")
+    void should_UploadFileStream_When_ValidInput() throws Exception {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        MemberDetails memberDetails = new MemberDetails(member);
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/diaries/{diaryId}/files/stream", diaryId)
+                .contentType(MediaType.IMAGE_PNG)
+                .content("test image".getBytes())
+                .with(user(memberDetails))
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("success"));
+
+        then(fileService).should().uploadFileStream(eq(diaryId), eq(memberId), any(InputStream.class),
+                eq(MediaType.IMAGE_PNG_VALUE));
+    }
+
+    @Test
+    @DisplayName("업로드 URL 이 성공적으로 발급된다.")
+    void should_IssueUploadUrl_When_ValidInput() throws Exception {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        MemberDetails memberDetails = new MemberDetails(Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build());
+        PresignedUploadRequest request = new PresignedUploadRequest("test.jpg", MediaType.IMAGE_JPEG_VALUE, 1024L);
+        PresignedUploadResponse response = PresignedUploadResponse.builder()
+                .uploadUrl("https://test-bucket.s3.amazonaws.com/diaries/1/uuid_test.jpg?X-Amz-Signature=sig")
+                .key("tmp/diaries/1/uuid_test.jpg")
+                .headers(Map.of("Content-Type", MediaType.IMAGE_JPEG_VALUE))
+                .build();
+
+        given(fileService.issueUploadUrl(eq(diaryId), eq(memberId), any(PresignedUploadRequest.class)))
+                .willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/diaries/{diaryId}/files/presigned", diaryId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .with(user(memberDetails))
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.info.key").value("tmp/diaries/1/uuid_test.jpg"))
+                .andExpect(jsonPath("$.info.headers['Content-Type']").value(MediaType.IMAGE_JPEG_VALUE));
+    }
+
+    @Test
+    @DisplayName("직접 업로드한 파일이 성공적으로 등록된다.")
+    void should_CompleteUploads_When_ValidInput() throws Exception {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        MemberDetails memberDetails = new MemberDetails(Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build());
+        List<String> keys = List.of("tmp/diaries/1/uuid_a.jpg", "tmp/diaries/1/uuid_b.jpg");
+
+        // when
+        ResultActions result = mockMvc.perform(post("/api/diaries/{diaryId}/files/complete", diaryId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new FileUploadCompleteRequest(keys)))
+                .with(user(memberDetails))
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("success"));
+
+        then(fileService).should().completeUploads(diaryId, memberId, keys);
     }
 
 }
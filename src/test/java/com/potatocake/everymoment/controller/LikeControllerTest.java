@@ -5,8 +5,10 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -84,4 +86,57 @@ class LikeControllerTest {
         then(likeService).should().toggleLike(memberId, diaryId);
     }
 
+    @Test
+    @DisplayName("좋아요가 성공적으로 추가된다.")
+    void should_Like_When_ValidRequest() throws Exception {
+        // given
+        Long diaryId = 1L;
+        MemberDetails memberDetails = createMemberDetails(1L);
+
+        willDoNothing().given(likeService).like(1L, diaryId);
+
+        // when
+        ResultActions result = mockMvc.perform(put("/api/diaries/{diaryId}/likes", diaryId)
+                .with(user(memberDetails))
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("success"));
+
+        then(likeService).should().like(1L, diaryId);
+    }
+
+    @Test
+    @DisplayName("좋아요가 성공적으로 취소된다.")
+    void should_Unlike_When_ValidRequest() throws Exception {
+        // given
+        Long diaryId = 1L;
+        MemberDetails memberDetails = createMemberDetails(1L);
+
+        willDoNothing().given(likeService).unlike(1L, diaryId);
+
+        // when
+        ResultActions result = mockMvc.perform(delete("/api/diaries/{diaryId}/likes", diaryId)
+                .with(user(memberDetails))
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.message").value("success"));
+
+        then(likeService).should().unlike(1L, diaryId);
+    }
+
+    private MemberDetails createMemberDetails(Long memberId) {
+        Member member = Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        return new MemberDetails(member);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.potatocake.everymoment.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -11,7 +12,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.potatocake.everymoment.dto.request.NotificationReadRequest;
+import com.potatocake.everymoment.dto.response.NotificationInboxResponse;
 import com.potatocake.everymoment.dto.response.NotificationListResponse;
+import com.potatocake.everymoment.dto.response.NotificationReadResponse;
+import com.potatocake.everymoment.dto.response.UnreadNotificationCountResponse;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.security.MemberDetails;
 import com.potatocake.everymoment.service.NotificationService;
@@ -22,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -31,6 +38,9 @@ class NotificationControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private NotificationService notificationService;
 
@@ -84,6 +94,103 @@ class NotificationControllerTest {
         then(notificationService).should().getNotifications(memberId);
     }
 
+    @Test
+    @DisplayName("알림함이 커서 기반으로 성공적으로 조회된다.")
+    void should_GetNotificationInbox_When_ValidRequest() throws Exception {
+        // given
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        MemberDetails memberDetails = new MemberDetails(member);
+
+        NotificationInboxResponse response = NotificationInboxResponse.builder()
+                .notifications(List.of(NotificationListResponse.builder()
+                        .id(30L)
+                        .content("Notification 30")
+                        .type("LIKE")
+                        .targetId(1L)
+                        .isRead(false)
+                        .createdAt(LocalDateTime.now())
+                        .build()))
+                .next(30L)
+                .build();
+
+        given(notificationService.getNotificationInbox(memberId, 40L, 1)).willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/notifications/inbox")
+                .param("key", "40")
+                .param("size", "1")
+                .with(user(memberDetails)));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.info.notifications[0].id").value(30))
+                .andExpect(jsonPath("$.info.next").value(30));
+
+        then(notificationService).should().getNotificationInbox(memberId, 40L, 1);
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수가 성공적으로 조회된다.")
+    void should_GetUnreadCount_When_ValidRequest() throws Exception {
+        // given
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        MemberDetails memberDetails = new MemberDetails(member);
+
+        given(notificationService.getUnreadNotificationCount(memberId))
+                .willReturn(UnreadNotificationCountResponse.builder().unreadCount(3).build());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/notifications/unread-count")
+                .with(user(memberDetails)));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.info.unreadCount").value(3));
+    }
+
+    @Test
+    @DisplayName("알림이 성공적으로 일괄 읽음 처리된다.")
+    void should_UpdateNotifications_When_ValidRequest() throws Exception {
+        // given
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .number(1234L)
+                .nickname("testUser")
+                .build();
+        MemberDetails memberDetails = new MemberDetails(member);
+
+        NotificationReadRequest request = new NotificationReadRequest(30L, null);
+
+        given(notificationService.updateNotifications(eq(memberId), any(NotificationReadRequest.class)))
+                .willReturn(NotificationReadResponse.builder().updatedCount(7).build());
+
+        // when
+        ResultActions result = mockMvc.perform(patch("/api/notifications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .with(user(memberDetails))
+                .with(csrf()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.info.updatedCount").value(7));
+
+        then(notificationService).should().updateNotifications(eq(memberId), any(NotificationReadRequest.class));
+    }
+
     @Test
     @DisplayName("알림이 성공적으로 읽음 처리된다.")
     void should_UpdateNotification_When_ValidId() throws Exception {
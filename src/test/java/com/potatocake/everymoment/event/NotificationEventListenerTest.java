@@ -0,0 +1,103 @@
+package com.potatocake.everymoment.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.potatocake.everymoment.config.NotificationOutboxProperties;
+import com.potatocake.everymoment.service.NotificationOutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+class NotificationEventListenerTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    private NotificationOutboxRelay notificationOutboxRelay;
+    private TaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final NotificationOutboxProperties properties = new NotificationOutboxProperties(BATCH_SIZE, 8,
+            Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofMillis(20));
+
+    private final NotificationCreatedEvent event = new NotificationCreatedEvent(1L, 10L);
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxRelay = mock(NotificationOutboxRelay.class);
+        taskScheduler = mock(TaskScheduler.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("linger 동안 들어온 알림은 한 번의 relay 실행으로 모인다.")
+    void should_CoalesceWakeUps_When_EventsArriveWithinLinger() {
+        // given
+        Executor directExecutor = Runnable::run;
+        NotificationEventListener listener = createListener(directExecutor);
+
+        // when
+        listener.handle(event);
+        listener.handle(event);
+
+        // then
+        ArgumentCaptor<Runnable> wakeUp = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should(times(1)).schedule(wakeUp.capture(), any(Instant.class));
+        then(notificationOutboxRelay).should(never()).drain();
+
+        wakeUp.getValue().run();
+        then(notificationOutboxRelay).should(times(1)).drain();
+    }
+
+    @Test
+    @DisplayName("모인 알림이 배치 크기에 도달하면 기다리지 않고 바로 relay 를 깨운다.")
+    void should_DrainImmediately_When_BatchSizeReached() {
+        // given
+        Executor directExecutor = Runnable::run;
+        NotificationEventListener listener = createListener(directExecutor);
+
+        // when
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            listener.handle(event);
+        }
+
+        // then
+        then(notificationOutboxRelay).should(times(1)).drain();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 다음 주기로 미루고 거절 횟수를 기록한다.")
+    void should_CountRejection_When_ExecutorRejects() {
+        // given
+        Executor rejectingExecutor = command -> {
+            throw new RejectedExecutionException();
+        };
+        NotificationEventListener listener = createListener(rejectingExecutor);
+
+        // when
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            listener.handle(event);
+        }
+
+        // then
+        then(notificationOutboxRelay).should(never()).drain();
+        assertThat(meterRegistry.counter("notification.dispatch.rejected").count()).isEqualTo(1.0);
+    }
+
+    private NotificationEventListener createListener(Executor executor) {
+        return new NotificationEventListener(notificationOutboxRelay, executor, taskScheduler, properties,
+                meterRegistry);
+    }
+
+}
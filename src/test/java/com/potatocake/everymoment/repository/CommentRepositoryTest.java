@@ -6,7 +6,10 @@ import com.potatocake.everymoment.entity.Comment;
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.Member;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
@@ -14,8 +17,12 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.TestPropertySource;
 
 @TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
@@ -31,6 +38,9 @@ class CommentRepositoryTest {
     @Autowired
     private DiaryRepository diaryRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("댓글이 성공적으로 저장된다.")
     void should_SaveComment_When_ValidEntity() {
@@ -215,6 +225,39 @@ class CommentRepositoryTest {
         assertThat(foundComment).isEmpty();
     }
 
+    @Test
+    @DisplayName("댓글을 id 순으로 스크롤 조회하고, 작성자를 함께 불러온다.")
+    void should_ScrollCommentsWithMember_When_KeyGiven() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = createAndSaveDiary(member);
+
+        List<Comment> comments = commentRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(i -> Comment.builder()
+                        .member(member)
+                        .diary(diary)
+                        .content("Comment " + i)
+                        .build())
+                .toList());
+        Long oldestId = comments.get(0).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Window<Comment> first = commentRepository.findByDiaryId(diary.getId(),
+                ScrollPosition.offset(), PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id")));
+        Window<Comment> second = commentRepository.findByDiaryId(diary.getId(),
+                ScrollPosition.forward(Map.of("id", first.getContent().get(1).getId())),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id")));
+
+        // then
+        assertThat(first.getContent()).extracting(Comment::getId).containsExactly(oldestId, oldestId + 1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Comment::getId).containsExactly(oldestId + 2, oldestId + 3);
+        assertThat(first.getContent()).allMatch(comment -> Hibernate.isInitialized(comment.getMember()));
+    }
+
     private Member createAndSaveMember() {
         Member member = Member.builder()
                 .number(1234L)
@@ -3,8 +3,10 @@ package com.potatocake.everymoment.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.potatocake.everymoment.entity.Diary;
+import com.potatocake.everymoment.entity.Like;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.service.DiarySpecification;
+import com.potatocake.everymoment.service.LikeDiarySearchEngine;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,9 @@ class DiaryRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private LikeRepository likeRepository;
+
     @Test
     @DisplayName("일기가 성공적으로 저장된다.")
     void should_SaveDiary_When_ValidEntity() {
@@ -101,7 +106,6 @@ class DiaryRepositoryTest {
 
         // when
         Specification<Diary> spec = DiarySpecification.filterDiaries(
-                "Seoul",    // keyword
                 List.of("😊"), // emojis
                 null,      // categories
                 null,      // date
@@ -109,7 +113,7 @@ class DiaryRepositoryTest {
                 null,      // until
                 false,     // isBookmark
                 true       // isPublic
-        );
+        ).and(new LikeDiarySearchEngine().matches("Seoul"));
 
         Page<Diary> result = diaryRepository.findAll(spec, PageRequest.of(0, 10));
 
@@ -151,7 +155,6 @@ class DiaryRepositoryTest {
 
         // when
         Specification<Diary> spec = DiarySpecification.filterDiaries(
-                null,    // keyword
                 null,    // emojis
                 null,    // categories
                 null,    // date
@@ -168,6 +171,78 @@ class DiaryRepositoryTest {
         assertThat(result.getContent().get(0).isBookmark()).isTrue();
     }
 
+    @Test
+    @DisplayName("좋아요 증감을 반영하고, 음수로 내려가지 않는다.")
+    void should_AddLikeCount() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = diaryRepository.save(createDiary(member, "Content", "Seoul", "Seoul Address"));
+
+        // when
+        diaryRepository.addLikeCount(List.of(diary.getId()), 3);
+        long added = diaryRepository.findById(diary.getId()).orElseThrow().getLikeCount();
+
+        diaryRepository.addLikeCount(List.of(diary.getId()), -5);
+        long floored = diaryRepository.findById(diary.getId()).orElseThrow().getLikeCount();
+
+        // then
+        assertThat(added).isEqualTo(3L);
+        assertThat(floored).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 수를 likes 테이블 기준으로 다시 계산한다.")
+    void should_RecountLikeCount_When_Drifted() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = diaryRepository.save(createDiary(member, "Content", "Seoul", "Seoul Address"));
+        likeRepository.save(Like.builder()
+                .member(member)
+                .diary(diary)
+                .build());
+        diaryRepository.addLikeCount(List.of(diary.getId()), 5);
+
+        // when
+        int updated = diaryRepository.recountLikeCount(List.of(diary.getId()));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(diaryRepository.findById(diary.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 수를 원자적으로 증감하고, 여러 일기의 수를 한 번에 조회한다.")
+    void should_UpdateCommentCount_And_FindCounts() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = diaryRepository.save(createDiary(member, "Content 1", "Seoul", "Seoul Address"));
+        Diary other = diaryRepository.save(createDiary(member, "Content 2", "Busan", "Busan Address"));
+
+        // when
+        diaryRepository.incrementCommentCount(diary.getId());
+        diaryRepository.incrementCommentCount(diary.getId());
+        diaryRepository.decrementCommentCount(diary.getId());
+        diaryRepository.decrementCommentCount(other.getId());
+        diaryRepository.addLikeCount(List.of(diary.getId()), 2);
+
+        List<DiaryRepository.DiaryCounts> counts = diaryRepository.findCountsByIdIn(
+                List.of(diary.getId(), other.getId()));
+
+        // then
+        assertThat(diaryRepository.findCommentCountById(diary.getId())).contains(1L);
+        assertThat(counts).hasSize(2)
+                .anySatisfy(count -> {
+                    assertThat(count.getDiaryId()).isEqualTo(diary.getId());
+                    assertThat(count.getMemberId()).isEqualTo(member.getId());
+                    assertThat(count.getLikeCount()).isEqualTo(2L);
+                    assertThat(count.getCommentCount()).isEqualTo(1L);
+                })
+                .anySatisfy(count -> {
+                    assertThat(count.getDiaryId()).isEqualTo(other.getId());
+                    assertThat(count.getCommentCount()).isZero();
+                });
+    }
+
     private Member createAndSaveMember() {
         Member member = Member.builder()
                 .number(1234L)
@@ -0,0 +1,176 @@
+package com.potatocake.everymoment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.potatocake.everymoment.config.JpaAuditingConfig;
+import com.potatocake.everymoment.entity.Diary;
+import com.potatocake.everymoment.entity.FeedEntry;
+import com.potatocake.everymoment.entity.Friend;
+import com.potatocake.everymoment.entity.Member;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.TestPropertySource;
+
+@Import(JpaAuditingConfig.class)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@DataJpaTest
+class FeedEntryRepositoryTest {
+
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("공개 일기가 작성자의 친구 피드에만 추가된다.")
+    void should_FanOutToFriends_When_DiaryPublished() {
+        // given
+        Member author = createAndSaveMember("author", 1L);
+        Member friend1 = createAndSaveMember("friend1", 2L);
+        Member friend2 = createAndSaveMember("friend2", 3L);
+        Member stranger = createAndSaveMember("stranger", 4L);
+
+        saveFriendship(friend1, author);
+        saveFriendship(friend2, author);
+
+        Diary diary = createAndSaveDiary(author, true);
+
+        // when
+        int inserted = feedEntryRepository.fanOut(diary.getId());
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        assertThat(findFeed(friend1)).extracting(entry -> entry.getDiary().getId()).containsExactly(diary.getId());
+        assertThat(findFeed(friend2)).extracting(entry -> entry.getDiary().getId()).containsExactly(diary.getId());
+        assertThat(findFeed(stranger)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 일기를 다시 추가해도 피드에 중복되지 않는다.")
+    void should_NotDuplicate_When_FanOutTwice() {
+        // given
+        Member author = createAndSaveMember("author", 1L);
+        Member friend = createAndSaveMember("friend", 2L);
+        saveFriendship(friend, author);
+
+        Diary diary = createAndSaveDiary(author, true);
+        feedEntryRepository.fanOut(diary.getId());
+
+        // when
+        int inserted = feedEntryRepository.fanOut(diary.getId());
+
+        // then
+        assertThat(inserted).isZero();
+        assertThat(findFeed(friend)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("친구가 되면 상대방의 공개 일기만 피드에 채워진다.")
+    void should_BackfillPublicDiaries_When_FriendshipCreated() {
+        // given
+        Member author = createAndSaveMember("author", 1L);
+        Member member = createAndSaveMember("member", 2L);
+
+        Diary publicDiary = createAndSaveDiary(author, true);
+        createAndSaveDiary(author, false);
+
+        // when
+        int inserted = feedEntryRepository.backfill(member.getId(), author.getId());
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(findFeed(member)).extracting(entry -> entry.getDiary().getId())
+                .containsExactly(publicDiary.getId());
+    }
+
+    @Test
+    @DisplayName("친구가 끊기면 상대방의 일기가 피드에서 제거된다.")
+    void should_RemoveEntries_When_FriendshipDeleted() {
+        // given
+        Member author = createAndSaveMember("author", 1L);
+        Member member = createAndSaveMember("member", 2L);
+        createAndSaveDiary(author, true);
+        createAndSaveDiary(author, true);
+        feedEntryRepository.backfill(member.getId(), author.getId());
+
+        // when
+        int deleted = feedEntryRepository.deleteByMemberIdAndAuthorId(member.getId(), author.getId());
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(findFeed(member)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일기가 비공개로 바뀌면 모든 피드에서 제거된다.")
+    void should_RemoveEntries_When_DiaryRetracted() {
+        // given
+        Member author = createAndSaveMember("author", 1L);
+        Member friend = createAndSaveMember("friend", 2L);
+        saveFriendship(friend, author);
+
+        Diary diary = createAndSaveDiary(author, true);
+        feedEntryRepository.fanOut(diary.getId());
+
+        // when
+        int deleted = feedEntryRepository.deleteByDiaryId(diary.getId());
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(findFeed(friend)).isEmpty();
+    }
+
+    private List<FeedEntry> findFeed(Member member) {
+        Window<FeedEntry> window = feedEntryRepository.findByMemberId(member.getId(), ScrollPosition.keyset(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "diaryCreateAt", "id")));
+        return window.getContent();
+    }
+
+    private void saveFriendship(Member member, Member friend) {
+        friendRepository.save(Friend.builder()
+                .member(member)
+                .friend(friend)
+                .build());
+    }
+
+    private Member createAndSaveMember(String nickname, Long number) {
+        Member member = Member.builder()
+                .nickname(nickname)
+                .number(number)
+                .build();
+        return memberRepository.save(member);
+    }
+
+    private Diary createAndSaveDiary(Member member, boolean isPublic) {
+        Point point = new GeometryFactory().createPoint(new Coordinate(37.5665, 126.978));
+
+        Diary diary = Diary.builder()
+                .member(member)
+                .content("Test diary")
+                .locationName("Test location")
+                .address("Test address")
+                .locationPoint(point)
+                .isPublic(isPublic)
+                .build();
+        return diaryRepository.save(diary);
+    }
+
+}
@@ -5,7 +5,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.File;
 import com.potatocake.everymoment.entity.Member;
+import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
@@ -13,9 +16,13 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.TestPropertySource;
 
-@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 @DataJpaTest
 class FileRepositoryTest {
 
@@ -28,6 +35,9 @@ class FileRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("파일이 성공적으로 저장된다.")
     void should_SaveFile_When_ValidEntity() {
@@ -152,6 +162,64 @@ class FileRepositoryTest {
         assertThat(foundFile.getOrder()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("여러 일기의 첫 번째 파일이 한 번에 조회된다.")
+    void should_FindThumbnails_When_FilteringByDiaryIdsAndOrder() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary1 = createAndSaveDiary(member);
+        Diary diary2 = createAndSaveDiary(member);
+
+        fileRepository.saveAll(List.of(
+                File.builder().diary(diary1).imageUrl("https://example.com/diary1/image1.jpg").order(1).build(),
+                File.builder().diary(diary1).imageUrl("https://example.com/diary1/image2.jpg").order(2).build(),
+                File.builder().diary(diary2).imageUrl("https://example.com/diary2/image1.jpg").order(1).build()
+        ));
+
+        // when
+        List<File> thumbnails = fileRepository.findByDiaryIdInAndOrder(List.of(diary1.getId(), diary2.getId()), 1);
+
+        // then
+        assertThat(thumbnails)
+                .extracting("imageUrl")
+                .containsExactlyInAnyOrder(
+                        "https://example.com/diary1/image1.jpg",
+                        "https://example.com/diary2/image1.jpg"
+                );
+    }
+
+    @Test
+    @DisplayName("썸네일 일괄 조회의 쿼리 수는 일기 수와 무관하게 일정하다.")
+    void should_ExecuteSingleStatement_When_PageSizeGrows() {
+        // given
+        Member member = createAndSaveMember();
+        List<Long> smallPage = createDiariesWithThumbnail(member, 5);
+        List<Long> largePage = createDiariesWithThumbnail(member, 50);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        // when
+        statistics.clear();
+        List<File> smallThumbnails = fileRepository.findByDiaryIdInAndOrder(smallPage, 1);
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<File> largeThumbnails = fileRepository.findByDiaryIdInAndOrder(largePage, 1);
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(smallThumbnails).hasSize(5);
+        assertThat(largeThumbnails).hasSize(50);
+        assertThat(smallPageStatements).isEqualTo(1);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
     @Test
     @DisplayName("일기의 모든 파일이 성공적으로 삭제된다.")
     void should_DeleteAllFiles_When_DeletingByDiary() {
@@ -180,7 +248,87 @@ class FileRepositoryTest {
         List<File> remainingFiles = fileRepository.findByDiaryId(diary.getId());
         assertThat(remainingFiles).isEmpty();
     }
-    
+
+    @Test
+    @DisplayName("일기의 마지막 파일 순서와 축소본 URL 이 갱신된다.")
+    void should_UpdateThumbnailUrl_And_FindMaxOrder() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = createAndSaveDiary(member);
+
+        File file = fileRepository.save(File.builder()
+                .diary(diary)
+                .imageUrl("https://example.com/image.jpg")
+                .order(3)
+                .build());
+
+        // when
+        int updated = fileRepository.updateThumbnailUrl(file.getId(), "https://example.com/image_w160.jpg");
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(fileRepository.findById(file.getId()).orElseThrow().getThumbnailUrl())
+                .isEqualTo("https://example.com/image_w160.jpg");
+        assertThat(fileRepository.findMaxOrderByDiaryId(diary.getId())).isEqualTo(3);
+        assertThat(fileRepository.findMaxOrderByDiaryId(-1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("파일이 참조하는 내용 hash 만 조회되고, 같은 hash 의 축소본을 찾을 수 있다.")
+    void should_FindReferencedContentHashes() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = createAndSaveDiary(member);
+        String referenced = "a".repeat(64);
+        String orphan = "b".repeat(64);
+
+        for (int order = 1; order <= 2; order++) {
+            fileRepository.save(File.builder()
+                    .diary(diary)
+                    .imageUrl("https://example.com/images/" + referenced + ".jpg")
+                    .thumbnailUrl(order == 2 ? "https://example.com/images/" + referenced + "_w160.jpg" : null)
+                    .contentHash(referenced)
+                    .order(order)
+                    .build());
+        }
+
+        // when
+        List<String> hashes = fileRepository.findReferencedContentHashes(List.of(referenced, orphan));
+
+        // then
+        assertThat(hashes).containsExactly(referenced);
+        assertThat(fileRepository.findFirstByContentHashAndThumbnailUrlIsNotNull(referenced))
+                .map(File::getThumbnailUrl)
+                .hasValue("https://example.com/images/" + referenced + "_w160.jpg");
+        assertThat(fileRepository.findFirstByContentHashAndThumbnailUrlIsNotNull(orphan)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파일이 참조하는 이미지 URL 만 중복 없이 조회된다.")
+    void should_FindReferencedImageUrls() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = createAndSaveDiary(member);
+        String referenced = "https://example.com/diaries/1/uuid_a.jpg";
+
+        for (int order = 1; order <= 2; order++) {
+            fileRepository.save(File.builder()
+                    .diary(diary)
+                    .imageUrl(referenced)
+                    .order(order)
+                    .build());
+        }
+
+        // when
+        List<String> urls = fileRepository.findReferencedImageUrls(
+                List.of(referenced, "https://example.com/diaries/1/uuid_b.jpg"));
+
+        // then
+        assertThat(urls).containsExactly(referenced);
+    }
+
+
     private Member createAndSaveMember() {
         Member member = Member.builder()
                 .number(1234L)
@@ -190,6 +338,22 @@ class FileRepositoryTest {
         return memberRepository.save(member);
     }
 
+    private List<Long> createDiariesWithThumbnail(Member member, int count) {
+        List<Long> diaryIds = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Diary diary = createAndSaveDiary(member);
+            fileRepository.save(File.builder()
+                    .diary(diary)
+                    .imageUrl("https://example.com/image" + i + ".jpg")
+                    .order(1)
+                    .build());
+            diaryIds.add(diary.getId());
+        }
+
+        return diaryIds;
+    }
+
     private Diary createAndSaveDiary(Member member) {
         Point point = new GeometryFactory().createPoint(new Coordinate(37.5665, 126.978));
 
@@ -2,20 +2,28 @@ package com.potatocake.everymoment.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.potatocake.everymoment.entity.Friend;
 import com.potatocake.everymoment.entity.FriendRequest;
 import com.potatocake.everymoment.entity.Member;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Window;
 import org.springframework.test.context.TestPropertySource;
 
-@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 @DataJpaTest
 class FriendRequestRepositoryTest {
 
@@ -25,6 +33,12 @@ class FriendRequestRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("친구 요청이 성공적으로 저장된다.")
     void should_SaveFriendRequest_When_ValidEntity() {
@@ -143,6 +157,74 @@ class FriendRequestRepositoryTest {
         assertThat(deletedRequest).isEmpty();
     }
 
+    @Test
+    @DisplayName("보낸 요청과 받은 요청의 상대 id 가 일괄 조회된다.")
+    void should_FindRequestCounterpartIds_When_FilteringByMemberIds() {
+        // given
+        Member me = createAndSaveMember("me", 1L);
+        Member sentTo = createAndSaveMember("sentTo", 2L);
+        Member receivedFrom = createAndSaveMember("receivedFrom", 3L);
+        Member other = createAndSaveMember("other", 4L);
+
+        friendRequestRepository.saveAll(List.of(
+                FriendRequest.builder().sender(me).receiver(sentTo).build(),
+                FriendRequest.builder().sender(receivedFrom).receiver(me).build()
+        ));
+
+        List<Long> targetIds = List.of(sentTo.getId(), receivedFrom.getId(), other.getId());
+
+        // when
+        List<Long> sentIds = friendRequestRepository.findReceiverIdsBySenderIdAndReceiverIdIn(me.getId(), targetIds);
+        List<Long> receivedIds = friendRequestRepository.findSenderIdsByReceiverIdAndSenderIdIn(me.getId(),
+                targetIds);
+
+        // then
+        assertThat(sentIds).containsExactly(sentTo.getId());
+        assertThat(receivedIds).containsExactly(receivedFrom.getId());
+    }
+
+    @Test
+    @DisplayName("검색 결과 수와 무관하게 친구 요청 상태 조회는 세 번의 쿼리로 끝난다.")
+    void should_ExecuteThreeStatements_When_ResolvingStatusesForSearchWindow() {
+        // given
+        Member me = createAndSaveMember("me", 1L);
+        List<Long> targetIds = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            Member target = createAndSaveMember("target" + i, 100L + i);
+            targetIds.add(target.getId());
+
+            if (i % 3 == 0) {
+                friendRepository.save(Friend.builder().member(me).friend(target).build());
+            } else if (i % 3 == 1) {
+                friendRequestRepository.save(FriendRequest.builder().sender(me).receiver(target).build());
+            } else {
+                friendRequestRepository.save(FriendRequest.builder().sender(target).receiver(me).build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        List<Long> friendIds = friendRepository.findFriendIdsByMemberId(me.getId());
+        List<Long> sentIds = friendRequestRepository.findReceiverIdsBySenderIdAndReceiverIdIn(me.getId(), targetIds);
+        List<Long> receivedIds = friendRequestRepository.findSenderIdsByReceiverIdAndSenderIdIn(me.getId(),
+                targetIds);
+
+        // then
+        assertThat(friendIds).hasSize(7);
+        assertThat(sentIds).hasSize(7);
+        assertThat(receivedIds).hasSize(6);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
     private Member createAndSaveMember(String nickname, Long number) {
         Member member = Member.builder()
                 .number(number)
@@ -0,0 +1,156 @@
+package com.potatocake.everymoment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.potatocake.everymoment.entity.Diary;
+import com.potatocake.everymoment.entity.Member;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 각 스레드가 자기 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 사용하지 않음
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:likes-concurrency;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest
+class LikeRepositoryConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Diary diary;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        diary = diaryRepository.save(Diary.builder()
+                .member(saveMember(0L))
+                .locationName("Test location")
+                .address("Test address")
+                .locationPoint(new GeometryFactory().createPoint(new Coordinate(37.5665, 126.978)))
+                .isPublic(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.deleteAllInBatch();
+        diaryRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 여러 번 좋아요해도 한 번만 저장된다.")
+    void should_InsertOnce_When_SameMemberLikesConcurrently() throws Exception {
+        // given
+        Member member = saveMember(1L);
+        AtomicInteger inserted = new AtomicInteger();
+
+        // when
+        Queue<Throwable> errors = runConcurrently(LongStream.range(0, THREADS * 4).mapToObj(i -> (Runnable) () ->
+                inserted.addAndGet(transactionTemplate.execute(status ->
+                        likeRepository.insertIgnore(member.getId(), diary.getId())))).toList());
+
+        // then
+        assertThat(errors).isEmpty();
+        assertThat(inserted.get()).isEqualTo(1);
+        assertThat(likeRepository.countByDiary(diary)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 회원이 한 일기에 동시에 좋아요와 취소를 반복해도 증감 합계와 저장된 좋아요 수가 일치한다.")
+    void should_KeepCountConsistent_When_ManyMembersToggleConcurrently() throws Exception {
+        // given
+        List<Member> members = LongStream.rangeClosed(1, THREADS * 2).mapToObj(this::saveMember).toList();
+        AtomicInteger delta = new AtomicInteger();
+
+        // when
+        Queue<Throwable> errors = runConcurrently(members.stream().map(member -> (Runnable) () -> {
+            for (int i = 0; i < 10; i++) {
+                delta.addAndGet(transactionTemplate.execute(status ->
+                        likeRepository.insertIgnore(member.getId(), diary.getId())));
+                delta.addAndGet(-transactionTemplate.execute(status ->
+                        likeRepository.deleteByMemberIdAndDiaryId(member.getId(), diary.getId())));
+            }
+
+            // 짝수 번호 회원만 좋아요 상태로 끝냄
+            if (member.getNumber() % 2 == 0) {
+                delta.addAndGet(transactionTemplate.execute(status ->
+                        likeRepository.insertIgnore(member.getId(), diary.getId())));
+            }
+        }).toList());
+
+        // then
+        assertThat(errors).isEmpty();
+        assertThat(likeRepository.countByDiary(diary)).isEqualTo(THREADS);
+        assertThat(delta.get()).isEqualTo(THREADS);
+    }
+
+    private Queue<Throwable> runConcurrently(List<Runnable> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        tasks.forEach(task -> executor.execute(() -> {
+            try {
+                start.await();
+                task.run();
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        }));
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        return errors;
+    }
+
+    private Member saveMember(Long number) {
+        return memberRepository.save(Member.builder()
+                .number(number)
+                .nickname("member" + number)
+                .profileImageUrl("https://example.com/profile.jpg")
+                .build());
+    }
+
+}
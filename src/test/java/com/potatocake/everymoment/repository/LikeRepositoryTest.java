@@ -13,10 +13,18 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.TestPropertySource;
 
-@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:likes;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
 @DataJpaTest
 class LikeRepositoryTest {
 
@@ -83,25 +91,38 @@ class LikeRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 사용자의 좋아요가 성공적으로 조회된다.")
-    void should_FindLike_When_FilteringByMemberAndDiary() {
+    @DisplayName("이미 좋아요한 일기에 다시 추가하면 무시된다.")
+    void should_IgnoreDuplicate_When_InsertingTwice() {
         // given
         Member member = createAndSaveMember();
         Diary diary = createAndSaveDiary(member);
 
-        Like like = Like.builder()
-                .member(member)
-                .diary(diary)
-                .build();
-        likeRepository.save(like);
+        // when
+        int first = likeRepository.insertIgnore(member.getId(), diary.getId());
+        int second = likeRepository.insertIgnore(member.getId(), diary.getId());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(likeRepository.countByDiary(diary)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 지운 행 수를 반환한다.")
+    void should_ReturnDeletedCount_When_DeletingByMemberAndDiary() {
+        // given
+        Member member = createAndSaveMember();
+        Diary diary = createAndSaveDiary(member);
+        likeRepository.insertIgnore(member.getId(), diary.getId());
 
         // when
-        Optional<Like> foundLike = likeRepository.findByMemberIdAndDiaryIdWithLock(member.getId(), diary.getId());
+        int first = likeRepository.deleteByMemberIdAndDiaryId(member.getId(), diary.getId());
+        int second = likeRepository.deleteByMemberIdAndDiaryId(member.getId(), diary.getId());
 
         // then
-        assertThat(foundLike).isPresent();
-        assertThat(foundLike.get().getMember()).isEqualTo(member);
-        assertThat(foundLike.get().getDiary()).isEqualTo(diary);
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(likeRepository.existsByMemberIdAndDiaryId(member.getId(), diary.getId())).isFalse();
     }
 
     @Test
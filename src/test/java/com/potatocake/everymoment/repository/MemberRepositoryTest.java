@@ -174,4 +174,27 @@ class MemberRepositoryTest {
         assertThat(updatedMember.getProfileImageUrl()).isEqualTo("https://example.com/new.jpg");
     }
 
+    @Test
+    @DisplayName("안 읽은 알림 수가 원자적으로 증가하고 0 아래로 내려가지 않는다.")
+    void should_KeepUnreadCountNonNegative_When_Decremented() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .number(1234L)
+                .nickname("testUser")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .build());
+
+        // when
+        memberRepository.incrementUnreadNotificationCount(member.getId());
+        memberRepository.incrementUnreadNotificationCount(member.getId());
+        int afterIncrement = memberRepository.findUnreadNotificationCountById(member.getId()).orElseThrow();
+
+        memberRepository.decrementUnreadNotificationCount(member.getId(), 5);
+        int afterDecrement = memberRepository.findUnreadNotificationCountById(member.getId()).orElseThrow();
+
+        // then
+        assertThat(afterIncrement).isEqualTo(2);
+        assertThat(afterDecrement).isZero();
+    }
+
 }
@@ -0,0 +1,139 @@
+package com.potatocake.everymoment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.potatocake.everymoment.constant.OutboxStatus;
+import com.potatocake.everymoment.entity.NotificationOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@DataJpaTest
+class NotificationOutboxRepositoryTest {
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Test
+    @DisplayName("발송 시각이 된 대기 중인 outbox 만 id 순으로 조회된다.")
+    void should_FindClaimable_When_PendingAndDue() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        NotificationOutbox due = notificationOutboxRepository.save(createOutbox(now.minusSeconds(1)));
+        NotificationOutbox later = notificationOutboxRepository.save(createOutbox(now.plusMinutes(1)));
+        NotificationOutbox sent = notificationOutboxRepository.save(createOutbox(now.minusSeconds(1)));
+        notificationOutboxRepository.updateStatus(List.of(sent.getId()), OutboxStatus.SENT);
+
+        // when
+        List<NotificationOutbox> result = notificationOutboxRepository.findClaimable(List.of(OutboxStatus.PENDING),
+                now, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result).extracting(NotificationOutbox::getId)
+                .containsExactly(due.getId())
+                .doesNotContain(later.getId(), sent.getId());
+    }
+
+    @Test
+    @DisplayName("조회 개수는 배치 크기로 제한된다.")
+    void should_LimitClaimable_When_BatchSizeGiven() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            notificationOutboxRepository.save(createOutbox(now.minusSeconds(1)));
+        }
+
+        // when
+        List<NotificationOutbox> result = notificationOutboxRepository.findClaimable(List.of(OutboxStatus.PENDING),
+                now, PageRequest.of(0, 3));
+
+        // then
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중인 outbox 도 내용이 바뀌고, 발송 중인 outbox 는 바뀌지 않는다.")
+    void should_UpdatePendingBody_When_WaitingForRetry() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        NotificationOutbox retrying = createOutbox(1L, now);
+        retrying.lease(now.plusMinutes(5));
+        retrying.retry("UNAVAILABLE", now.plusMinutes(10));
+        notificationOutboxRepository.save(retrying);
+
+        NotificationOutbox sending = createOutbox(2L, now);
+        sending.lease(now.plusMinutes(5));
+        notificationOutboxRepository.save(sending);
+        notificationOutboxRepository.flush();
+
+        // when
+        int retryingUpdated = notificationOutboxRepository.updateBodyByNotificationIdAndStatus(
+                retrying.getNotificationId(), OutboxStatus.PENDING, "updated");
+        int sendingUpdated = notificationOutboxRepository.updateBodyByNotificationIdAndStatus(
+                sending.getNotificationId(), OutboxStatus.PENDING, "updated");
+
+        // then
+        assertThat(retryingUpdated).isEqualTo(1);
+        assertThat(sendingUpdated).isZero();
+    }
+
+    @Test
+    @DisplayName("lease 가 끝난 발송 중 outbox 는 다시 가져간다.")
+    void should_ClaimSending_When_LeaseExpired() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        NotificationOutbox expired = createOutbox(now.minusMinutes(10));
+        expired.lease(now.minusSeconds(1));
+        notificationOutboxRepository.save(expired);
+
+        // when
+        List<NotificationOutbox> result = notificationOutboxRepository.findClaimable(
+                List.of(OutboxStatus.PENDING, OutboxStatus.SENDING), now, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result).extracting(NotificationOutbox::getId).containsExactly(expired.getId());
+    }
+
+    @Test
+    @DisplayName("outbox 상태가 일괄 변경된다.")
+    void should_UpdateStatus_When_IdsGiven() {
+        // given
+        NotificationOutbox first = notificationOutboxRepository.save(createOutbox(LocalDateTime.now()));
+        NotificationOutbox second = notificationOutboxRepository.save(createOutbox(LocalDateTime.now()));
+
+        // when
+        int updated = notificationOutboxRepository.updateStatus(List.of(first.getId(), second.getId()),
+                OutboxStatus.SENT);
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationOutboxRepository.countByStatus(OutboxStatus.SENT)).isEqualTo(2);
+        assertThat(notificationOutboxRepository.countByStatus(OutboxStatus.PENDING)).isZero();
+    }
+
+    private NotificationOutbox createOutbox(LocalDateTime nextAttemptAt) {
+        return createOutbox(null, nextAttemptAt);
+    }
+
+    private NotificationOutbox createOutbox(Long notificationId, LocalDateTime nextAttemptAt) {
+        return NotificationOutbox.builder()
+                .notificationId(notificationId)
+                .receiverId(1L)
+                .title("새로운 댓글")
+                .body("test님이 회원님의 일기에 댓글을 남겼습니다.")
+                .type("COMMENT")
+                .targetId(1L)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+}
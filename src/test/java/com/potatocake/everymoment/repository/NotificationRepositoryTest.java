@@ -2,16 +2,26 @@ package com.potatocake.everymoment.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.potatocake.everymoment.config.JpaAuditingConfig;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.entity.Notification;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.TestPropertySource;
 
+@Import(JpaAuditingConfig.class)
 @TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
 @DataJpaTest
 class NotificationRepositoryTest {
@@ -118,4 +128,204 @@ class NotificationRepositoryTest {
         assertThat(remainingNotifications).isEmpty();
     }
 
+    @Test
+    @DisplayName("같은 대상의 안 읽은 알림 중 가장 최근 것이 합칠 대상으로 조회된다.")
+    void should_FindAggregatable_When_UnreadSameTargetExists() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .number(1234L)
+                .nickname("testUser")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .build());
+
+        Notification read = Notification.builder()
+                .member(member)
+                .content("read")
+                .type("LIKE")
+                .targetId(1L)
+                .build();
+        read.updateIsRead();
+
+        Notification unread = Notification.builder()
+                .member(member)
+                .content("unread")
+                .type("LIKE")
+                .targetId(1L)
+                .build();
+
+        Notification otherTarget = Notification.builder()
+                .member(member)
+                .content("other")
+                .type("LIKE")
+                .targetId(2L)
+                .build();
+
+        notificationRepository.saveAll(List.of(read, unread, otherTarget));
+
+        // when
+        Optional<Notification> inWindow = notificationRepository
+                .findFirstByMemberIdAndTypeAndTargetIdAndIsReadFalseAndCreateAtGreaterThanEqualOrderByIdDesc(
+                        member.getId(), "LIKE", 1L, LocalDateTime.now().minusHours(1));
+        Optional<Notification> outOfWindow = notificationRepository
+                .findFirstByMemberIdAndTypeAndTargetIdAndIsReadFalseAndCreateAtGreaterThanEqualOrderByIdDesc(
+                        member.getId(), "LIKE", 1L, LocalDateTime.now().plusHours(1));
+
+        // then
+        assertThat(inWindow).map(Notification::getContent).hasValue("unread");
+        assertThat(outOfWindow).isEmpty();
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림만 묶인 수가 올라간다.")
+    void should_IncrementAggregateCount_When_Unread() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .number(1234L)
+                .nickname("testUser")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .build());
+
+        Notification unread = Notification.builder()
+                .member(member)
+                .content("unread")
+                .type("LIKE")
+                .targetId(1L)
+                .build();
+
+        Notification read = Notification.builder()
+                .member(member)
+                .content("read")
+                .type("LIKE")
+                .targetId(2L)
+                .build();
+        read.updateIsRead();
+
+        notificationRepository.saveAll(List.of(unread, read));
+
+        // when
+        int unreadUpdated = notificationRepository.incrementAggregateCount(unread.getId());
+        int readUpdated = notificationRepository.incrementAggregateCount(read.getId());
+
+        // then
+        assertThat(unreadUpdated).isEqualTo(1);
+        assertThat(readUpdated).isZero();
+        assertThat(notificationRepository.findAggregateCountById(unread.getId())).isEqualTo(2);
+        assertThat(notificationRepository.findAggregateCountById(read.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림함이 id 내림차순 커서로 조회된다.")
+    void should_ScrollInbox_When_KeyGiven() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .number(1234L)
+                .nickname("testUser")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .build());
+
+        List<Notification> notifications = notificationRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(i -> Notification.builder()
+                        .member(member)
+                        .content("Notification " + i)
+                        .type("LIKE")
+                        .targetId((long) i)
+                        .build())
+                .toList());
+        Long newestId = notifications.get(4).getId();
+
+        // when
+        Window<Notification> first = notificationRepository.findByMemberId(member.getId(),
+                ScrollPosition.offset(), PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+        Window<Notification> second = notificationRepository.findByMemberId(member.getId(),
+                ScrollPosition.forward(Map.of("id", first.getContent().get(1).getId())),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+        // then
+        assertThat(first.getContent()).extracting(Notification::getId).containsExactly(newestId, newestId - 1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Notification::getId).containsExactly(newestId - 2, newestId - 3);
+    }
+
+    @Test
+    @DisplayName("지정한 id 이하의 안 읽은 알림만 한 번에 읽음 처리된다.")
+    void should_MarkAsReadUpTo_When_UpToIdGiven() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .number(1234L)
+                .nickname("testUser")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .build());
+
+        List<Notification> notifications = notificationRepository.saveAll(IntStream.range(0, 4)
+                .mapToObj(i -> Notification.builder()
+                        .member(member)
+                        .content("Notification " + i)
+                        .type("LIKE")
+                        .targetId((long) i)
+                        .build())
+                .toList());
+        Long upToId = notifications.get(2).getId();
+
+        // when
+        int updated = notificationRepository.markAsReadUpTo(member.getId(), upToId);
+        int updatedAgain = notificationRepository.markAsReadByIds(member.getId(),
+                List.of(notifications.get(0).getId(), notifications.get(3).getId()));
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        assertThat(updatedAgain).isEqualTo(1);
+        assertThat(notificationRepository.findAll()).allMatch(Notification::isRead);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 알림을 종류별로 찾아 안 읽은 수를 집계하고 삭제한다.")
+    void should_FindCountAndDelete_When_Expired() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .number(1234L)
+                .nickname("testUser")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .build());
+
+        Notification read = Notification.builder()
+                .member(member)
+                .content("read")
+                .type("MOOD_CHECK")
+                .targetId(1L)
+                .build();
+        read.updateIsRead();
+
+        Notification unread = Notification.builder()
+                .member(member)
+                .content("unread")
+                .type("MOOD_CHECK")
+                .targetId(2L)
+                .build();
+
+        Notification otherType = Notification.builder()
+                .member(member)
+                .content("other")
+                .type("LIKE")
+                .targetId(3L)
+                .build();
+
+        notificationRepository.saveAll(List.of(read, unread, otherType));
+
+        // when
+        List<Long> expiredIds = notificationRepository.findExpiredIds("MOOD_CHECK", LocalDateTime.now().plusDays(1),
+                PageRequest.of(0, 10));
+        List<NotificationRepository.UnreadCount> unreadCounts = notificationRepository.countUnreadByMember(expiredIds);
+        int deleted = notificationRepository.deleteAllByIdIn(expiredIds);
+
+        // then
+        assertThat(expiredIds).containsExactly(read.getId(), unread.getId());
+        assertThat(unreadCounts).singleElement().satisfies(count -> {
+            assertThat(count.getMemberId()).isEqualTo(member.getId());
+            assertThat(count.getCount()).isEqualTo(1L);
+        });
+        assertThat(deleted).isEqualTo(2);
+        assertThat(notificationRepository.findAll()).extracting(Notification::getId)
+                .containsExactly(otherType.getId());
+    }
+
 }
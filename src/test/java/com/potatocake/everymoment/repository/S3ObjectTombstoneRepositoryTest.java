@@ -0,0 +1,64 @@
+package com.potatocake.everymoment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.potatocake.everymoment.entity.S3ObjectTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@DataJpaTest
+class S3ObjectTombstoneRepositoryTest {
+
+    @Autowired
+    private S3ObjectTombstoneRepository tombstoneRepository;
+
+    @Test
+    @DisplayName("삭제 시각이 된 tombstone 만 배치 크기만큼 id 순으로 조회된다.")
+    void should_FindClaimable_When_Due() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        S3ObjectTombstone first = tombstoneRepository.save(createTombstone("a.jpg", now.minusSeconds(1)));
+        S3ObjectTombstone second = tombstoneRepository.save(createTombstone("b.jpg", now.minusSeconds(1)));
+        tombstoneRepository.save(createTombstone("c.jpg", now.minusSeconds(1)));
+        S3ObjectTombstone later = tombstoneRepository.save(createTombstone("d.jpg", now.plusMinutes(1)));
+
+        // when
+        List<S3ObjectTombstone> result = tombstoneRepository.findClaimable(now, PageRequest.of(0, 2));
+
+        // then
+        assertThat(result).extracting(S3ObjectTombstone::getId)
+                .containsExactly(first.getId(), second.getId())
+                .doesNotContain(later.getId());
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 tombstone 이 일괄 삭제된다.")
+    void should_DeleteAll_When_IdsGiven() {
+        // given
+        S3ObjectTombstone first = tombstoneRepository.save(createTombstone("a.jpg", LocalDateTime.now()));
+        S3ObjectTombstone second = tombstoneRepository.save(createTombstone("b.jpg", LocalDateTime.now()));
+
+        // when
+        int deleted = tombstoneRepository.deleteAllByIdIn(List.of(first.getId(), second.getId()));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(tombstoneRepository.count()).isZero();
+    }
+
+    private S3ObjectTombstone createTombstone(String key, LocalDateTime nextAttemptAt) {
+        return S3ObjectTombstone.builder()
+                .objectKey(key)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+}
@@ -9,6 +9,7 @@ import static org.mockito.BDDMockito.then;
 
 import com.potatocake.everymoment.constant.NotificationType;
 import com.potatocake.everymoment.dto.request.CommentRequest;
+import com.potatocake.everymoment.dto.response.CommentScrollResponse;
 import com.potatocake.everymoment.dto.response.CommentsResponse;
 import com.potatocake.everymoment.entity.Comment;
 import com.potatocake.everymoment.entity.Diary;
@@ -18,7 +19,9 @@ import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.CommentRepository;
 import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.PagingUtil;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -48,6 +55,9 @@ class CommentServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private PagingUtil pagingUtil;
+
     @Test
     @DisplayName("댓글 목록이 성공적으로 조회된다.")
     void should_GetComments_When_ValidDiaryId() {
@@ -77,6 +87,37 @@ class CommentServiceTest {
         then(commentRepository).should().findAllByDiaryId(eq(diaryId), any(PageRequest.class));
     }
 
+    @Test
+    @DisplayName("댓글 목록이 댓글 id 커서로 성공적으로 조회된다.")
+    void should_GetCommentsByKey_When_ValidDiaryId() {
+        // given
+        Long diaryId = 1L;
+        Member member = Member.builder()
+                .id(1L)
+                .nickname("testUser")
+                .build();
+        List<Comment> comments = List.of(
+                Comment.builder().id(11L).member(member).content("Comment 11").build(),
+                Comment.builder().id(12L).member(member).content("Comment 12").build());
+        Window<Comment> window = Window.from(comments, ScrollPosition::offset, true);
+
+        ScrollPosition scrollPosition = ScrollPosition.forward(Map.of("id", 10L));
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"));
+
+        given(pagingUtil.createScrollPosition(10L)).willReturn(scrollPosition);
+        given(pagingUtil.createPageable(2, Sort.Direction.ASC)).willReturn(pageable);
+        given(commentRepository.findByDiaryId(diaryId, scrollPosition, pageable)).willReturn(window);
+        given(pagingUtil.getNextKey(eq(window), any())).willReturn(12L);
+
+        // when
+        CommentScrollResponse response = commentService.getCommentsByKey(diaryId, 10L, 2);
+
+        // then
+        assertThat(response.getComments()).extracting("id").containsExactly(11L, 12L);
+        assertThat(response.getComments().get(0).getCommentFriendResponse().getNickname()).isEqualTo("testUser");
+        assertThat(response.getNext()).isEqualTo(12L);
+    }
+
     @Test
     @DisplayName("댓글이 성공적으로 생성된다.")
     void should_CreateComment_When_ValidInput() {
@@ -117,6 +158,7 @@ class CommentServiceTest {
 
         // then
         then(commentRepository).should().save(any(Comment.class));
+        then(diaryRepository).should().incrementCommentCount(diaryId);
         then(notificationService).should().createAndSendNotification(
                 eq(diary.getMember().getId()),
                 eq(NotificationType.COMMENT),
@@ -216,4 +258,48 @@ class CommentServiceTest {
         assertThat(comment.getContent()).isEqualTo("Updated content");
     }
 
+    @Test
+    @DisplayName("댓글을 삭제하면 일기의 댓글 수가 줄어든다.")
+    void should_DecrementCommentCount_When_CommentDeleted() {
+        // given
+        Long memberId = 1L;
+        Long commentId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .build();
+        Diary diary = Diary.builder()
+                .id(2L)
+                .build();
+        Comment comment = Comment.builder()
+                .id(commentId)
+                .member(member)
+                .diary(diary)
+                .content("content")
+                .build();
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
+
+        // when
+        commentService.deleteComment(memberId, commentId);
+
+        // then
+        then(commentRepository).should().delete(comment);
+        then(diaryRepository).should().decrementCommentCount(diary.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 수는 일기에 저장된 값으로 조회된다.")
+    void should_ReturnStoredCommentCount_When_ValidDiaryId() {
+        // given
+        given(diaryRepository.findCommentCountById(1L)).willReturn(Optional.of(3L));
+
+        // when
+        Long commentCount = commentService.getCommentCountByDiary(1L);
+
+        // then
+        assertThat(commentCount).isEqualTo(3L);
+        then(commentRepository).shouldHaveNoInteractions();
+    }
+
 }
@@ -15,22 +15,31 @@ import com.potatocake.everymoment.dto.request.DiaryAutoCreateRequest;
 import com.potatocake.everymoment.dto.request.DiaryFilterRequest;
 import com.potatocake.everymoment.dto.request.DiaryManualCreateRequest;
 import com.potatocake.everymoment.dto.request.DiaryPatchRequest;
+import com.potatocake.everymoment.dto.response.DiaryCountResponse;
+import com.potatocake.everymoment.dto.response.DiaryCountsResponse;
 import com.potatocake.everymoment.dto.response.MyDiariesResponse;
 import com.potatocake.everymoment.dto.response.MyDiaryResponse;
 import com.potatocake.everymoment.entity.Category;
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.DiaryCategory;
+import com.potatocake.everymoment.entity.File;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.CategoryRepository;
 import com.potatocake.everymoment.repository.DiaryCategoryRepository;
 import com.potatocake.everymoment.repository.DiaryRepository;
+import com.potatocake.everymoment.repository.DiaryRepository.DiaryCounts;
 import com.potatocake.everymoment.repository.FileRepository;
 import com.potatocake.everymoment.repository.LikeRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
+import com.potatocake.everymoment.util.FriendIdSet;
+import com.potatocake.everymoment.util.LikeCountBuffer;
+import com.potatocake.everymoment.util.S3ObjectReclaimer;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,7 +51,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +86,21 @@ class DiaryServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private DiarySearchEngine diarySearchEngine;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private S3ObjectReclaimer objectReclaimer;
+
+    @Mock
+    private FriendGraphCache friendGraphCache;
+
     @Test
     @DisplayName("자동 일기가 성공적으로 저장된다.")
     void should_SaveAutoDiary_When_ValidInput() {
@@ -255,20 +281,63 @@ class DiaryServiceTest {
                 .locationName("Seoul")
                 .build();
 
+        File thumbnail = File.builder()
+                .id(1L)
+                .diary(diary)
+                .imageUrl("https://example.com/image.jpg")
+                .order(1)
+                .build();
+
         Page<Diary> diaryPage = new PageImpl<>(List.of(diary));
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
         given(diaryRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .willReturn(diaryPage);
+        given(fileRepository.findByDiaryIdInAndOrder(List.of(diary.getId()), 1)).willReturn(List.of(thumbnail));
 
         // when
         MyDiariesResponse response = diaryService.getMyDiaries(memberId, filterRequest);
 
         // then
         assertThat(response.getDiaries()).hasSize(1);
+        assertThat(response.getDiaries().get(0).getThumbnailResponse().getImageUrl())
+                .isEqualTo("https://example.com/image.jpg");
         assertThat(response.getNext()).isNull();
         then(memberRepository).should().findById(memberId);
         then(diaryRepository).should().findAll(any(Specification.class), any(Pageable.class));
+        then(fileRepository).should().findByDiaryIdInAndOrder(List.of(diary.getId()), 1);
+    }
+
+    @Test
+    @DisplayName("키워드가 있으면 검색 엔진의 조건과 정렬로 내 일기 목록이 조회된다.")
+    void should_DelegateToSearchEngine_When_KeywordGiven() {
+        // given
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .build();
+
+        DiaryFilterRequest filterRequest = DiaryFilterRequest.builder()
+                .keyword("바다")
+                .key(0)
+                .size(10)
+                .build();
+
+        Specification<Diary> keywordSpec = (root, query, builder) -> builder.conjunction();
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(diarySearchEngine.matches("바다")).willReturn(keywordSpec);
+        given(diarySearchEngine.sort(any(Sort.class))).willReturn(Sort.unsorted());
+        given(diaryRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .willReturn(Page.empty());
+
+        // when
+        MyDiariesResponse response = diaryService.getMyDiaries(memberId, filterRequest);
+
+        // then
+        assertThat(response.getDiaries()).isEmpty();
+        then(diarySearchEngine).should().matches("바다");
+        then(diaryRepository).should().findAll(any(Specification.class), eq(PageRequest.of(0, 10, Sort.unsorted())));
     }
 
     @Test
@@ -433,6 +502,39 @@ class DiaryServiceTest {
         // then
         then(memberRepository).should().findById(memberId);
         then(diaryRepository).should().findById(diaryId);
+        then(feedService).should().retract(diary);
+        then(diaryRepository).should().delete(diary);
+    }
+
+    @Test
+    @DisplayName("일기를 삭제하면 파일 행을 한 번에 지우고 S3 객체 삭제를 기록한다.")
+    void should_RecordFileObjects_When_DeletingDiary() {
+        // given
+        Long memberId = 1L;
+        Long diaryId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .build();
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(member)
+                .build();
+        List<File> files = List.of(
+                File.builder().id(10L).diary(diary).imageUrl("https://example.com/image1.jpg").order(1).build(),
+                File.builder().id(11L).diary(diary).imageUrl("https://example.com/image2.jpg").order(2).build()
+        );
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(fileRepository.findByDiaryId(diaryId)).willReturn(files);
+
+        // when
+        diaryService.deleteDiary(memberId, diaryId);
+
+        // then
+        then(fileRepository).should().deleteAllByIdInBatch(List.of(10L, 11L));
+        then(objectReclaimer).should().recordWithRenditions(
+                List.of("https://example.com/image1.jpg", "https://example.com/image2.jpg"));
         then(diaryRepository).should().delete(diary);
     }
 
@@ -488,6 +590,7 @@ class DiaryServiceTest {
         assertThat(diary.isPublic()).isTrue();
         then(memberRepository).should().findById(memberId);
         then(diaryRepository).should().findById(diaryId);
+        then(feedService).should().fanOut(diary);
     }
 
     @Test
@@ -521,4 +624,77 @@ class DiaryServiceTest {
         then(diaryRepository).should().findById(diaryId);
     }
 
+    @Test
+    @DisplayName("여러 일기의 좋아요/댓글 수를 한 번에 조회한다.")
+    void should_ReturnCounts_When_DiaryIdsGiven() {
+        // given
+        Long memberId = 1L;
+        DiaryCounts counts = mock(DiaryCounts.class);
+        given(counts.getDiaryId()).willReturn(1L);
+        given(counts.getMemberId()).willReturn(memberId);
+        given(counts.getLikeCount()).willReturn(3L);
+        given(counts.getCommentCount()).willReturn(2L);
+
+        given(friendGraphCache.getFriendIds(memberId)).willReturn(FriendIdSet.of(List.of()));
+        given(diaryRepository.findCountsByIdIn(List.of(1L, 2L))).willReturn(List.of(counts));
+        given(likeCountBuffer.countOf(1L, 3L)).willReturn(4L);
+
+        // when
+        DiaryCountsResponse response = diaryService.getDiaryCounts(memberId, List.of(1L, 2L));
+
+        // then
+        assertThat(response.getCounts()).singleElement().satisfies(count -> {
+            assertThat(count.getDiaryId()).isEqualTo(1L);
+            assertThat(count.getLikeCount()).isEqualTo(4L);
+            assertThat(count.getCommentCount()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    @DisplayName("친구의 공개 일기 수는 조회되고, 비공개 일기나 친구가 아닌 회원의 일기 수는 제외된다.")
+    void should_ExcludeCounts_When_DiaryNotVisible() {
+        // given
+        Long memberId = 1L;
+        Long friendId = 2L;
+        Long strangerId = 3L;
+
+        DiaryCounts friendPublic = mock(DiaryCounts.class);
+        given(friendPublic.getDiaryId()).willReturn(10L);
+        given(friendPublic.getMemberId()).willReturn(friendId);
+        given(friendPublic.getIsPublic()).willReturn(true);
+        given(friendPublic.getLikeCount()).willReturn(1L);
+
+        DiaryCounts friendPrivate = mock(DiaryCounts.class);
+        given(friendPrivate.getMemberId()).willReturn(friendId);
+        given(friendPrivate.getIsPublic()).willReturn(false);
+
+        DiaryCounts strangerPublic = mock(DiaryCounts.class);
+        given(strangerPublic.getMemberId()).willReturn(strangerId);
+        given(strangerPublic.getIsPublic()).willReturn(true);
+
+        List<Long> diaryIds = List.of(10L, 11L, 12L);
+        given(friendGraphCache.getFriendIds(memberId)).willReturn(FriendIdSet.of(List.of(friendId)));
+        given(diaryRepository.findCountsByIdIn(diaryIds))
+                .willReturn(List.of(friendPublic, friendPrivate, strangerPublic));
+        given(likeCountBuffer.countOf(10L, 1L)).willReturn(1L);
+
+        // when
+        DiaryCountsResponse response = diaryService.getDiaryCounts(memberId, diaryIds);
+
+        // then
+        assertThat(response.getCounts()).extracting(DiaryCountResponse::getDiaryId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 일기 수를 넘기면 예외가 발생한다.")
+    void should_ThrowException_When_TooManyDiaryIds() {
+        // given
+        List<Long> diaryIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> diaryService.getDiaryCounts(1L, diaryIds))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_DIARY_IDS);
+    }
+
 }
@@ -0,0 +1,81 @@
+package com.potatocake.everymoment.service;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.mockito.quality.Strictness;
+
+// 네트워크 없이 sendEach 호출을 기록하고 지정한 결과를 돌려주는 FirebaseMessaging
+class FakeFirebaseMessaging {
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final List<List<Message>> batches = new ArrayList<>();
+
+    private boolean unavailable;
+    private MessagingErrorCode failure;
+
+    FakeFirebaseMessaging() throws FirebaseMessagingException {
+        this.firebaseMessaging = mock(FirebaseMessaging.class, withSettings().strictness(Strictness.LENIENT));
+        given(firebaseMessaging.sendEach(anyList())).willAnswer(invocation -> respond(invocation.getArgument(0)));
+    }
+
+    FirebaseMessaging firebaseMessaging() {
+        return firebaseMessaging;
+    }
+
+    List<List<Message>> batches() {
+        return batches;
+    }
+
+    // sendEach 호출 자체가 실패 (FCM 장애)
+    void unavailable() {
+        this.unavailable = true;
+    }
+
+    // 모든 메시지가 지정한 에러 코드로 실패
+    void failWith(MessagingErrorCode errorCode) {
+        this.failure = errorCode;
+    }
+
+    private BatchResponse respond(List<Message> messages) throws FirebaseMessagingException {
+        batches.add(List.copyOf(messages));
+
+        if (unavailable) {
+            throw exception(MessagingErrorCode.UNAVAILABLE);
+        }
+
+        List<SendResponse> responses = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            SendResponse response = mock(SendResponse.class, withSettings().strictness(Strictness.LENIENT));
+            given(response.isSuccessful()).willReturn(failure == null);
+            if (failure != null) {
+                FirebaseMessagingException exception = exception(failure);
+                given(response.getException()).willReturn(exception);
+            }
+            responses.add(response);
+        }
+
+        BatchResponse batchResponse = mock(BatchResponse.class, withSettings().strictness(Strictness.LENIENT));
+        given(batchResponse.getResponses()).willReturn(responses);
+        return batchResponse;
+    }
+
+    private FirebaseMessagingException exception(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class,
+                withSettings().strictness(Strictness.LENIENT));
+        given(exception.getMessagingErrorCode()).willReturn(errorCode);
+        given(exception.getMessage()).willReturn(errorCode.name());
+        return exception;
+    }
+
+}
@@ -2,6 +2,8 @@ package com.potatocake.everymoment.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -12,13 +14,16 @@ import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.SendResponse;
-import com.potatocake.everymoment.dto.request.FcmNotificationRequest;
 import com.potatocake.everymoment.entity.DeviceToken;
 import com.potatocake.everymoment.entity.Member;
+import com.potatocake.everymoment.entity.NotificationOutbox;
 import com.potatocake.everymoment.repository.DeviceTokenRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,35 +47,31 @@ class FcmServiceTest {
     private MemberRepository memberRepository;
 
     @Test
-    @DisplayName("알림이 성공적으로 전송된다.")
-    void should_SendNotification_When_ValidInput() throws Exception {
+    @DisplayName("여러 수신자의 알림이 한 번의 sendEach 로 전송된다.")
+    void should_SendInSingleBatch_When_MultipleReceivers() throws Exception {
         // given
-        Long targetMemberId = 1L;
-        DeviceToken deviceToken = DeviceToken.builder()
-                .fcmToken("fcm-token-123")
-                .build();
+        Member first = Member.builder().id(1L).build();
+        Member second = Member.builder().id(2L).build();
 
-        FcmNotificationRequest request = FcmNotificationRequest.builder()
-                .title("Test Title")
-                .body("Test Body")
-                .type("TEST")
-                .targetId(1L)
-                .build();
+        List<DeviceToken> deviceTokens = List.of(
+                DeviceToken.builder().member(first).fcmToken("token-1").build(),
+                DeviceToken.builder().member(second).fcmToken("token-2").build(),
+                DeviceToken.builder().member(second).fcmToken("token-3").build());
 
         BatchResponse batchResponse = mock(BatchResponse.class);
         SendResponse sendResponse = mock(SendResponse.class);
         given(sendResponse.isSuccessful()).willReturn(true);
-        given(batchResponse.getResponses()).willReturn(List.of(sendResponse));
+        given(batchResponse.getResponses()).willReturn(List.of(sendResponse, sendResponse, sendResponse));
 
-        given(deviceTokenRepository.findAllByMemberId(targetMemberId))
-                .willReturn(List.of(deviceToken));
-        given(firebaseMessaging.sendEach(any())).willReturn(batchResponse);
+        given(deviceTokenRepository.findAllByMemberIdIn(Set.of(1L, 2L))).willReturn(deviceTokens);
+        given(firebaseMessaging.sendEach(anyList())).willReturn(batchResponse);
 
         // when
-        fcmService.sendNotification(targetMemberId, request);
+        Map<Long, String> failures = fcmService.sendAll(List.of(createOutbox(10L, 1L), createOutbox(20L, 2L)));
 
         // then
-        then(firebaseMessaging).should().sendEach(any());
+        assertThat(failures).isEmpty();
+        then(firebaseMessaging).should().sendEach(argThat(messages -> messages.size() == 3));
     }
 
     @Test
@@ -143,39 +144,45 @@ class FcmServiceTest {
     }
 
     @Test
-    @DisplayName("잘못된 토큰은 자동으로 삭제된다.")
+    @DisplayName("잘못된 토큰은 응답 순서에 맞춰 찾아 자동으로 삭제된다.")
     void should_DeleteToken_When_TokenInvalid() throws Exception {
         // given
-        Long targetMemberId = 1L;
-        DeviceToken deviceToken = DeviceToken.builder()
-                .fcmToken("invalid-token")
-                .build();
-
-        FcmNotificationRequest request = FcmNotificationRequest.builder()
-                .title("Test Title")
-                .body("Test Body")
-                .type("TEST")
-                .targetId(1L)
-                .build();
+        Member member = Member.builder().id(1L).build();
+        DeviceToken validToken = DeviceToken.builder().member(member).fcmToken("valid-token").build();
+        DeviceToken invalidToken = DeviceToken.builder().member(member).fcmToken("invalid-token").build();
 
         BatchResponse batchResponse = mock(BatchResponse.class);
-        SendResponse sendResponse = mock(SendResponse.class);
+        SendResponse success = mock(SendResponse.class);
+        SendResponse failure = mock(SendResponse.class);
         FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
 
-        given(sendResponse.isSuccessful()).willReturn(false);
-        given(sendResponse.getException()).willReturn(exception);
+        given(success.isSuccessful()).willReturn(true);
+        given(failure.isSuccessful()).willReturn(false);
+        given(failure.getException()).willReturn(exception);
         given(exception.getMessagingErrorCode()).willReturn(MessagingErrorCode.UNREGISTERED);
-        given(batchResponse.getResponses()).willReturn(List.of(sendResponse));
+        given(batchResponse.getResponses()).willReturn(List.of(success, failure));
 
-        given(deviceTokenRepository.findAllByMemberId(targetMemberId))
-                .willReturn(List.of(deviceToken));
-        given(firebaseMessaging.sendEach(any())).willReturn(batchResponse);
+        given(deviceTokenRepository.findAllByMemberIdIn(Set.of(1L))).willReturn(List.of(validToken, invalidToken));
+        given(firebaseMessaging.sendEach(anyList())).willReturn(batchResponse);
 
         // when
-        fcmService.sendNotification(targetMemberId, request);
+        Map<Long, String> failures = fcmService.sendAll(List.of(createOutbox(10L, 1L)));
 
         // then
-        then(deviceTokenRepository).should().deleteAll(any());
+        assertThat(failures).isEmpty();
+        then(deviceTokenRepository).should().deleteAll(List.of(invalidToken));
+    }
+
+    private NotificationOutbox createOutbox(Long id, Long receiverId) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .receiverId(receiverId)
+                .title("Test Title")
+                .body("Test Body")
+                .type("TEST")
+                .targetId(1L)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
     }
 
 }
@@ -0,0 +1,152 @@
+package com.potatocake.everymoment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.potatocake.everymoment.config.FeedProperties;
+import com.potatocake.everymoment.entity.Diary;
+import com.potatocake.everymoment.repository.FeedEntryRepository;
+import com.potatocake.everymoment.util.PagingUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    @InjectMocks
+    private FeedService feedService;
+
+    @Mock
+    private FeedEntryRepository feedEntryRepository;
+
+    @Mock
+    private FeedProperties feedProperties;
+
+    @Mock
+    private PagingUtil pagingUtil;
+
+    @Test
+    @DisplayName("공개 일기가 친구 피드에 추가된다.")
+    void should_FanOut_When_DiaryIsPublic() {
+        // given
+        Diary diary = Diary.builder()
+                .id(1L)
+                .isPublic(true)
+                .build();
+
+        given(feedProperties.fanOutEnabled()).willReturn(true);
+
+        // when
+        feedService.fanOut(diary);
+
+        // then
+        then(feedEntryRepository).should().fanOut(diary.getId());
+    }
+
+    @Test
+    @DisplayName("비공개 일기는 친구 피드에 추가되지 않는다.")
+    void should_NotFanOut_When_DiaryIsPrivate() {
+        // given
+        Diary diary = Diary.builder()
+                .id(1L)
+                .isPublic(false)
+                .build();
+
+        given(feedProperties.fanOutEnabled()).willReturn(true);
+
+        // when
+        feedService.fanOut(diary);
+
+        // then
+        then(feedEntryRepository).should(never()).fanOut(diary.getId());
+    }
+
+    @Test
+    @DisplayName("팬아웃이 꺼져 있으면 피드를 채우지 않는다.")
+    void should_SkipBackfill_When_FanOutDisabled() {
+        // given
+        given(feedProperties.fanOutEnabled()).willReturn(false);
+
+        // when
+        feedService.backfill(1L, 2L);
+
+        // then
+        then(feedEntryRepository).should(never()).backfill(1L, 2L);
+        then(feedEntryRepository).should(never()).backfill(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("친구가 되면 서로의 공개 일기가 피드에 채워진다.")
+    void should_BackfillBothDirections_When_FanOutEnabled() {
+        // given
+        given(feedProperties.fanOutEnabled()).willReturn(true);
+
+        // when
+        feedService.backfill(1L, 2L);
+
+        // then
+        then(feedEntryRepository).should().backfill(1L, 2L);
+        then(feedEntryRepository).should().backfill(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("친구가 끊기면 서로의 일기가 피드에서 제거된다.")
+    void should_CleanupBothDirections_When_FriendshipDeleted() {
+        // given
+        given(feedProperties.fanOutEnabled()).willReturn(true);
+
+        // when
+        feedService.cleanup(1L, 2L);
+
+        // then
+        then(feedEntryRepository).should().deleteByMemberIdAndAuthorId(1L, 2L);
+        then(feedEntryRepository).should().deleteByMemberIdAndAuthorId(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("팬아웃이 꺼져 있으면 피드를 정리하지 않는다.")
+    void should_SkipRetractAndCleanup_When_FanOutDisabled() {
+        // given
+        Diary diary = Diary.builder()
+                .id(1L)
+                .build();
+
+        given(feedProperties.fanOutEnabled()).willReturn(false);
+
+        // when
+        feedService.retract(diary);
+        feedService.cleanup(1L, 2L);
+
+        // then
+        then(feedEntryRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("팬아웃만 켜져 있으면 피드를 읽지 않고 기존 조회를 사용한다.")
+    void should_NotReadFeed_When_OnlyFanOutEnabled() {
+        // given
+        given(feedProperties.fanOutEnabled()).willReturn(true);
+        given(feedProperties.readEnabled()).willReturn(false);
+
+        // when & then
+        assertThat(feedService.isReadEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("팬아웃과 읽기가 모두 켜져 있으면 피드를 읽는다.")
+    void should_ReadFeed_When_FanOutAndReadEnabled() {
+        // given
+        given(feedProperties.fanOutEnabled()).willReturn(true);
+        given(feedProperties.readEnabled()).willReturn(true);
+
+        // when & then
+        assertThat(feedService.isReadEnabled()).isTrue();
+    }
+
+}
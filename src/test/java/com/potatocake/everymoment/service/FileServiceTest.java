@@ -1,19 +1,31 @@
 package com.potatocake.everymoment.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
+import com.potatocake.everymoment.dto.request.FileUpdateRequest;
 import com.potatocake.everymoment.dto.response.FileResponse;
 import com.potatocake.everymoment.entity.Diary;
 import com.potatocake.everymoment.entity.File;
 import com.potatocake.everymoment.entity.Member;
+import com.potatocake.everymoment.event.FileUploadedEvent;
+import com.potatocake.everymoment.exception.ErrorCode;
+import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.FileRepository;
 import com.potatocake.everymoment.util.S3FileUploader;
+import com.potatocake.everymoment.util.S3ObjectReclaimer;
+import com.potatocake.everymoment.util.S3PresignedUploader;
+import com.potatocake.everymoment.util.S3StreamingUploader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -21,7 +33,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +55,21 @@ class FileServiceTest {
     @Mock
     private S3FileUploader uploader;
 
+    @Mock
+    private S3StreamingUploader streamingUploader;
+
+    @Mock
+    private S3PresignedUploader presignedUploader;
+
+    @Mock
+    private S3ObjectReclaimer objectReclaimer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @Test
     @DisplayName("파일 목록이 성공적으로 조회된다.")
     void should_GetFiles_When_ValidDiaryId() {
@@ -90,22 +121,21 @@ class FileServiceTest {
         List<MultipartFile> files = List.of(file1, file2);
 
         given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-        given(uploader.uploadFile(any(MultipartFile.class)))
-                .willReturn("https://example.com/image1.jpg")
-                .willReturn("https://example.com/image2.jpg");
+        given(uploader.uploadFiles(files))
+                .willReturn(List.of("https://example.com/image1.jpg", "https://example.com/image2.jpg"));
 
         // when
         fileService.uploadFiles(diaryId, memberId, files);
 
         // then
-        then(fileRepository).should().saveAll(anyList());
-        then(uploader).should().uploadFile(file1);
-        then(uploader).should().uploadFile(file2);
+        then(fileRepository).should().saveAll(argThat((List<File> saved) -> saved.size() == 2
+                && saved.get(0).getOrder() == 1
+                && saved.get(1).getImageUrl().equals("https://example.com/image2.jpg")));
     }
 
     @Test
-    @DisplayName("파일이 성공적으로 수정된다.")
-    void should_UpdateFiles_When_ValidInput() {
+    @DisplayName("순서 없이 수정하면 기존 파일을 모두 지우고 받은 파일로 바꾼다.")
+    void should_ReplaceFiles_When_OrderNotGiven() {
         // given
         Long diaryId = 1L;
         Long memberId = 1L;
@@ -121,14 +151,243 @@ class FileServiceTest {
         List<MultipartFile> files = List.of(file);
 
         given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-        given(uploader.uploadFile(file)).willReturn("https://example.com/new-image.jpg");
+        given(uploader.uploadFiles(files)).willReturn(List.of("https://example.com/new-image.jpg"));
+        given(fileRepository.findByDiaryId(diaryId)).willReturn(List.of(createFile(1L, 1)));
 
         // when
-        fileService.updateFiles(diaryId, memberId, files);
+        fileService.updateFiles(diaryId, memberId, null, files);
 
         // then
-        then(fileRepository).should().deleteByDiary(diary);
-        then(fileRepository).should().saveAll(anyList());
+        then(fileRepository).should().deleteAllByIdInBatch(List.of(1L));
+        then(fileRepository).should().saveAll(argThat((List<File> saved) -> saved.size() == 1
+                && saved.get(0).getOrder() == 1));
+    }
+
+    @Test
+    @DisplayName("유지할 파일은 순서만 바꾸고, 빠진 파일은 한 번에 삭제하며, 새 파일만 업로드한다.")
+    void should_ApplyDiff_When_OrderGiven() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+        File first = createFile(1L, 1);
+        File second = createFile(2L, 2);
+        File third = createFile(3L, 3);
+        List<MultipartFile> files = List.of(mock(MultipartFile.class));
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(uploader.uploadFiles(files)).willReturn(List.of("https://example.com/new-image.jpg"));
+        given(fileRepository.findByDiaryId(diaryId)).willReturn(List.of(first, second, third));
+        given(fileRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        fileService.updateFiles(diaryId, memberId, new FileUpdateRequest(Arrays.asList(3L, null, 1L)), files);
+
+        // then
+        assertThat(third.getOrder()).isEqualTo(1);
+        assertThat(first.getOrder()).isEqualTo(3);
+        then(fileRepository).should().deleteAllByIdInBatch(List.of(2L));
+        then(fileRepository).should().saveAll(argThat((List<File> saved) -> saved.size() == 1
+                && saved.get(0).getOrder() == 2
+                && saved.get(0).getImageUrl().equals("https://example.com/new-image.jpg")));
+        then(objectReclaimer).should().recordWithRenditions(List.of(second.getImageUrl()));
+    }
+
+    @Test
+    @DisplayName("순서만 바꾸면 파일을 업로드하거나 삭제하지 않는다.")
+    void should_OnlyReorder_When_NoFilesAddedOrRemoved() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+        File first = createFile(1L, 1);
+        File second = createFile(2L, 2);
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(fileRepository.findByDiaryId(diaryId)).willReturn(List.of(first, second));
+
+        // when
+        fileService.updateFiles(diaryId, memberId, new FileUpdateRequest(List.of(2L, 1L)), null);
+
+        // then
+        assertThat(second.getOrder()).isEqualTo(1);
+        assertThat(first.getOrder()).isEqualTo(2);
+        then(uploader).shouldHaveNoInteractions();
+        then(fileRepository).should(never()).deleteAllByIdInBatch(anyList());
+        then(objectReclaimer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("새 파일 자리 수와 받은 파일 수가 다르면 업로드하지 않는다.")
+    void should_ThrowException_When_NewFileSlotsMismatch() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+
+        // when & then
+        assertThatThrownBy(() -> fileService.updateFiles(diaryId, memberId,
+                new FileUpdateRequest(Arrays.asList(1L, null)), List.of()))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_ORDER);
+
+        then(uploader).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("다른 일기의 파일 ID 가 있으면 업로드한 파일을 되돌린다.")
+    void should_DeleteUploadedFiles_When_UnknownFileId() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+        List<MultipartFile> files = List.of(mock(MultipartFile.class));
+        List<String> urls = List.of("https://example.com/new-image.jpg");
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(uploader.uploadFiles(files)).willReturn(urls);
+        given(fileRepository.findByDiaryId(diaryId)).willReturn(List.of(createFile(1L, 1)));
+
+        // when & then
+        assertThatThrownBy(() -> fileService.updateFiles(diaryId, memberId,
+                new FileUpdateRequest(Arrays.asList(99L, null)), files))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_ORDER);
+
+        then(uploader).should().deleteFiles(urls);
+        then(fileRepository).should(never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("파일 정보 저장에 실패하면 업로드한 파일을 삭제한다.")
+    void should_DeleteUploadedFiles_When_SaveFails() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+
+        List<MultipartFile> files = List.of(mock(MultipartFile.class));
+        List<String> urls = List.of("https://example.com/image1.jpg");
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(uploader.uploadFiles(files)).willReturn(urls);
+        given(fileRepository.saveAll(anyList())).willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> fileService.uploadFiles(diaryId, memberId, files))
+                .isInstanceOf(IllegalStateException.class);
+
+        then(uploader).should().deleteFiles(urls);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드한 파일은 내용 hash 와 함께 마지막 순서 뒤에 저장된다.")
+    void should_AppendFile_When_UploadingStream() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+        InputStream input = new ByteArrayInputStream("image".getBytes());
+        String hash = "a".repeat(64);
+        String url = "https://example.com/images/" + hash + ".jpg";
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(streamingUploader.upload(input, "image/jpeg")).willReturn(url);
+        given(fileRepository.findMaxOrderByDiaryId(diaryId)).willReturn(3);
+
+        // when
+        fileService.uploadFileStream(diaryId, memberId, input, "image/jpeg");
+
+        // then
+        then(fileRepository).should().saveAll(argThat((List<File> saved) -> saved.size() == 1
+                && saved.get(0).getOrder() == 4
+                && saved.get(0).getImageUrl().equals(url)
+                && saved.get(0).getContentHash().equals(hash)));
+    }
+
+    @Test
+    @DisplayName("직접 업로드한 파일이 마지막 순서 뒤에 등록되고, 이미 등록된 파일은 건너뛴다.")
+    void should_RegisterFiles_When_UploadsCompleted() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+        File registered = File.builder()
+                .id(1L)
+                .diary(diary)
+                .imageUrl("https://example.com/diaries/1/a.jpg")
+                .order(1)
+                .build();
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(presignedUploader.confirm("diaries/1", "tmp/diaries/1/a.jpg"))
+                .willReturn("https://example.com/diaries/1/a.jpg");
+        given(presignedUploader.confirm("diaries/1", "tmp/diaries/1/b.jpg"))
+                .willReturn("https://example.com/diaries/1/b.jpg");
+        given(fileRepository.findByDiaryId(diaryId)).willReturn(List.of(registered));
+        given(fileRepository.findMaxOrderByDiaryId(diaryId)).willReturn(1);
+
+        // when
+        fileService.completeUploads(diaryId, memberId, List.of("tmp/diaries/1/a.jpg", "tmp/diaries/1/b.jpg"));
+
+        // then
+        then(fileRepository).should().saveAll(argThat((List<File> saved) -> saved.size() == 1
+                && saved.get(0).getOrder() == 2
+                && saved.get(0).getImageUrl().equals("https://example.com/diaries/1/b.jpg")));
+    }
+
+    @Test
+    @DisplayName("파일이 저장되면 축소본 생성 이벤트가 발행된다.")
+    void should_PublishUploadedEvent_When_FilesSaved() {
+        // given
+        Long diaryId = 1L;
+        Long memberId = 1L;
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(memberId).build())
+                .build();
+        List<MultipartFile> files = List.of(mock(MultipartFile.class));
+
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(uploader.uploadFiles(files)).willReturn(List.of("https://example.com/image1.jpg"));
+        given(fileRepository.saveAll(anyList())).willReturn(List.of(File.builder().id(10L).build()));
+
+        // when
+        fileService.uploadFiles(diaryId, memberId, files);
+
+        // then
+        then(eventPublisher).should().publishEvent(new FileUploadedEvent(List.of(10L)));
+    }
+
+    private File createFile(Long id, int order) {
+        return File.builder()
+                .id(id)
+                .imageUrl("https://example.com/image" + id + ".jpg")
+                .order(order)
+                .build();
     }
 
 }
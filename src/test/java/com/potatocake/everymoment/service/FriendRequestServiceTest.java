@@ -18,6 +18,7 @@ import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.FriendRepository;
 import com.potatocake.everymoment.repository.FriendRequestRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
 import com.potatocake.everymoment.util.PagingUtil;
 import java.util.List;
 import java.util.Optional;
@@ -54,6 +55,12 @@ class FriendRequestServiceTest {
     @Mock
     private PagingUtil pagingUtil;
 
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private FriendGraphCache friendGraphCache;
+
     @Test
     @DisplayName("친구 요청 목록이 성공적으로 조회된다.")
     void should_GetFriendRequests_When_ValidRequest() {
@@ -116,7 +123,7 @@ class FriendRequestServiceTest {
 
         given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
         given(memberRepository.findById(receiverId)).willReturn(Optional.of(receiver));
-        given(friendRepository.existsByMemberIdAndFriendId(senderId, receiverId)).willReturn(false);
+        given(friendGraphCache.isFriend(senderId, receiverId)).willReturn(false);
         given(friendRequestRepository.existsBySenderIdAndReceiverId(senderId, receiverId))
                 .willReturn(false);
         given(friendRequestRepository.save(any(FriendRequest.class)))
@@ -142,7 +149,7 @@ class FriendRequestServiceTest {
         Long senderId = 1L;
         Long receiverId = 2L;
 
-        given(friendRepository.existsByMemberIdAndFriendId(senderId, receiverId)).willReturn(true);
+        given(friendGraphCache.isFriend(senderId, receiverId)).willReturn(true);
 
         // when & then
         assertThatThrownBy(() -> friendRequestService.sendFriendRequest(senderId, receiverId))
@@ -195,6 +202,8 @@ class FriendRequestServiceTest {
 
         // then
         then(friendRepository).should(times(2)).save(any(Friend.class));
+        then(friendGraphCache).should().invalidate(sender.getId(), receiver.getId());
+        then(feedService).should().backfill(sender.getId(), receiver.getId());
         then(friendRequestRepository).should().delete(request);
         then(notificationService).should().createAndSendNotification(
                 eq(sender.getId()),
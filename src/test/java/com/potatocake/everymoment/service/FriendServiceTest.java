@@ -17,6 +17,7 @@ import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.FileRepository;
 import com.potatocake.everymoment.repository.FriendRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +48,12 @@ class FriendServiceTest {
     @Mock
     private FileRepository fileRepository;
 
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private FriendGraphCache friendGraphCache;
+
     @Test
     @DisplayName("특정 친구의 일기 목록이 성공적으로 조회된다.")
     void should_ReturnFriendDiaries_When_ValidRequest() {
@@ -159,6 +166,8 @@ class FriendServiceTest {
         // then
         then(friendRepository).should().delete(friendship1);
         then(friendRepository).should().delete(friendship2);
+        then(friendGraphCache).should().invalidate(memberId, friendId);
+        then(feedService).should().cleanup(memberId, friendId);
     }
 
     @Test
@@ -0,0 +1,74 @@
+package com.potatocake.everymoment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.potatocake.everymoment.entity.Diary;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class FullTextDiarySearchEngineTest {
+
+    @Test
+    @DisplayName("키워드가 단어별 필수 구문 검색으로 변환된다.")
+    void should_ConvertToBooleanQuery_When_MultipleTerms() {
+        // when
+        String query = FullTextDiarySearchEngine.toBooleanQuery("  제주  바다 ");
+
+        // then
+        assertThat(query).isEqualTo("+\"제주\" +\"바다\"");
+    }
+
+    @Test
+    @DisplayName("boolean mode 연산자는 검색어에서 제거된다.")
+    void should_StripOperators_When_KeywordContainsOperators() {
+        // when
+        String query = FullTextDiarySearchEngine.toBooleanQuery("-여행*\" (맛집)");
+
+        // then
+        assertThat(query).isEqualTo("+\"여행\" +\"맛집\"");
+    }
+
+    @Test
+    @DisplayName("관련도 순 정렬을 사용하므로 기본 정렬은 적용하지 않는다.")
+    void should_ReturnUnsorted_When_SortRequested() {
+        // when
+        Sort sort = new FullTextDiarySearchEngine().sort(Sort.by(Sort.Direction.DESC, "createAt"));
+
+        // then
+        assertThat(sort.isUnsorted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("연산자만 있는 검색어는 LIKE 검색으로 대체된다.")
+    @SuppressWarnings("unchecked")
+    void should_FallBackToLike_When_KeywordHasOnlyOperators() {
+        // given
+        Root<Diary> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder builder = mock(CriteriaBuilder.class);
+        Path<Object> content = mock(Path.class);
+
+        given(root.get("content")).willReturn(content);
+        given(query.getResultType()).willReturn((Class) Long.class);
+
+        // when
+        new FullTextDiarySearchEngine().matches("+-*").toPredicate(root, query, builder);
+
+        // then
+        assertThat(FullTextDiarySearchEngine.toBooleanQuery("+-*")).isEmpty();
+        then(builder).should().like(any(), anyString());
+        then(builder).should(never()).function(anyString(), any(), any());
+    }
+
+}
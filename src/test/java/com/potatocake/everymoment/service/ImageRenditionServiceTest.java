@@ -0,0 +1,150 @@
+package com.potatocake.everymoment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.potatocake.everymoment.entity.File;
+import com.potatocake.everymoment.repository.FileRepository;
+import com.potatocake.everymoment.util.ImageResizer;
+import com.potatocake.everymoment.util.S3FileUploader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionServiceTest {
+
+    private static final String IMAGE_URL = "https://test-bucket.s3.amazonaws.com/uuid_test.png";
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private S3FileUploader uploader;
+
+    @Mock
+    private ImageResizer imageResizer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageRenditionService imageRenditionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imageRenditionService = new ImageRenditionService(fileRepository, uploader, imageResizer,
+                mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("축소본을 모두 저장하고 가장 작은 축소본을 썸네일로 기록한다.")
+    void should_UpdateThumbnailToSmallest_When_RenditionsCreated() throws IOException {
+        // given
+        Map<Integer, byte[]> renditions = new TreeMap<>(Map.of(160, new byte[]{1}, 480, new byte[]{2}));
+
+        given(fileRepository.findById(1L)).willReturn(Optional.of(createFile()));
+        given(uploader.download(IMAGE_URL)).willReturn(new ByteArrayInputStream(new byte[0]));
+        given(imageResizer.resize(any())).willReturn(renditions);
+        given(uploader.uploadRendition(IMAGE_URL, 160, renditions.get(160)))
+                .willReturn("https://test-bucket.s3.amazonaws.com/uuid_test_w160.jpg");
+        given(uploader.uploadRendition(IMAGE_URL, 480, renditions.get(480)))
+                .willReturn("https://test-bucket.s3.amazonaws.com/uuid_test_w480.jpg");
+
+        // when
+        imageRenditionService.generate(1L);
+
+        // then
+        then(fileRepository).should()
+                .updateThumbnailUrl(1L, "https://test-bucket.s3.amazonaws.com/uuid_test_w160.jpg");
+        assertThat(meterRegistry.counter("file.rendition.generated").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("원본이 작아 축소본이 없으면 썸네일을 바꾸지 않는다.")
+    void should_KeepOriginal_When_NoRenditions() throws IOException {
+        // given
+        given(fileRepository.findById(1L)).willReturn(Optional.of(createFile()));
+        given(uploader.download(IMAGE_URL)).willReturn(new ByteArrayInputStream(new byte[0]));
+        given(imageResizer.resize(any())).willReturn(Map.of());
+
+        // when
+        imageRenditionService.generate(1L);
+
+        // then
+        then(uploader).should(never()).uploadRendition(anyString(), anyInt(), any());
+        then(fileRepository).should(never()).updateThumbnailUrl(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미지 처리에 실패해도 예외를 던지지 않고 실패 수를 기록한다.")
+    void should_CountFailure_When_ResizeFails() throws IOException {
+        // given
+        given(fileRepository.findById(1L)).willReturn(Optional.of(createFile()));
+        given(uploader.download(IMAGE_URL)).willReturn(new ByteArrayInputStream(new byte[0]));
+        given(imageResizer.resize(any())).willThrow(new IOException("broken image"));
+
+        // when
+        imageRenditionService.generate(1L);
+
+        // then
+        then(fileRepository).should(never()).updateThumbnailUrl(anyLong(), anyString());
+        assertThat(meterRegistry.counter("file.rendition.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일에 축소본이 있으면 다시 만들지 않고 재사용한다.")
+    void should_ReuseThumbnail_When_SameContentExists() {
+        // given
+        String hash = "a".repeat(64);
+        String thumbnailUrl = "https://test-bucket.s3.amazonaws.com/images/" + hash + "_w160.jpg";
+        File file = File.builder()
+                .id(1L)
+                .imageUrl("https://test-bucket.s3.amazonaws.com/images/" + hash + ".png")
+                .contentHash(hash)
+                .order(1)
+                .build();
+        File existing = File.builder()
+                .id(2L)
+                .imageUrl(file.getImageUrl())
+                .thumbnailUrl(thumbnailUrl)
+                .contentHash(hash)
+                .order(1)
+                .build();
+
+        given(fileRepository.findById(1L)).willReturn(Optional.of(file));
+        given(fileRepository.findFirstByContentHashAndThumbnailUrlIsNotNull(hash)).willReturn(Optional.of(existing));
+
+        // when
+        imageRenditionService.generate(1L);
+
+        // then
+        then(fileRepository).should().updateThumbnailUrl(1L, thumbnailUrl);
+        then(uploader).shouldHaveNoInteractions();
+        then(imageResizer).shouldHaveNoInteractions();
+    }
+
+    private File createFile() {
+        return File.builder()
+                .id(1L)
+                .imageUrl(IMAGE_URL)
+                .order(1)
+                .build();
+    }
+
+}
@@ -2,21 +2,22 @@ package com.potatocake.everymoment.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.potatocake.everymoment.constant.NotificationType;
 import com.potatocake.everymoment.dto.response.LikeCountResponse;
 import com.potatocake.everymoment.entity.Diary;
-import com.potatocake.everymoment.entity.Like;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.DiaryRepository;
 import com.potatocake.everymoment.repository.LikeRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.LikeCountBuffer;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,9 @@ class LikeServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
     @Test
     @DisplayName("좋아요 수가 성공적으로 조회된다.")
     void should_ReturnLikeCount_When_ValidDiaryId() {
@@ -53,7 +57,7 @@ class LikeServiceTest {
                 .build();
 
         given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-        given(likeRepository.countByDiary(diary)).willReturn(5L);
+        given(likeCountBuffer.countOf(diary)).willReturn(5L);
 
         // when
         LikeCountResponse response = likeService.getLikeCount(diaryId);
@@ -61,7 +65,7 @@ class LikeServiceTest {
         // then
         assertThat(response.getLikeCount()).isEqualTo(5L);
         then(diaryRepository).should().findById(diaryId);
-        then(likeRepository).should().countByDiary(diary);
+        then(likeCountBuffer).should().countOf(diary);
     }
 
     @Test
@@ -85,14 +89,15 @@ class LikeServiceTest {
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
         given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-        given(likeRepository.findByMemberIdAndDiaryIdWithLock(memberId, diaryId))
-                .willReturn(Optional.empty());
+        given(likeRepository.deleteByMemberIdAndDiaryId(memberId, diaryId)).willReturn(0);
+        given(likeRepository.insertIgnore(memberId, diaryId)).willReturn(1);
 
         // when
         likeService.toggleLike(memberId, diaryId);
 
         // then
-        then(likeRepository).should().save(any(Like.class));
+        then(likeRepository).should().insertIgnore(memberId, diaryId);
+        then(likeCountBuffer).should().add(diaryId, 1);
         then(notificationService).should().createAndSendNotification(
                 eq(diaryOwner.getId()),
                 eq(NotificationType.LIKE),
@@ -107,29 +112,21 @@ class LikeServiceTest {
         // given
         Long memberId = 1L;
         Long diaryId = 1L;
-        Member member = Member.builder()
-                .id(memberId)
-                .build();
         Diary diary = Diary.builder()
                 .id(diaryId)
                 .isPublic(true)
                 .build();
-        Like like = Like.builder()
-                .id(1L)
-                .member(member)
-                .diary(diary)
-                .build();
 
-        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
         given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
-        given(likeRepository.findByMemberIdAndDiaryIdWithLock(memberId, diaryId))
-                .willReturn(Optional.of(like));
+        given(likeRepository.deleteByMemberIdAndDiaryId(memberId, diaryId)).willReturn(1);
 
         // when
         likeService.toggleLike(memberId, diaryId);
 
         // then
-        then(likeRepository).should().delete(like);
+        then(likeRepository).should().deleteByMemberIdAndDiaryId(memberId, diaryId);
+        then(likeRepository).should(never()).insertIgnore(memberId, diaryId);
+        then(likeCountBuffer).should().add(diaryId, -1);
     }
 
     @Test
@@ -153,4 +150,60 @@ class LikeServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DIARY_NOT_PUBLIC);
     }
 
+    @Test
+    @DisplayName("이미 좋아요한 일기에 다시 좋아요해도 수와 알림이 늘지 않는다.")
+    void should_IgnoreDuplicate_When_AlreadyLiked() {
+        // given
+        Long memberId = 1L;
+        Long diaryId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .build();
+        Diary diary = Diary.builder()
+                .id(diaryId)
+                .member(Member.builder().id(2L).build())
+                .isPublic(true)
+                .build();
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(diaryRepository.findById(diaryId)).willReturn(Optional.of(diary));
+        given(likeRepository.insertIgnore(memberId, diaryId)).willReturn(0);
+
+        // when
+        likeService.like(memberId, diaryId);
+
+        // then
+        then(likeCountBuffer).should(never()).add(anyLong(), anyLong());
+        then(notificationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 일기의 좋아요를 취소해도 수가 줄지 않는다.")
+    void should_DoNothing_When_UnlikingNotLiked() {
+        // given
+        Long memberId = 1L;
+        Long diaryId = 1L;
+
+        given(diaryRepository.existsById(diaryId)).willReturn(true);
+        given(likeRepository.deleteByMemberIdAndDiaryId(memberId, diaryId)).willReturn(0);
+
+        // when
+        likeService.unlike(memberId, diaryId);
+
+        // then
+        then(likeCountBuffer).should(never()).add(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 일기의 좋아요를 취소하면 예외가 발생한다.")
+    void should_ThrowException_When_UnlikingMissingDiary() {
+        // given
+        given(diaryRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> likeService.unlike(1L, 1L))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DIARY_NOT_FOUND);
+    }
+
 }
@@ -16,12 +16,15 @@ import com.potatocake.everymoment.dto.response.MemberSearchResponse;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
-import com.potatocake.everymoment.repository.FriendRepository;
 import com.potatocake.everymoment.repository.FriendRequestRepository;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.util.FriendGraphCache;
+import com.potatocake.everymoment.util.FriendIdSet;
 import com.potatocake.everymoment.util.JwtUtil;
 import com.potatocake.everymoment.util.PagingUtil;
 import com.potatocake.everymoment.util.S3FileUploader;
+import com.potatocake.everymoment.util.S3ObjectReclaimer;
+import com.potatocake.everymoment.util.S3PresignedUploader;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -47,7 +50,7 @@ class MemberServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private FriendRepository friendRepository;
+    private FriendGraphCache friendGraphCache;
 
     @Mock
     private FriendRequestRepository friendRequestRepository;
@@ -58,6 +61,12 @@ class MemberServiceTest {
     @Mock
     private S3FileUploader s3FileUploader;
 
+    @Mock
+    private S3PresignedUploader s3PresignedUploader;
+
+    @Mock
+    private S3ObjectReclaimer objectReclaimer;
+
     @Mock
     private JwtUtil jwtUtil;
 
@@ -135,9 +144,11 @@ class MemberServiceTest {
         given(pagingUtil.createScrollPosition(key)).willReturn(scrollPosition);
         given(pagingUtil.createPageable(size, Sort.Direction.ASC)).willReturn(PageRequest.of(0, size));
         given(memberRepository.findByNicknameContaining(anyString(), any(), any())).willReturn(window);
-        given(friendRepository.existsByMemberIdAndFriendId(anyLong(), anyLong())).willReturn(false);
-        given(friendRequestRepository.findBySenderIdAndReceiverId(anyLong(), anyLong()))
-                .willReturn(Optional.empty());
+        given(friendGraphCache.getFriendIds(currentMemberId)).willReturn(FriendIdSet.of(List.of()));
+        given(friendRequestRepository.findReceiverIdsBySenderIdAndReceiverIdIn(currentMemberId, List.of(2L, 3L)))
+                .willReturn(List.of());
+        given(friendRequestRepository.findSenderIdsByReceiverIdAndSenderIdIn(currentMemberId, List.of(2L, 3L)))
+                .willReturn(List.of());
 
         // when
         MemberSearchResponse response = memberService.searchMembers(nickname, key, size, currentMemberId);
@@ -150,6 +161,46 @@ class MemberServiceTest {
                 .containsOnly(FriendRequestStatus.NONE);
     }
 
+    @Test
+    @DisplayName("검색 결과의 친구 요청 상태가 일괄 조회로 결정된다.")
+    void should_ResolveFriendRequestStatuses_When_SearchingMembers() {
+        // given
+        Long currentMemberId = 1L;
+        List<Member> members = List.of(
+                Member.builder().id(1L).nickname("me").build(),
+                Member.builder().id(2L).nickname("friend").build(),
+                Member.builder().id(3L).nickname("sent").build(),
+                Member.builder().id(4L).nickname("received").build(),
+                Member.builder().id(5L).nickname("none").build()
+        );
+        List<Long> memberIds = List.of(1L, 2L, 3L, 4L, 5L);
+
+        ScrollPosition scrollPosition = ScrollPosition.offset();
+        Window<Member> window = Window.from(members, i -> scrollPosition, false);
+
+        given(pagingUtil.createScrollPosition(null)).willReturn(scrollPosition);
+        given(pagingUtil.createPageable(10, Sort.Direction.ASC)).willReturn(PageRequest.of(0, 10));
+        given(memberRepository.findByNicknameContaining(anyString(), any(), any())).willReturn(window);
+        given(friendGraphCache.getFriendIds(currentMemberId)).willReturn(FriendIdSet.of(List.of(2L)));
+        given(friendRequestRepository.findReceiverIdsBySenderIdAndReceiverIdIn(currentMemberId, memberIds))
+                .willReturn(List.of(3L));
+        given(friendRequestRepository.findSenderIdsByReceiverIdAndSenderIdIn(currentMemberId, memberIds))
+                .willReturn(List.of(4L));
+
+        // when
+        MemberSearchResponse response = memberService.searchMembers("", null, 10, currentMemberId);
+
+        // then
+        assertThat(response.getMembers()).extracting("friendRequestStatus")
+                .containsExactly(
+                        FriendRequestStatus.SELF,
+                        FriendRequestStatus.FRIEND,
+                        FriendRequestStatus.SENT,
+                        FriendRequestStatus.RECEIVED,
+                        FriendRequestStatus.NONE
+                );
+    }
+
     @Test
     @DisplayName("내 정보가 성공적으로 조회된다.")
     void should_ReturnMyInfo_When_ValidId() {
@@ -200,6 +251,52 @@ class MemberServiceTest {
         // then
         assertThat(member.getNickname()).isEqualTo(newNickname);
         assertThat(member.getProfileImageUrl()).isEqualTo("https://example.com/new.jpg");
+        then(objectReclaimer).should().record(List.of("https://example.com/old.jpg"));
+    }
+
+    @Test
+    @DisplayName("프로필 이미지를 바꾸지 않으면 삭제할 객체를 기록하지 않는다.")
+    void should_NotRecordProfileImage_When_OnlyNicknameChanged() {
+        // given
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .nickname("oldNickname")
+                .profileImageUrl("https://example.com/old.jpg")
+                .build();
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+
+        // when
+        memberService.updateMemberInfo(memberId, null, "newNickname");
+
+        // then
+        assertThat(member.getProfileImageUrl()).isEqualTo("https://example.com/old.jpg");
+        then(objectReclaimer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("직접 업로드한 이미지가 프로필 이미지로 등록된다.")
+    void should_UpdateProfileImage_When_UploadCompleted() {
+        // given
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .nickname("nickname")
+                .profileImageUrl("https://example.com/old.jpg")
+                .build();
+
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(s3PresignedUploader.confirm("members/1", "tmp/members/1/uuid_new.jpg"))
+                .willReturn("https://example.com/members/1/uuid_new.jpg");
+
+        // when
+        memberService.completeProfileImageUpload(memberId, "tmp/members/1/uuid_new.jpg");
+
+        // then
+        assertThat(member.getNickname()).isEqualTo("nickname");
+        assertThat(member.getProfileImageUrl()).isEqualTo("https://example.com/members/1/uuid_new.jpg");
+        then(objectReclaimer).should().record(List.of("https://example.com/old.jpg"));
     }
 
     @Test
@@ -0,0 +1,249 @@
+package com.potatocake.everymoment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.potatocake.everymoment.config.NotificationOutboxProperties;
+import com.potatocake.everymoment.constant.OutboxStatus;
+import com.potatocake.everymoment.entity.DeviceToken;
+import com.potatocake.everymoment.entity.Member;
+import com.potatocake.everymoment.entity.NotificationOutbox;
+import com.potatocake.everymoment.repository.DeviceTokenRepository;
+import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class NotificationOutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private DeviceTokenRepository deviceTokenRepository;
+    private FakeFirebaseMessaging fakeFirebaseMessaging;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxRelay relay;
+
+    private final Member receiver = Member.builder()
+            .id(1L)
+            .build();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        deviceTokenRepository = mock(DeviceTokenRepository.class);
+        fakeFirebaseMessaging = new FakeFirebaseMessaging();
+        meterRegistry = new SimpleMeterRegistry();
+
+        FcmService fcmService = new FcmService(fakeFirebaseMessaging.firebaseMessaging(), deviceTokenRepository,
+                mock(MemberRepository.class));
+        NotificationOutboxProperties properties = new NotificationOutboxProperties(500, MAX_ATTEMPTS,
+                Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofMillis(20));
+
+        relay = new NotificationOutboxRelay(notificationOutboxRepository, fcmService,
+                mock(PlatformTransactionManager.class), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("발송에 성공한 outbox 는 SENT 로 변경된다.")
+    void should_MarkSent_When_Delivered() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L);
+        givenClaimable(List.of(outbox));
+        given(deviceTokenRepository.findAllByMemberIdIn(anyCollection())).willReturn(List.of(createToken("token")));
+
+        // when
+        int relayed = relay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(fakeFirebaseMessaging.batches()).hasSize(1);
+        then(notificationOutboxRepository).should().updateStatus(List.of(1L), OutboxStatus.SENT);
+        assertThat(meterRegistry.counter("notification.outbox.sent").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("FCM 장애로 실패하면 백오프 후 재시도하도록 남겨둔다.")
+    void should_ScheduleRetry_When_FcmUnavailable() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L);
+        givenClaimable(List.of(outbox));
+        given(deviceTokenRepository.findAllByMemberIdIn(anyCollection())).willReturn(List.of(createToken("token")));
+        given(notificationOutboxRepository.findAllById(anyCollection())).willReturn(List.of(outbox));
+        fakeFirebaseMessaging.unavailable();
+
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getLastError()).isEqualTo("UNAVAILABLE");
+        assertThat(outbox.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        then(notificationOutboxRepository).should(never()).updateStatus(anyCollection(), eq(OutboxStatus.SENT));
+        assertThat(meterRegistry.counter("notification.outbox.retried").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 DEAD 로 남긴다.")
+    void should_MarkDead_When_MaxAttemptsReached() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L);
+        IntStream.range(0, MAX_ATTEMPTS - 1).forEach(i -> outbox.lease(LocalDateTime.now()));
+        givenClaimable(List.of(outbox));
+        given(deviceTokenRepository.findAllByMemberIdIn(anyCollection())).willReturn(List.of(createToken("token")));
+        given(notificationOutboxRepository.findAllById(anyCollection())).willReturn(List.of(outbox));
+        fakeFirebaseMessaging.unavailable();
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(outbox.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(meterRegistry.counter("notification.outbox.dead").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발송 도중 멈춰 시도 횟수를 다 쓴 outbox 는 다시 보내지 않고 DEAD 로 남긴다.")
+    void should_MarkDead_When_StalledLeaseUsedUpAttempts() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L);
+        IntStream.range(0, MAX_ATTEMPTS).forEach(i -> outbox.lease(LocalDateTime.now()));
+        givenClaimable(List.of(outbox));
+
+        // when
+        int relayed = relay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DEAD);
+        assertThat(outbox.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(fakeFirebaseMessaging.batches()).isEmpty();
+        assertThat(meterRegistry.counter("notification.outbox.dead").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발송 중 예상하지 못한 예외가 나면 문제 있는 outbox 만 재시도하도록 남긴다.")
+    void should_RetryOnlyFailingOutbox_When_SendThrows() {
+        // given
+        NotificationOutbox ok = createOutbox(1L);
+        NotificationOutbox broken = NotificationOutbox.builder()
+                .id(2L)
+                .receiverId(2L)
+                .title("새로운 댓글")
+                .body("test님이 회원님의 일기에 댓글을 남겼습니다.")
+                .type("COMMENT")
+                .targetId(1L)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        givenClaimable(List.of(ok, broken));
+        given(deviceTokenRepository.findAllByMemberIdIn(anyCollection())).willAnswer(invocation -> {
+            if (invocation.<Collection<Long>>getArgument(0).contains(2L)) {
+                throw new IllegalStateException("broken row");
+            }
+            return List.of(createToken("token"));
+        });
+        given(notificationOutboxRepository.findAllById(anyCollection())).willReturn(List.of(broken));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        then(notificationOutboxRepository).should().updateStatus(List.of(1L), OutboxStatus.SENT);
+        assertThat(broken.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(broken.getAttempts()).isEqualTo(1);
+        assertThat(broken.getLastError()).contains("broken row");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰으로만 실패하면 재시도하지 않고 토큰을 삭제한다.")
+    void should_NotRetry_When_TokenUnregistered() {
+        // given
+        NotificationOutbox outbox = createOutbox(1L);
+        DeviceToken token = createToken("expired");
+        givenClaimable(List.of(outbox));
+        given(deviceTokenRepository.findAllByMemberIdIn(anyCollection())).willReturn(List.of(token));
+        fakeFirebaseMessaging.failWith(MessagingErrorCode.UNREGISTERED);
+
+        // when
+        relay.relayBatch();
+
+        // then
+        then(notificationOutboxRepository).should().updateStatus(List.of(1L), OutboxStatus.SENT);
+        then(deviceTokenRepository).should().deleteAll(List.of(token));
+    }
+
+    @Test
+    @DisplayName("메시지가 500개를 넘으면 sendEach 를 나눠 호출한다.")
+    void should_SplitIntoChunks_When_MessagesExceedLimit() {
+        // given
+        List<NotificationOutbox> outboxes = List.of(createOutbox(1L), createOutbox(2L));
+        List<DeviceToken> tokens = IntStream.range(0, 300)
+                .mapToObj(i -> createToken("token-" + i))
+                .toList();
+        givenClaimable(outboxes);
+        given(deviceTokenRepository.findAllByMemberIdIn(anyCollection())).willReturn(tokens);
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(fakeFirebaseMessaging.batches()).extracting(List::size)
+                .containsExactly(FcmService.MAX_BATCH_SIZE, 100);
+        then(notificationOutboxRepository).should().updateStatus(List.of(1L, 2L), OutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두 배로 늘어나고 최대값을 넘지 않는다.")
+    void should_DoubleBackoff_When_AttemptsIncrease() {
+        assertThat(relay.backoff(0)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(relay.backoff(3)).isEqualTo(Duration.ofSeconds(240));
+        assertThat(relay.backoff(10)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    private void givenClaimable(List<NotificationOutbox> outboxes) {
+        given(notificationOutboxRepository.findClaimable(anyCollection(), any(LocalDateTime.class),
+                any(Pageable.class))).willReturn(outboxes);
+    }
+
+    private NotificationOutbox createOutbox(Long id) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .receiverId(receiver.getId())
+                .title("새로운 댓글")
+                .body("test님이 회원님의 일기에 댓글을 남겼습니다.")
+                .type("COMMENT")
+                .targetId(1L)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    private DeviceToken createToken(String fcmToken) {
+        return DeviceToken.builder()
+                .member(receiver)
+                .fcmToken(fcmToken)
+                .deviceId(fcmToken)
+                .build();
+    }
+
+}
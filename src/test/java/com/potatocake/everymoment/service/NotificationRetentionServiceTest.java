@@ -0,0 +1,141 @@
+package com.potatocake.everymoment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.potatocake.everymoment.config.NotificationRetentionProperties;
+import com.potatocake.everymoment.constant.NotificationType;
+import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.repository.NotificationOutboxRepository;
+import com.potatocake.everymoment.repository.NotificationRepository;
+import com.potatocake.everymoment.repository.NotificationRepository.UnreadCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class NotificationRetentionServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private NotificationRepository notificationRepository;
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private MemberRepository memberRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        NotificationRetentionProperties properties = new NotificationRetentionProperties(Duration.ofDays(90),
+                Map.of(NotificationType.MOOD_CHECK, Duration.ofDays(7)), Duration.ofDays(30), CHUNK_SIZE);
+
+        retentionService = new NotificationRetentionService(notificationRepository, notificationOutboxRepository,
+                memberRepository, mock(PlatformTransactionManager.class), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 알림을 chunk 단위로 모두 삭제한다.")
+    void should_DeleteInChunks_Until_Drained() {
+        // given
+        given(notificationRepository.findExpiredIds(eq("LIKE"), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(notificationRepository.countUnreadByMember(anyCollection())).willReturn(List.of());
+        given(notificationRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(notificationRepository.deleteAllByIdIn(List.of(3L))).willReturn(1);
+
+        // when
+        long purged = retentionService.purgeNotifications(NotificationType.LIKE, LocalDateTime.now());
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        then(notificationRepository).should(times(2)).deleteAllByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("삭제되는 안 읽은 알림만큼 회원의 안 읽은 알림 수를 줄인다.")
+    void should_DecrementUnreadCount_When_UnreadDeleted() {
+        // given
+        UnreadCount unread = mock(UnreadCount.class);
+        given(unread.getMemberId()).willReturn(1L);
+        given(unread.getCount()).willReturn(1L);
+
+        given(notificationRepository.findExpiredIds(eq("COMMENT"), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L));
+        given(notificationRepository.countUnreadByMember(List.of(1L))).willReturn(List.of(unread));
+        given(notificationRepository.deleteAllByIdIn(List.of(1L))).willReturn(1);
+
+        // when
+        retentionService.purgeNotifications(NotificationType.COMMENT, LocalDateTime.now());
+
+        // then
+        then(memberRepository).should().decrementUnreadNotificationCount(1L, 1);
+    }
+
+    @Test
+    @DisplayName("지울 알림이 없으면 삭제 쿼리를 실행하지 않는다.")
+    void should_SkipDelete_When_NothingExpired() {
+        // given
+        given(notificationRepository.findExpiredIds(any(), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        long purged = retentionService.purgeNotifications(NotificationType.LIKE, LocalDateTime.now());
+
+        // then
+        assertThat(purged).isZero();
+        then(notificationRepository).should(never()).deleteAllByIdIn(anyCollection());
+        then(memberRepository).should(never()).decrementUnreadNotificationCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("알림 종류마다 설정된 보관 기간을 기준으로 정리하고 지표를 기록한다.")
+    void should_UsePeriodPerType_And_RecordMetrics() {
+        // given
+        given(notificationRepository.findExpiredIds(any(), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of());
+        given(notificationRepository.findExpiredIds(eq("MOOD_CHECK"), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L));
+        given(notificationRepository.countUnreadByMember(anyCollection())).willReturn(List.of());
+        given(notificationRepository.deleteAllByIdIn(List.of(1L))).willReturn(1);
+        given(notificationOutboxRepository.findFinishedIds(anyCollection(), any(LocalDateTime.class),
+                any(Pageable.class))).willReturn(List.of(10L));
+        given(notificationOutboxRepository.deleteAllByIdIn(List.of(10L))).willReturn(1);
+
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        retentionService.purge();
+
+        // then
+        then(notificationRepository).should().findExpiredIds(eq("MOOD_CHECK"),
+                argThat(cutoff -> cutoff.isBefore(before.minusDays(6))
+                        && cutoff.isAfter(before.minusDays(8))), any(Pageable.class));
+        assertThat(meterRegistry.counter("notification.retention.purged", "type", "MOOD_CHECK").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("notification.retention.purged", "type", "OUTBOX").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.summary("notification.retention.purged.run").totalAmount()).isEqualTo(2.0);
+    }
+
+}
@@ -3,28 +3,49 @@ package com.potatocake.everymoment.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import com.potatocake.everymoment.config.NotificationAggregationProperties;
 import com.potatocake.everymoment.constant.NotificationType;
-import com.potatocake.everymoment.dto.request.FcmNotificationRequest;
+import com.potatocake.everymoment.constant.OutboxStatus;
+import com.potatocake.everymoment.dto.request.NotificationReadRequest;
+import com.potatocake.everymoment.dto.response.NotificationInboxResponse;
 import com.potatocake.everymoment.dto.response.NotificationListResponse;
+import com.potatocake.everymoment.dto.response.NotificationReadResponse;
+import com.potatocake.everymoment.dto.response.UnreadNotificationCountResponse;
 import com.potatocake.everymoment.entity.Member;
 import com.potatocake.everymoment.entity.Notification;
+import com.potatocake.everymoment.entity.NotificationOutbox;
+import com.potatocake.everymoment.event.NotificationCreatedEvent;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.repository.NotificationOutboxRepository;
 import com.potatocake.everymoment.repository.NotificationRepository;
+import com.potatocake.everymoment.util.PagingUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -39,7 +60,17 @@ class NotificationServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private FcmService fcmService;
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PagingUtil pagingUtil;
+
+    @Spy
+    private NotificationAggregationProperties aggregationProperties =
+            new NotificationAggregationProperties(Duration.ofHours(1));
 
     @Test
     @DisplayName("알림이 성공적으로 생성되고 전송된다.")
@@ -63,6 +94,9 @@ class NotificationServiceTest {
                     .build();
         });
 
+        given(notificationOutboxRepository.save(any(NotificationOutbox.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
         // when
         notificationService.createAndSendNotification(
                 receiverId,
@@ -73,7 +107,120 @@ class NotificationServiceTest {
 
         // then
         then(notificationRepository).should().save(any(Notification.class));
-        then(fcmService).should().sendNotification(eq(receiverId), any(FcmNotificationRequest.class));
+        then(memberRepository).should().incrementUnreadNotificationCount(receiverId);
+        then(notificationOutboxRepository).should().save(any(NotificationOutbox.class));
+        then(eventPublisher).should().publishEvent(any(NotificationCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 일기에 대한 안 읽은 좋아요 알림이 있으면 새로 만들지 않고 합친다.")
+    void should_AggregateNotification_When_UnreadSameTargetExists() {
+        // given
+        Long receiverId = 1L;
+        Member receiver = Member.builder()
+                .id(receiverId)
+                .build();
+        Notification existing = Notification.builder()
+                .id(10L)
+                .member(receiver)
+                .content("first님이 회원님의 일기를 좋아합니다.")
+                .type(NotificationType.LIKE.name())
+                .targetId(5L)
+                .build();
+
+        given(memberRepository.findById(receiverId)).willReturn(Optional.of(receiver));
+        given(notificationRepository
+                .findFirstByMemberIdAndTypeAndTargetIdAndIsReadFalseAndCreateAtGreaterThanEqualOrderByIdDesc(
+                        eq(receiverId), eq("LIKE"), eq(5L), any(LocalDateTime.class)))
+                .willReturn(Optional.of(existing));
+        given(notificationRepository.incrementAggregateCount(10L)).willReturn(1);
+        given(notificationRepository.findAggregateCountById(10L)).willReturn(2);
+        given(notificationOutboxRepository.updateBodyByNotificationIdAndStatus(
+                10L, OutboxStatus.PENDING, "second님 외 1건의 좋아요가 회원님의 일기에 도착했습니다."))
+                .willReturn(1);
+
+        // when
+        notificationService.createAndSendNotification(receiverId, NotificationType.LIKE, 5L, "second");
+
+        // then
+        then(notificationRepository).should()
+                .updateContent(10L, "second님 외 1건의 좋아요가 회원님의 일기에 도착했습니다.");
+        then(notificationRepository).should(never()).save(any(Notification.class));
+        then(memberRepository).should(never()).incrementUnreadNotificationCount(any());
+        then(notificationOutboxRepository).should(never()).save(any(NotificationOutbox.class));
+    }
+
+    @Test
+    @DisplayName("합친 알림의 푸시가 이미 나갔다면 collapse key 로 한 번 더 보낸다.")
+    void should_EnqueueCollapsedPush_When_PreviousPushAlreadySent() {
+        // given
+        Long receiverId = 1L;
+        Member receiver = Member.builder()
+                .id(receiverId)
+                .build();
+        Notification existing = Notification.builder()
+                .id(10L)
+                .member(receiver)
+                .content("first님이 회원님의 일기에 댓글을 남겼습니다.")
+                .type(NotificationType.COMMENT.name())
+                .targetId(5L)
+                .build();
+
+        given(memberRepository.findById(receiverId)).willReturn(Optional.of(receiver));
+        given(notificationRepository
+                .findFirstByMemberIdAndTypeAndTargetIdAndIsReadFalseAndCreateAtGreaterThanEqualOrderByIdDesc(
+                        eq(receiverId), eq("COMMENT"), eq(5L), any(LocalDateTime.class)))
+                .willReturn(Optional.of(existing));
+        given(notificationRepository.incrementAggregateCount(10L)).willReturn(1);
+        given(notificationRepository.findAggregateCountById(10L)).willReturn(2);
+        given(notificationOutboxRepository.save(any(NotificationOutbox.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        notificationService.createAndSendNotification(receiverId, NotificationType.COMMENT, 5L, "second");
+
+        // then
+        ArgumentCaptor<NotificationOutbox> outbox = ArgumentCaptor.forClass(NotificationOutbox.class);
+        then(notificationOutboxRepository).should().save(outbox.capture());
+        assertThat(outbox.getValue().getCollapseKey()).isEqualTo("COMMENT:5");
+        assertThat(outbox.getValue().getBody()).isEqualTo("second님 외 1건의 댓글이 회원님의 일기에 달렸습니다.");
+        then(eventPublisher).should().publishEvent(any(NotificationCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("합칠 알림이 그 사이 읽혔다면 새 알림을 만든다.")
+    void should_CreateNewNotification_When_AggregatableReadInBetween() {
+        // given
+        Long receiverId = 1L;
+        Member receiver = Member.builder()
+                .id(receiverId)
+                .build();
+        Notification existing = Notification.builder()
+                .id(10L)
+                .member(receiver)
+                .content("first님이 회원님의 일기를 좋아합니다.")
+                .type(NotificationType.LIKE.name())
+                .targetId(5L)
+                .build();
+
+        given(memberRepository.findById(receiverId)).willReturn(Optional.of(receiver));
+        given(notificationRepository
+                .findFirstByMemberIdAndTypeAndTargetIdAndIsReadFalseAndCreateAtGreaterThanEqualOrderByIdDesc(
+                        eq(receiverId), eq("LIKE"), eq(5L), any(LocalDateTime.class)))
+                .willReturn(Optional.of(existing));
+        given(notificationRepository.incrementAggregateCount(10L)).willReturn(0);
+        given(notificationOutboxRepository.save(any(NotificationOutbox.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        notificationService.createAndSendNotification(receiverId, NotificationType.LIKE, 5L, "second");
+
+        // then
+        ArgumentCaptor<Notification> notification = ArgumentCaptor.forClass(Notification.class);
+        then(notificationRepository).should().save(notification.capture());
+        assertThat(notification.getValue().getContent()).isEqualTo("second님이 회원님의 일기를 좋아합니다.");
+        then(notificationRepository).should(never()).updateContent(any(), any());
+        then(memberRepository).should().incrementUnreadNotificationCount(receiverId);
     }
 
     @Test
@@ -143,6 +290,115 @@ class NotificationServiceTest {
 
         // then
         assertThat(notification.isRead()).isTrue();
+        then(memberRepository).should().decrementUnreadNotificationCount(memberId, 1);
+    }
+
+    @Test
+    @DisplayName("지정한 알림들이 한 번에 읽음 처리되고 안 읽은 알림 수가 줄어든다.")
+    void should_MarkAsReadByIds_When_IdsGiven() {
+        // given
+        Long memberId = 1L;
+        List<Long> ids = List.of(3L, 4L, 5L);
+        given(notificationRepository.markAsReadByIds(memberId, ids)).willReturn(2);
+
+        // when
+        NotificationReadResponse response = notificationService.updateNotifications(memberId,
+                new NotificationReadRequest(null, ids));
+
+        // then
+        assertThat(response.getUpdatedCount()).isEqualTo(2);
+        then(memberRepository).should().decrementUnreadNotificationCount(memberId, 2);
+        then(notificationRepository).should(never()).markAsReadUpTo(any(), any());
+    }
+
+    @Test
+    @DisplayName("기준 ID 이하의 알림이 읽음 처리된다.")
+    void should_MarkAsReadUpTo_When_UpToIdGiven() {
+        // given
+        Long memberId = 1L;
+        given(notificationRepository.markAsReadUpTo(memberId, 30L)).willReturn(0);
+
+        // when
+        NotificationReadResponse response = notificationService.updateNotifications(memberId,
+                new NotificationReadRequest(30L, List.of()));
+
+        // then
+        assertThat(response.getUpdatedCount()).isZero();
+        then(memberRepository).should(never()).decrementUnreadNotificationCount(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("범위가 없으면 읽음 처리하지 않고 예외가 발생한다.")
+    void should_ThrowException_When_NoRangeGiven() {
+        // when & then
+        assertThatThrownBy(() -> notificationService.updateNotifications(1L, new NotificationReadRequest(null, null)))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_NOTIFICATION_READ_RANGE);
+        assertThatThrownBy(() -> notificationService.updateNotifications(1L,
+                new NotificationReadRequest(null, List.of())))
+                .isInstanceOf(GlobalException.class);
+
+        then(notificationRepository).should(never()).markAsReadUpTo(any(), any());
+    }
+
+    @Test
+    @DisplayName("알림함이 id 커서로 성공적으로 조회된다.")
+    void should_ReturnInbox_When_ValidRequest() {
+        // given
+        Long memberId = 1L;
+        Member member = Member.builder()
+                .id(memberId)
+                .build();
+        List<Notification> notifications = List.of(
+                Notification.builder().id(30L).member(member).content("Notification 30").build(),
+                Notification.builder().id(29L).member(member).content("Notification 29").build());
+        Window<Notification> window = Window.from(notifications, ScrollPosition::offset, true);
+
+        ScrollPosition scrollPosition = ScrollPosition.forward(Map.of("id", 31L));
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+
+        given(pagingUtil.createScrollPosition(31L)).willReturn(scrollPosition);
+        given(pagingUtil.createPageable(2, Sort.Direction.DESC)).willReturn(pageable);
+        given(notificationRepository.findByMemberId(memberId, scrollPosition, pageable)).willReturn(window);
+        given(pagingUtil.getNextKey(eq(window), any())).willReturn(29L);
+
+        // when
+        NotificationInboxResponse response = notificationService.getNotificationInbox(memberId, 31L, 2);
+
+        // then
+        assertThat(response.getNotifications()).extracting("id").containsExactly(30L, 29L);
+        assertThat(response.getNext()).isEqualTo(29L);
+    }
+
+    @Test
+    @DisplayName("알림함 페이지 크기는 최대 크기를 넘지 않는다.")
+    void should_ClampInboxSize_When_SizeExceedsMax() {
+        // given
+        Long memberId = 1L;
+        Window<Notification> window = Window.from(List.of(), ScrollPosition::offset);
+
+        given(pagingUtil.createScrollPosition(null)).willReturn(ScrollPosition.offset());
+        given(notificationRepository.findByMemberId(eq(memberId), any(ScrollPosition.class), any()))
+                .willReturn(window);
+
+        // when
+        notificationService.getNotificationInbox(memberId, null, 10_000);
+
+        // then
+        then(pagingUtil).should().createPageable(NotificationService.MAX_INBOX_SIZE, Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수가 회원에 저장된 값으로 조회된다.")
+    void should_ReturnUnreadCount_When_MemberExists() {
+        // given
+        given(memberRepository.findUnreadNotificationCountById(1L)).willReturn(Optional.of(5));
+
+        // when
+        UnreadNotificationCountResponse response = notificationService.getUnreadNotificationCount(1L);
+
+        // then
+        assertThat(response.getUnreadCount()).isEqualTo(5);
     }
 
     @Test
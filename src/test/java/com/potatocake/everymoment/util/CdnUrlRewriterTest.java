@@ -0,0 +1,58 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.CdnProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CdnUrlRewriterTest {
+
+    private static final String BUCKET_URL = "https://test-bucket.s3.amazonaws.com/";
+
+    @Test
+    @DisplayName("이 버킷의 URL 은 CDN 주소로 바뀐다.")
+    void should_RewriteToCdn_When_StoredObjectUrl() {
+        // given
+        CdnUrlRewriter rewriter = createRewriter("https://cdn.example.com/");
+
+        // when
+        String url = rewriter.rewrite(BUCKET_URL + "images/" + "a".repeat(64) + ".jpg");
+
+        // then
+        assertThat(url).isEqualTo("https://cdn.example.com/images/" + "a".repeat(64) + ".jpg");
+    }
+
+    @Test
+    @DisplayName("외부 URL 과 null 은 그대로 반환된다.")
+    void should_KeepUrl_When_NotStoredObject() {
+        // given
+        CdnUrlRewriter rewriter = createRewriter("https://cdn.example.com");
+
+        // when & then
+        assertThat(rewriter.rewrite("https://k.kakaocdn.net/profile.jpg"))
+                .isEqualTo("https://k.kakaocdn.net/profile.jpg");
+        assertThat(rewriter.rewrite(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("CDN 주소가 없으면 S3 URL 을 그대로 반환한다.")
+    void should_KeepUrl_When_CdnDisabled() {
+        // given
+        CdnUrlRewriter rewriter = createRewriter("");
+
+        // when
+        String url = rewriter.rewrite(BUCKET_URL + "profiles/1/uuid_test.jpg");
+
+        // then
+        assertThat(url).isEqualTo(BUCKET_URL + "profiles/1/uuid_test.jpg");
+    }
+
+    private CdnUrlRewriter createRewriter(String baseUrl) {
+        return new CdnUrlRewriter(new FakeAmazonS3(),
+                new AwsS3Properties("access", "secret", "ap-northeast-2", "test-bucket", null, false),
+                new CdnProperties(baseUrl));
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.potatocake.everymoment.util;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 인메모리 S3. 업로드와 객체 정리 경로에서 쓰는 API 만 구현한다.
+ */
+public class FakeAmazonS3 extends AbstractAmazonS3 {
+
+    private final NavigableMap<String, byte[]> objects = new ConcurrentSkipListMap<>();
+    private final Map<String, ObjectMetadata> metadata = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastModified = new ConcurrentHashMap<>();
+    private final AtomicInteger putRequests = new AtomicInteger();
+    private final AtomicInteger deleteObjectsRequests = new AtomicInteger();
+    private final Set<String> failingDeleteKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, SortedMap<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final Map<String, ObjectMetadata> multipartMetadata = new ConcurrentHashMap<>();
+    private volatile int uploadedParts;
+    private volatile int abortedUploads;
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        putRequests.incrementAndGet();
+        store(request.getKey(), readAll(request.getInputStream()), request.getMetadata());
+        return new PutObjectResult();
+    }
+
+    @Override
+    public CopyObjectResult copyObject(CopyObjectRequest request) {
+        byte[] source = objects.get(request.getSourceKey());
+        ObjectMetadata newMetadata = request.getNewObjectMetadata() != null
+                ? request.getNewObjectMetadata() : metadata.get(request.getSourceKey());
+        store(request.getDestinationKey(), source, newMetadata);
+        return new CopyObjectResult();
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+        multipartMetadata.put(uploadId, request.getObjectMetadata());
+
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        byte[] part = readAll(request.getInputStream());
+        multipartUploads.get(request.getUploadId()).put(request.getPartNumber(), part);
+        uploadedParts++;
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(Integer.toHexString(part.length));
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        SortedMap<Integer, byte[]> parts = multipartUploads.remove(request.getUploadId());
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+
+        for (PartETag partETag : request.getPartETags()) {
+            object.writeBytes(parts.get(partETag.getPartNumber()));
+        }
+
+        store(request.getKey(), object.toByteArray(), multipartMetadata.remove(request.getUploadId()));
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.getUploadId());
+        multipartMetadata.remove(request.getUploadId());
+        abortedUploads++;
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        objects.remove(key);
+        metadata.remove(key);
+        lastModified.remove(key);
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+        deleteObjectsRequests.incrementAndGet();
+
+        List<DeletedObject> deleted = request.getKeys().stream()
+                .map(KeyVersion::getKey)
+                .filter(key -> !failingDeleteKeys.contains(key))
+                .peek(key -> deleteObject(request.getBucketName(), key))
+                .map(key -> {
+                    DeletedObject deletedObject = new DeletedObject();
+                    deletedObject.setKey(key);
+                    return deletedObject;
+                })
+                .toList();
+
+        List<DeleteError> errors = request.getKeys().stream()
+                .map(KeyVersion::getKey)
+                .filter(failingDeleteKeys::contains)
+                .map(key -> {
+                    DeleteError error = new DeleteError();
+                    error.setKey(key);
+                    error.setCode("AccessDenied");
+                    return error;
+                })
+                .toList();
+
+        if (!errors.isEmpty()) {
+            throw new MultiObjectDeleteException(errors, deleted);
+        }
+        return new DeleteObjectsResult(deleted);
+    }
+
+    // 키 순서대로 maxKeys 씩 반환 (continuation token 은 마지막 키)
+    @Override
+    public ListObjectsV2Result listObjectsV2(ListObjectsV2Request request) {
+        NavigableMap<String, byte[]> candidates = request.getContinuationToken() == null
+                ? objects : objects.tailMap(request.getContinuationToken(), false);
+
+        List<String> keys = candidates.keySet().stream()
+                .filter(key -> key.startsWith(request.getPrefix()))
+                .toList();
+        List<String> page = keys.stream()
+                .limit(request.getMaxKeys())
+                .toList();
+
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.setBucketName(request.getBucketName());
+        page.forEach(key -> {
+            S3ObjectSummary summary = new S3ObjectSummary();
+            summary.setBucketName(request.getBucketName());
+            summary.setKey(key);
+            summary.setSize(objects.get(key).length);
+            summary.setLastModified(Date.from(lastModified.get(key)));
+            result.getObjectSummaries().add(summary);
+        });
+        result.setKeyCount(page.size());
+        result.setTruncated(keys.size() > page.size());
+        if (result.isTruncated()) {
+            result.setNextContinuationToken(page.get(page.size() - 1));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        return objects.containsKey(objectName);
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+        byte[] object = objects.get(key);
+        if (object == null) {
+            AmazonS3Exception exception = new AmazonS3Exception("Not Found");
+            exception.setStatusCode(404);
+            throw exception;
+        }
+
+        ObjectMetadata objectMetadata = metadata.get(key).clone();
+        objectMetadata.setContentLength(object.length);
+        objectMetadata.setLastModified(Date.from(lastModified.get(key)));
+        return objectMetadata;
+    }
+
+    @Override
+    public URL generatePresignedUrl(GeneratePresignedUrlRequest request) {
+        return url(request.getBucketName(), request.getKey() + "?X-Amz-Expires="
+                + request.getExpiration().getTime() + "&X-Amz-Signature=fake");
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        return url(bucketName, key);
+    }
+
+    public byte[] getObjectBytes(String key) {
+        return objects.get(key);
+    }
+
+    public ObjectMetadata getStoredMetadata(String key) {
+        return metadata.get(key);
+    }
+
+    public Instant getLastModified(String key) {
+        return lastModified.get(key);
+    }
+
+    public void setLastModified(String key, Instant instant) {
+        lastModified.put(key, instant);
+    }
+
+    public List<String> keys() {
+        return List.copyOf(objects.keySet());
+    }
+
+    public int putRequests() {
+        return putRequests.get();
+    }
+
+    public int deleteObjectsRequests() {
+        return deleteObjectsRequests.get();
+    }
+
+    // DeleteObjects 에서 이 키들은 실패로 응답
+    public void failDeletes(String... keys) {
+        failingDeleteKeys.addAll(List.of(keys));
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public int inProgressUploads() {
+        return multipartUploads.size();
+    }
+
+    public int uploadedParts() {
+        return uploadedParts;
+    }
+
+    public int abortedUploads() {
+        return abortedUploads;
+    }
+
+    private void store(String key, byte[] object, ObjectMetadata objectMetadata) {
+        objects.put(key, object);
+        metadata.put(key, objectMetadata);
+        lastModified.put(key, Instant.now());
+    }
+
+    private URL url(String bucketName, String key) {
+        try {
+            return new URL("https://" + bucketName + ".s3.amazonaws.com/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private byte[] readAll(InputStream input) {
+        try (input) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
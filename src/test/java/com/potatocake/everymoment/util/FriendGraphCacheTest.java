@@ -0,0 +1,148 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.potatocake.everymoment.config.FriendCacheProperties;
+import com.potatocake.everymoment.repository.FriendRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class FriendGraphCacheTest {
+
+    @Mock
+    private FriendRepository friendRepository;
+
+    private MeterRegistry meterRegistry;
+    private AtomicLong now;
+    private FriendGraphCache friendGraphCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+        friendGraphCache = new FriendGraphCache(friendRepository,
+                new FriendCacheProperties(2, Duration.ofMinutes(5)), meterRegistry, now::get);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 를 거치지 않고 캐시에서 친구 여부를 확인한다.")
+    void should_HitCache_When_LoadedBefore() {
+        // given
+        given(friendRepository.findFriendIdsByMemberId(1L)).willReturn(List.of(3L, 2L));
+
+        // when
+        boolean first = friendGraphCache.isFriend(1L, 2L);
+        boolean second = friendGraphCache.isFriend(1L, 3L);
+        boolean notFriend = friendGraphCache.isFriend(1L, 4L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(notFriend).isFalse();
+        then(friendRepository).should(times(1)).findFriendIdsByMemberId(1L);
+        assertThat(count("cache.gets", "hit")).isEqualTo(2);
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 회원은 다시 DB 에서 조회한다.")
+    void should_Reload_When_Invalidated() {
+        // given
+        given(friendRepository.findFriendIdsByMemberId(1L))
+                .willReturn(List.of())
+                .willReturn(List.of(2L));
+        friendGraphCache.isFriend(1L, 2L);
+
+        // when
+        friendGraphCache.invalidate(1L, 2L);
+        boolean isFriend = friendGraphCache.isFriend(1L, 2L);
+
+        // then
+        assertThat(isFriend).isTrue();
+        then(friendRepository).should(times(2)).findFriendIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되어도 그 사이에 다시 채워진 캐시를 제거한다.")
+    void should_EvictAgain_When_TransactionRolledBack() {
+        // given
+        given(friendRepository.findFriendIdsByMemberId(1L)).willReturn(List.of(2L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            friendGraphCache.invalidate(1L, 2L);
+            // 트랜잭션이 끝나기 전에 다른 요청이 캐시를 채움
+            friendGraphCache.isFriend(1L, 2L);
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        friendGraphCache.isFriend(1L, 2L);
+
+        // then
+        then(friendRepository).should(times(2)).findFriendIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 캐시 항목이 만료된다.")
+    void should_Expire_When_TtlElapsed() {
+        // given
+        given(friendRepository.findFriendIdsByMemberId(1L)).willReturn(List.of(2L));
+        friendGraphCache.getFriendIds(1L);
+
+        // when
+        now.addAndGet(Duration.ofMinutes(5).toNanos());
+        friendGraphCache.getFriendIds(1L);
+
+        // then
+        then(friendRepository).should(times(2)).findFriendIdsByMemberId(1L);
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다.")
+    void should_EvictLeastRecentlyUsed_When_MaximumSizeExceeded() {
+        // given
+        given(friendRepository.findFriendIdsByMemberId(1L)).willReturn(List.of());
+        given(friendRepository.findFriendIdsByMemberId(2L)).willReturn(List.of());
+        given(friendRepository.findFriendIdsByMemberId(3L)).willReturn(List.of());
+
+        friendGraphCache.getFriendIds(1L);
+        friendGraphCache.getFriendIds(2L);
+        friendGraphCache.getFriendIds(1L);
+
+        // when
+        friendGraphCache.getFriendIds(3L);
+        friendGraphCache.getFriendIds(1L);
+        friendGraphCache.getFriendIds(2L);
+
+        // then
+        assertThat(friendGraphCache.size()).isEqualTo(2);
+        then(friendRepository).should(times(1)).findFriendIdsByMemberId(1L);
+        then(friendRepository).should(times(2)).findFriendIdsByMemberId(2L);
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    private double count(String name, String result) {
+        return meterRegistry.get(name).tag("result", result).counter().count();
+    }
+
+}
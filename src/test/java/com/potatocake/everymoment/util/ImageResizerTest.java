@@ -0,0 +1,157 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.potatocake.everymoment.config.ImageRenditionProperties;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageResizerTest {
+
+    private final ImageResizer imageResizer = new ImageResizer(
+            new ImageRenditionProperties(List.of(480, 160), 0.8f, 10_000_000, 2, 200));
+
+    @Test
+    @DisplayName("설정된 너비들로 비율을 유지한 JPEG 축소본이 만들어진다.")
+    void should_CreateRenditions_When_ImageLargerThanWidths() throws IOException {
+        // given
+        byte[] original = createImage(2000, 1500, "png");
+
+        // when
+        Map<Integer, byte[]> renditions = imageResizer.resize(new ByteArrayInputStream(original));
+
+        // then
+        assertThat(renditions).containsOnlyKeys(160, 480);
+        assertThat(renditions.keySet()).containsExactly(160, 480);
+
+        BufferedImage smallest = ImageIO.read(new ByteArrayInputStream(renditions.get(160)));
+        assertThat(smallest.getWidth()).isEqualTo(160);
+        assertThat(smallest.getHeight()).isEqualTo(120);
+        assertThat(renditions.get(160).length).isLessThan(renditions.get(480).length);
+    }
+
+    @Test
+    @DisplayName("EXIF 방향 값이 있는 JPEG 은 보이는 방향으로 돌린 뒤 축소본을 만든다.")
+    void should_RotateRenditions_When_ExifOrientationGiven() throws IOException {
+        // given
+        // 왼쪽 절반이 검은 가로 이미지를 시계 방향 90도로 보여 주도록 표시 (Orientation 6)
+        BufferedImage image = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(200, 0, 200, 200);
+        graphics.dispose();
+
+        byte[] original = withExifOrientation(encode(image, "jpeg"), 6);
+
+        // when
+        Map<Integer, byte[]> renditions = imageResizer.resize(new ByteArrayInputStream(original));
+
+        // then
+        assertThat(renditions).containsOnlyKeys(160);
+
+        BufferedImage rendition = ImageIO.read(new ByteArrayInputStream(renditions.get(160)));
+        assertThat(rendition.getWidth()).isEqualTo(160);
+        assertThat(rendition.getHeight()).isEqualTo(320);
+        assertThat(brightness(rendition.getRGB(80, 40))).isLessThan(64);
+        assertThat(brightness(rendition.getRGB(80, 280))).isGreaterThan(192);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 너비의 축소본은 만들지 않는다.")
+    void should_SkipLargerWidths_When_ImageIsSmall() throws IOException {
+        // given
+        byte[] original = createImage(300, 200, "jpeg");
+
+        // when
+        Map<Integer, byte[]> renditions = imageResizer.resize(new ByteArrayInputStream(original));
+
+        // then
+        assertThat(renditions).containsOnlyKeys(160);
+    }
+
+    @Test
+    @DisplayName("가장 작은 너비보다 작은 이미지는 축소본을 만들지 않는다.")
+    void should_ReturnEmpty_When_ImageSmallerThanWidths() throws IOException {
+        // given
+        byte[] original = createImage(100, 100, "png");
+
+        // when
+        Map<Integer, byte[]> renditions = imageResizer.resize(new ByteArrayInputStream(original));
+
+        // then
+        assertThat(renditions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 한도를 넘는 이미지는 디코딩하지 않는다.")
+    void should_ThrowException_When_TooManyPixels() throws IOException {
+        // given
+        byte[] original = createImage(4000, 3000, "png");
+
+        // when & then
+        assertThatThrownBy(() -> imageResizer.resize(new ByteArrayInputStream(original)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터는 예외가 발생한다.")
+    void should_ThrowException_When_NotImage() {
+        // when & then
+        assertThatThrownBy(() -> imageResizer.resize(new ByteArrayInputStream("not image".getBytes())))
+                .isInstanceOf(IOException.class);
+    }
+
+    private byte[] createImage(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height,
+                format.equals("png") ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        return encode(image, format);
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    // JFIF(APP0) 세그먼트 뒤에 Orientation 태그 하나만 담은 EXIF(APP1) 세그먼트를 끼워 넣음
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) throws IOException {
+        int app0End = 4 + ((jpeg[4] & 0xFF) << 8 | (jpeg[5] & 0xFF));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(output);
+        data.write(jpeg, 0, app0End);
+        data.writeShort(0xFFE1);
+        data.writeShort(2 + 6 + 8 + 2 + 12 + 4);
+        data.writeBytes("Exif");
+        data.writeShort(0);
+        data.writeBytes("MM");
+        data.writeShort(42);
+        data.writeInt(8);
+        data.writeShort(1);
+        data.writeShort(0x0112);
+        data.writeShort(3);
+        data.writeInt(1);
+        data.writeShort(orientation);
+        data.writeShort(0);
+        data.writeInt(0);
+        data.write(jpeg, app0End, jpeg.length - app0End);
+
+        return output.toByteArray();
+    }
+
+    private int brightness(int rgb) {
+        return new Color(rgb).getGreen();
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.potatocake.everymoment.config.LikeCountProperties;
+import com.potatocake.everymoment.entity.Diary;
+import com.potatocake.everymoment.repository.DiaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountBufferTest {
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LikeCountBuffer likeCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        likeCountBuffer = new LikeCountBuffer(diaryRepository, transactionManager,
+                new LikeCountProperties(Duration.ofSeconds(1), 2, Duration.ofMinutes(1), Duration.ZERO, 2),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("반영 전 증감을 저장된 좋아요 수에 더해 조회한다.")
+    void should_IncludePendingDelta_When_Counting() {
+        // given
+        Diary diary = Diary.builder()
+                .id(1L)
+                .likeCount(3)
+                .build();
+
+        // when
+        likeCountBuffer.add(1L, 1);
+        likeCountBuffer.add(1L, 1);
+        likeCountBuffer.add(1L, -1);
+
+        // then
+        assertThat(likeCountBuffer.countOf(diary)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 증감이 빠짐없이 누적된다.")
+    void should_AccumulateAllDeltas_When_Concurrent() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        IntStream.range(0, 1000).forEach(i -> executor.execute(() -> likeCountBuffer.add(1L, 1)));
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(likeCountBuffer.pending(1L)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("같은 증감값을 가진 일기끼리 묶어 배치 크기 단위로 반영한다.")
+    void should_GroupByDelta_When_Flushing() {
+        // given
+        likeCountBuffer.add(1L, 1);
+        likeCountBuffer.add(2L, 1);
+        likeCountBuffer.add(3L, 1);
+        likeCountBuffer.add(4L, -1);
+
+        // when
+        int flushed = likeCountBuffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(4);
+        then(diaryRepository).should().addLikeCount(List.of(4L), -1L);
+        then(diaryRepository).should().addLikeCount(anyCollection(), eq(1L));
+        assertThat(likeCountBuffer.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감을 되돌려 다음 flush 에서 다시 시도한다.")
+    void should_RestoreDeltas_When_FlushFails() {
+        // given
+        likeCountBuffer.add(1L, 2);
+        willThrow(new IllegalStateException("db down"))
+                .given(diaryRepository).addLikeCount(anyCollection(), anyLong());
+
+        // when
+        int flushed = likeCountBuffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(likeCountBuffer.pending(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("반영할 증감이 없으면 UPDATE 를 실행하지 않는다.")
+    void should_SkipUpdate_When_NothingPending() {
+        // when
+        int flushed = likeCountBuffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        then(diaryRepository).should(never()).addLikeCount(anyCollection(), anyLong());
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 일기만 배치 크기 단위로 좋아요 수를 다시 계산한다.")
+    void should_RecountFlushedDiaries_When_Reconciling() {
+        // given
+        likeCountBuffer.add(1L, 1);
+        likeCountBuffer.add(2L, 1);
+        likeCountBuffer.add(3L, -1);
+        likeCountBuffer.flush();
+        likeCountBuffer.add(4L, 1);
+
+        // when
+        int reconciled = likeCountBuffer.reconcile();
+
+        // then
+        assertThat(reconciled).isEqualTo(3);
+        then(diaryRepository).should(times(2)).recountLikeCount(anyCollection());
+        then(diaryRepository).should(never()).recountLikeCount(argThat(ids -> ids.contains(4L)));
+        assertThat(likeCountBuffer.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 계산에 실패한 일기는 다음 reconcile 에서 다시 시도한다.")
+    void should_KeepTouched_When_RecountFails() {
+        // given
+        likeCountBuffer.add(1L, 1);
+        likeCountBuffer.flush();
+        willThrow(new IllegalStateException("db down"))
+                .given(diaryRepository).recountLikeCount(anyCollection());
+
+        // when
+        int failed = likeCountBuffer.reconcile();
+        willReturn(1).given(diaryRepository).recountLikeCount(anyCollection());
+        int retried = likeCountBuffer.reconcile();
+
+        // then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(1);
+    }
+
+}
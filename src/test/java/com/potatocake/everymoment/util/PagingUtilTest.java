@@ -1,11 +1,16 @@
 package com.potatocake.everymoment.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.potatocake.everymoment.exception.ErrorCode;
+import com.potatocake.everymoment.exception.GlobalException;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
@@ -128,16 +133,78 @@ class PagingUtilTest {
         assertThat(nextKey).isNull();
     }
 
+    @Test
+    @DisplayName("다음 커서가 (시간, id) 스크롤 위치로 복원된다.")
+    void should_RestoreKeysetPosition_When_GivenNextCursor() {
+        // given
+        LocalDateTime createAt = LocalDateTime.of(2024, 10, 1, 12, 30, 15);
+        TestEntity entity = new TestEntity(7L, createAt);
+        Window<TestEntity> window = Window.from(List.of(entity), i -> ScrollPosition.keyset(), true);
+
+        // when
+        String cursor = pagingUtil.getNextCursor(window, TestEntity::getCreateAt, TestEntity::getId);
+        ScrollPosition position = pagingUtil.createCursorPosition(cursor, "createAt");
+
+        // then
+        assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) position).getKeys())
+                .containsEntry("createAt", createAt)
+                .containsEntry("id", 7L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 keyset 스크롤 위치가 생성된다.")
+    void should_CreateInitialKeysetPosition_When_CursorIsNull() {
+        // when
+        ScrollPosition position = pagingUtil.createCursorPosition(null, "createAt");
+
+        // then
+        assertThat(position.isInitial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서가 전달되면 예외가 발생한다.")
+    void should_ThrowException_When_CursorIsInvalid() {
+        // when & then
+        assertThatThrownBy(() -> pagingUtil.createCursorPosition("invalid-cursor", "createAt"))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 없으면 커서가 null 이다.")
+    void should_ReturnNullCursor_When_NoNextPage() {
+        // given
+        TestEntity entity = new TestEntity(1L, LocalDateTime.now());
+        Window<TestEntity> window = Window.from(List.of(entity), i -> ScrollPosition.keyset(), false);
+
+        // when
+        String cursor = pagingUtil.getNextCursor(window, TestEntity::getCreateAt, TestEntity::getId);
+
+        // then
+        assertThat(cursor).isNull();
+    }
+
     private static class TestEntity {
         private final Long id;
+        private final LocalDateTime createAt;
 
         TestEntity(Long id) {
+            this(id, null);
+        }
+
+        TestEntity(Long id, LocalDateTime createAt) {
             this.id = id;
+            this.createAt = createAt;
         }
 
         public Long getId() {
             return id;
         }
+
+        public LocalDateTime getCreateAt() {
+            return createAt;
+        }
     }
 
 }
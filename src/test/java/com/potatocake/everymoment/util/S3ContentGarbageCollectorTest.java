@@ -0,0 +1,158 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileGcProperties;
+import com.potatocake.everymoment.repository.FileRepository;
+import com.potatocake.everymoment.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class S3ContentGarbageCollectorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-02T00:00:00Z");
+    private static final Instant OLD = NOW.minus(Duration.ofDays(2));
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private FakeAmazonS3 amazonS3;
+    private SimpleMeterRegistry meterRegistry;
+    private S3ContentGarbageCollector garbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new FakeAmazonS3();
+        meterRegistry = new SimpleMeterRegistry();
+        garbageCollector = new S3ContentGarbageCollector(amazonS3,
+                new AwsS3Properties("access", "secret", "ap-northeast-2", "test-bucket", null, false),
+                new FileGcProperties(Duration.ofDays(1), 2), fileRepository, memberRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("어떤 File 도 참조하지 않는 오래된 객체와 축소본만 삭제된다.")
+    void should_DeleteUnreferencedObjects_When_OlderThanGracePeriod() {
+        // given
+        String referenced = "a".repeat(64);
+        String orphan = "b".repeat(64);
+        putObject("images/" + referenced + ".jpg", OLD);
+        putObject("images/" + referenced + "_w160.jpg", OLD);
+        putObject("images/" + orphan + ".jpg", OLD);
+        putObject("images/" + orphan + "_w160.jpg", OLD);
+
+        given(fileRepository.findReferencedContentHashes(anyCollection())).willReturn(List.of(referenced));
+        given(memberRepository.findReferencedProfileImageUrls(anyCollection())).willReturn(List.of());
+
+        // when
+        int deleted = garbageCollector.collect(NOW.minus(Duration.ofDays(1)));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(amazonS3.keys()).containsExactly("images/" + referenced + ".jpg",
+                "images/" + referenced + "_w160.jpg");
+        assertThat(meterRegistry.counter("file.gc.deleted").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참조를 확인하는 동안 다시 올라와 수정 시각이 갱신된 객체는 남긴다.")
+    void should_KeepObject_When_TouchedDuringSweep() {
+        // given
+        String touched = "e".repeat(64);
+        String orphan = "f".repeat(64);
+        String touchedKey = "images/" + touched + ".jpg";
+        putObject(touchedKey, OLD);
+        putObject("images/" + orphan + ".jpg", OLD);
+
+        // 목록을 읽은 뒤 같은 내용의 업로드가 touchIfExists 로 객체를 갱신함
+        given(fileRepository.findReferencedContentHashes(anyCollection())).willAnswer(invocation -> {
+            amazonS3.setLastModified(touchedKey, NOW);
+            return List.of();
+        });
+        given(memberRepository.findReferencedProfileImageUrls(anyCollection())).willReturn(List.of());
+
+        // when
+        int deleted = garbageCollector.collect(NOW.minus(Duration.ofDays(1)));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(amazonS3.keys()).containsExactly(touchedKey);
+    }
+
+    @Test
+    @DisplayName("프로필 이미지로 쓰이는 객체는 File 참조가 없어도 남긴다.")
+    void should_KeepObject_When_ReferencedByProfileImage() {
+        // given
+        String profile = "c".repeat(64);
+        String key = "images/" + profile + ".png";
+        putObject(key, OLD);
+
+        given(fileRepository.findReferencedContentHashes(anyCollection())).willReturn(List.of());
+        given(memberRepository.findReferencedProfileImageUrls(anyCollection()))
+                .willReturn(List.of(amazonS3.getUrl("test-bucket", key).toString()));
+
+        // when
+        int deleted = garbageCollector.collect(NOW.minus(Duration.ofDays(1)));
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(amazonS3.keys()).containsExactly(key);
+    }
+
+    @Test
+    @DisplayName("grace period 안에 올라온 객체는 참조가 없어도 남긴다.")
+    void should_KeepRecentObjects_When_WithinGracePeriod() {
+        // given
+        putObject("images/" + "d".repeat(64) + ".jpg", NOW);
+        putObject("tmp/upload", NOW);
+
+        // when
+        int deleted = garbageCollector.collect(NOW.minus(Duration.ofDays(1)));
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(amazonS3.objectCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("남은 임시 객체는 페이지 단위로 한 번에 삭제된다.")
+    void should_DeleteTempObjectsInBatches() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            putObject("tmp/upload-" + i, OLD);
+        }
+        putObject("diaries/1/uuid_test.jpg", OLD);
+
+        // when
+        int deleted = garbageCollector.collect(NOW.minus(Duration.ofDays(1)));
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        assertThat(amazonS3.keys()).containsExactly("diaries/1/uuid_test.jpg");
+        assertThat(amazonS3.deleteObjectsRequests()).isEqualTo(3);
+    }
+
+    private void putObject(String key, Instant lastModified) {
+        amazonS3.putObject(new PutObjectRequest("test-bucket", key, new ByteArrayInputStream(new byte[1]),
+                new ObjectMetadata()));
+        amazonS3.setLastModified(key, lastModified);
+    }
+
+}
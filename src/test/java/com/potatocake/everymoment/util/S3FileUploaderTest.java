@@ -3,16 +3,33 @@ package com.potatocake.everymoment.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
 import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileUploadProperties;
 import com.potatocake.everymoment.exception.ErrorCode;
 import com.potatocake.everymoment.exception.GlobalException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,7 +38,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
 class S3FileUploaderTest {
@@ -34,14 +52,23 @@ class S3FileUploaderTest {
     @Mock
     private AwsS3Properties properties;
 
+    private ExecutorService uploadExecutor;
+
     @BeforeEach
     void setUp() {
-        uploader = new S3FileUploader(properties);
-        ReflectionTestUtils.setField(uploader, "amazonS3", amazonS3);
+        uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        FileUploadProperties uploadProperties = new FileUploadProperties(4, Duration.ofSeconds(5),
+                DataSize.ofMegabytes(5), 2, DataSize.ofMegabytes(50), Duration.ofMinutes(10), DataSize.ofMegabytes(5));
+        uploader = new S3FileUploader(amazonS3, properties, uploadProperties, uploadExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadExecutor.close();
     }
 
     @Test
-    @DisplayName("파일이 성공적으로 업로드된다.")
+    @DisplayName("파일을 한 번만 읽어 임시 키로 올리고 내용 주소로 옮긴다.")
     void should_UploadFile_When_ValidInput() throws IOException {
         // given
         MockMultipartFile file = new MockMultipartFile(
@@ -50,16 +77,51 @@ class S3FileUploaderTest {
                 MediaType.IMAGE_JPEG_VALUE,
                 "test image".getBytes()
         );
+        String key = ContentAddress.PREFIX + sha256("test image") + ".jpg";
 
         given(properties.bucket()).willReturn("test-bucket");
         given(amazonS3.getUrl(any(), any())).willReturn(new URL("https://example.com/test.jpg"));
+        readBodyOnPut();
 
         // when
         String url = uploader.uploadFile(file);
 
         // then
         assertThat(url).isEqualTo("https://example.com/test.jpg");
-        then(amazonS3).should().putObject(any(PutObjectRequest.class));
+        then(amazonS3).should().putObject(argThat(request ->
+                request.getKey().startsWith(ContentAddress.TEMP_PREFIX)
+                        && request.getMetadata().getCacheControl().equals(S3ObjectMetadata.CACHE_CONTROL)
+                        && request.getMetadata().getContentLength() == "test image".length()));
+        then(amazonS3).should().copyObject(argThat(request ->
+                request.getSourceKey().startsWith(ContentAddress.TEMP_PREFIX)
+                        && request.getDestinationKey().equals(key)
+                        && request.getNewObjectMetadata().getCacheControl().equals(S3ObjectMetadata.CACHE_CONTROL)));
+        then(amazonS3).should().deleteObject(eq("test-bucket"), startsWith(ContentAddress.TEMP_PREFIX));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 객체가 이미 있으면 내용 주소로 복사하지 않고 수정 시각만 갱신한다.")
+    void should_TouchExisting_When_SameContentExists() throws IOException {
+        // given
+        MockMultipartFile file = createImage("test.jpg");
+        String key = ContentAddress.PREFIX + sha256("test.jpg") + ".jpg";
+
+        given(properties.bucket()).willReturn("test-bucket");
+        given(amazonS3.doesObjectExist("test-bucket", key)).willReturn(true);
+        given(amazonS3.getUrl("test-bucket", key)).willReturn(new URL("https://example.com/" + key));
+        readBodyOnPut();
+
+        // when
+        String url = uploader.uploadFile(file);
+
+        // then
+        assertThat(url).isEqualTo("https://example.com/" + key);
+        then(amazonS3).should().copyObject(argThat(request ->
+                request.getSourceKey().equals(key) && request.getDestinationKey().equals(key)
+                        && request.getNewObjectMetadata().getCacheControl().equals(S3ObjectMetadata.CACHE_CONTROL)));
+        then(amazonS3).should(never()).copyObject(argThat(request ->
+                request.getSourceKey().startsWith(ContentAddress.TEMP_PREFIX)));
+        then(amazonS3).should().deleteObject(eq("test-bucket"), startsWith(ContentAddress.TEMP_PREFIX));
     }
 
     @Test
@@ -101,4 +163,124 @@ class S3FileUploaderTest {
                 .isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    @DisplayName("여러 파일을 동시에 업로드하고 요청 순서대로 URL 을 반환한다.")
+    void should_UploadFilesConcurrently_When_ValidInput() throws IOException {
+        // given
+        List<MultipartFile> files = List.of(createImage("first.jpg"), createImage("second.jpg"));
+
+        given(properties.bucket()).willReturn("test-bucket");
+        given(amazonS3.getUrl(eq("test-bucket"), any())).willAnswer(invocation ->
+                new URL("https://example.com/" + invocation.getArgument(1)));
+        readBodyOnPut();
+
+        // when
+        List<String> urls = uploader.uploadFiles(files);
+
+        // then
+        assertThat(urls).hasSize(2);
+        assertThat(urls.get(0)).endsWith(sha256("first.jpg") + ".jpg");
+        assertThat(urls.get(1)).endsWith(sha256("second.jpg") + ".jpg");
+        then(amazonS3).should(times(2)).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("일부 파일 업로드에 실패해도 다른 File 이 참조할 수 있는 내용 주소 객체는 바로 지우지 않는다.")
+    void should_KeepContentObjects_When_AnyUploadFails() {
+        // given
+        List<MultipartFile> files = List.of(createImage("ok.jpg"), createImage("fail.jpg"));
+        String failKey = ContentAddress.PREFIX + sha256("fail.jpg") + ".jpg";
+
+        given(properties.bucket()).willReturn("test-bucket");
+        readBodyOnPut();
+        given(amazonS3.copyObject(any(CopyObjectRequest.class))).willAnswer(invocation -> {
+            CopyObjectRequest request = invocation.getArgument(0);
+            if (request.getDestinationKey().equals(failKey)) {
+                throw new AmazonServiceException("Upload failed");
+            }
+            return new CopyObjectResult();
+        });
+
+        // when & then
+        assertThatThrownBy(() -> uploader.uploadFiles(files))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_STORE_FAILED);
+
+        then(amazonS3).should(never()).deleteObject(any(), startsWith(ContentAddress.PREFIX));
+    }
+
+    @Test
+    @DisplayName("업로드를 되돌릴 때 URL 에서 객체 키를 찾아 삭제한다.")
+    void should_DeleteObjectByKey_When_DeletingUrls() {
+        // given
+        given(properties.bucket()).willReturn("test-bucket");
+
+        // when
+        uploader.deleteFiles(List.of("https://test-bucket.s3.amazonaws.com/uuid_%ED%85%8C%EC%8A%A4%ED%8A%B8.jpg"));
+
+        // then
+        then(amazonS3).should().deleteObject("test-bucket", "uuid_테스트.jpg");
+    }
+
+    @Test
+    @DisplayName("내용 주소 URL 은 삭제 요청에서 제외하고 GC 에 맡긴다.")
+    void should_NotDeleteContentObject_When_DeletingUrls() {
+        // when
+        uploader.deleteFiles(List.of("https://test-bucket.s3.amazonaws.com/images/" + sha256("test") + ".jpg"));
+
+        // then
+        then(amazonS3).should(never()).deleteObject(any(), any());
+    }
+
+    @Test
+    @DisplayName("path-style URL 은 경로의 버킷 이름을 제외하고 객체 키를 찾는다.")
+    void should_StripBucket_When_DeletingPathStyleUrls() {
+        // given
+        given(properties.bucket()).willReturn("test-bucket");
+        given(properties.pathStyleAccess()).willReturn(true);
+
+        // when
+        uploader.deleteFiles(List.of("http://localhost:9000/test-bucket/uuid_test.jpg"));
+
+        // then
+        then(amazonS3).should().deleteObject("test-bucket", "uuid_test.jpg");
+    }
+
+    @Test
+    @DisplayName("축소본은 원본 키 옆에 너비를 붙인 JPEG 키로 저장된다.")
+    void should_CreateRenditionKey_NextToOriginal() {
+        assertThat(S3FileUploader.renditionKey("diaries/1/uuid_photo.png", 160))
+                .isEqualTo("diaries/1/uuid_photo_w160.jpg");
+        assertThat(S3FileUploader.renditionKey("uuid_photo", 480)).isEqualTo("uuid_photo_w480.jpg");
+        assertThat(S3FileUploader.renditionKey("dir.v2/uuid_photo", 480)).isEqualTo("dir.v2/uuid_photo_w480.jpg");
+    }
+
+    @Test
+    @DisplayName("원본과 축소본 키에서 같은 내용 hash 를 찾는다.")
+    void should_ExtractContentHash_FromKeys() {
+        String hash = sha256("test");
+
+        assertThat(ContentAddress.hashOf("https://example.com/images/" + hash + ".png")).isEqualTo(hash);
+        assertThat(ContentAddress.hashOf("images/" + hash + "_w160.jpg")).isEqualTo(hash);
+        assertThat(ContentAddress.hashOf("diaries/1/uuid_photo.jpg")).isNull();
+    }
+
+    // 실제 S3 처럼 PUT 할 때 본문을 끝까지 읽어야 digest 가 계산됨
+    private void readBodyOnPut() {
+        given(amazonS3.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            request.getInputStream().transferTo(OutputStream.nullOutputStream());
+            return new PutObjectResult();
+        });
+    }
+
+    // 파일마다 다른 내용이 되도록 파일 이름을 내용으로 사용
+    private MockMultipartFile createImage(String filename) {
+        return new MockMultipartFile("file", filename, MediaType.IMAGE_JPEG_VALUE, filename.getBytes());
+    }
+
+    private String sha256(String content) {
+        return HexFormat.of().formatHex(ContentAddress.newDigest().digest(content.getBytes()));
+    }
+
 }
@@ -0,0 +1,245 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileUploadProperties;
+import com.potatocake.everymoment.config.ImageRenditionProperties;
+import com.potatocake.everymoment.config.S3ReclaimProperties;
+import com.potatocake.everymoment.entity.S3ObjectTombstone;
+import com.potatocake.everymoment.repository.FileRepository;
+import com.potatocake.everymoment.repository.MemberRepository;
+import com.potatocake.everymoment.repository.S3ObjectTombstoneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+class S3ObjectReclaimerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String BUCKET_URL = "https://test-bucket.s3.amazonaws.com/";
+
+    private FakeAmazonS3 amazonS3;
+    private S3ObjectTombstoneRepository tombstoneRepository;
+    private FileRepository fileRepository;
+    private MemberRepository memberRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private S3ObjectReclaimer reclaimer;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new FakeAmazonS3();
+        tombstoneRepository = mock(S3ObjectTombstoneRepository.class);
+        fileRepository = mock(FileRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        AwsS3Properties properties = new AwsS3Properties("access", "secret", "ap-northeast-2", "test-bucket", null,
+                false);
+        S3FileUploader uploader = new S3FileUploader(amazonS3, properties,
+                new FileUploadProperties(4, Duration.ofSeconds(5), DataSize.ofMegabytes(5), 2,
+                        DataSize.ofMegabytes(50), Duration.ofMinutes(10), DataSize.ofMegabytes(5)),
+                mock(ExecutorService.class));
+
+        reclaimer = new S3ObjectReclaimer(amazonS3, properties,
+                new S3ReclaimProperties(5000, Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofMinutes(10),
+                        MAX_ATTEMPTS, 1_000_000),
+                uploader, new ImageRenditionProperties(List.of(160, 480), 0.8f, 40_000_000, 2, 200),
+                tombstoneRepository, fileRepository, memberRepository, mock(PlatformTransactionManager.class),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("이 버킷의 일반 키는 축소본 키와 함께 기록되고, 내용 주소 키와 외부 URL 은 제외된다.")
+    void should_RecordOwnedKeys_When_Recording() {
+        // when
+        reclaimer.recordWithRenditions(List.of(
+                BUCKET_URL + "diaries/1/uuid_photo.png",
+                BUCKET_URL + "images/" + "a".repeat(64) + ".jpg",
+                "https://k.kakaocdn.net/profile.jpg"
+        ));
+
+        // then
+        then(tombstoneRepository).should().saveAll(argThat((List<S3ObjectTombstone> tombstones) ->
+                tombstones.stream()
+                        .map(S3ObjectTombstone::getObjectKey)
+                        .toList()
+                        .equals(List.of("diaries/1/uuid_photo.png", "diaries/1/uuid_photo_w160.jpg",
+                                "diaries/1/uuid_photo_w480.jpg"))
+                        && tombstones.get(0).getNextAttemptAt().isAfter(LocalDateTime.now().plusMinutes(9))));
+    }
+
+    @Test
+    @DisplayName("기록할 키가 없으면 저장하지 않는다.")
+    void should_NotSave_When_NoOwnedKeys() {
+        // when
+        reclaimer.record(List.of("https://k.kakaocdn.net/profile.jpg"));
+
+        // then
+        then(tombstoneRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("대상 키를 DeleteObjects 한 번으로 지우고 tombstone 을 삭제한다.")
+    void should_DeleteObjectsInOneRequest_When_Reclaiming() {
+        // given
+        putObject("diaries/1/uuid_a.jpg");
+        putObject("diaries/1/uuid_b.jpg");
+        putObject("diaries/1/uuid_keep.jpg");
+        givenClaimable(List.of(createTombstone(1L, "diaries/1/uuid_a.jpg"),
+                createTombstone(2L, "diaries/1/uuid_b.jpg"), createTombstone(3L, "diaries/1/uuid_a_w160.jpg")));
+
+        // when
+        int reclaimed = reclaimer.reclaimBatch(LocalDateTime.now());
+
+        // then
+        assertThat(reclaimed).isEqualTo(3);
+        assertThat(amazonS3.keys()).containsExactly("diaries/1/uuid_keep.jpg");
+        assertThat(amazonS3.deleteObjectsRequests()).isEqualTo(1);
+        then(tombstoneRepository).should().deleteAllByIdIn(List.of(1L, 2L, 3L));
+        assertThat(meterRegistry.counter("file.reclaim.deleted").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다시 등록되어 참조되는 키와 그 축소본은 지우지 않고 tombstone 만 삭제한다.")
+    void should_KeepObjects_When_KeysReferencedAgain() {
+        // given
+        putObject("diaries/1/uuid_file.jpg");
+        putObject("diaries/1/uuid_file_w160.jpg");
+        putObject("members/1/uuid_profile.jpg");
+        putObject("diaries/1/uuid_gone.jpg");
+        givenClaimable(List.of(createTombstone(1L, "diaries/1/uuid_file.jpg"),
+                createTombstone(2L, "diaries/1/uuid_file_w160.jpg"), createTombstone(3L, "members/1/uuid_profile.jpg"),
+                createTombstone(4L, "diaries/1/uuid_gone.jpg")));
+
+        given(fileRepository.findReferencedImageUrls(anyCollection()))
+                .willReturn(List.of(BUCKET_URL + "diaries/1/uuid_file.jpg"));
+        given(memberRepository.findReferencedProfileImageUrls(anyCollection()))
+                .willReturn(List.of(BUCKET_URL + "members/1/uuid_profile.jpg"));
+
+        // when
+        int reclaimed = reclaimer.reclaimBatch(LocalDateTime.now());
+
+        // then
+        assertThat(reclaimed).isEqualTo(4);
+        assertThat(amazonS3.keys()).containsExactly("diaries/1/uuid_file.jpg", "diaries/1/uuid_file_w160.jpg",
+                "members/1/uuid_profile.jpg");
+        then(tombstoneRepository).should().deleteAllByIdIn(List.of(1L, 2L, 3L, 4L));
+        assertThat(meterRegistry.counter("file.reclaim.deleted").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("file.reclaim.skipped").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 번에 가져오는 tombstone 은 DeleteObjects 한도인 1000개를 넘지 않는다.")
+    void should_LimitBatchTo1000_When_BatchSizeLarger() {
+        // given
+        givenClaimable(LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> createTombstone(id, "diaries/1/uuid_" + id + ".jpg"))
+                .toList());
+
+        // when
+        reclaimer.reclaimBatch(LocalDateTime.now());
+
+        // then
+        then(tombstoneRepository).should().findClaimable(any(LocalDateTime.class),
+                argThat((Pageable pageable) -> pageable.getPageSize() == 1000));
+        assertThat(amazonS3.deleteObjectsRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 키는 백오프 후 다시 시도하도록 남겨둔다.")
+    void should_ScheduleRetry_When_DeleteFails() {
+        // given
+        S3ObjectTombstone failed = createTombstone(2L, "diaries/1/uuid_fail.jpg");
+        putObject("diaries/1/uuid_ok.jpg");
+        putObject("diaries/1/uuid_fail.jpg");
+        amazonS3.failDeletes("diaries/1/uuid_fail.jpg");
+        givenClaimable(List.of(createTombstone(1L, "diaries/1/uuid_ok.jpg"), failed));
+        given(tombstoneRepository.findAllById(List.of(2L))).willReturn(List.of(failed));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        reclaimer.reclaimBatch(now);
+
+        // then
+        assertThat(amazonS3.keys()).containsExactly("diaries/1/uuid_fail.jpg");
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isEqualTo(now.plusMinutes(10));
+        then(tombstoneRepository).should().deleteAllByIdIn(List.of(1L));
+        assertThat(meterRegistry.counter("file.reclaim.retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 삭제를 포기하고 tombstone 을 지운다.")
+    void should_Abandon_When_MaxAttemptsReached() {
+        // given
+        S3ObjectTombstone failed = createTombstone(1L, "diaries/1/uuid_fail.jpg");
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            failed.retry(LocalDateTime.now());
+        }
+        amazonS3.failDeletes("diaries/1/uuid_fail.jpg");
+        givenClaimable(List.of(failed));
+        given(tombstoneRepository.findAllById(List.of(1L))).willReturn(List.of(failed));
+
+        // when
+        reclaimer.reclaimBatch(LocalDateTime.now());
+
+        // then
+        then(tombstoneRepository).should().deleteAllByIdIn(List.of(1L));
+        assertThat(meterRegistry.counter("file.reclaim.abandoned").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가져올 tombstone 이 없으면 S3 를 호출하지 않는다.")
+    void should_DoNothing_When_NoTombstones() {
+        // given
+        givenClaimable(List.of());
+
+        // when
+        int reclaimed = reclaimer.reclaimBatch(LocalDateTime.now());
+
+        // then
+        assertThat(reclaimed).isZero();
+        assertThat(amazonS3.deleteObjectsRequests()).isZero();
+        then(tombstoneRepository).should(never()).deleteAllByIdIn(anyCollection());
+    }
+
+    private void givenClaimable(List<S3ObjectTombstone> tombstones) {
+        given(tombstoneRepository.findClaimable(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(tombstones);
+    }
+
+    private S3ObjectTombstone createTombstone(Long id, String key) {
+        return S3ObjectTombstone.builder()
+                .id(id)
+                .objectKey(key)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void putObject(String key) {
+        amazonS3.putObject(new PutObjectRequest("test-bucket", key, new ByteArrayInputStream(new byte[1]),
+                new ObjectMetadata()));
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileUploadProperties;
+import com.potatocake.everymoment.dto.response.PresignedUploadResponse;
+import com.potatocake.everymoment.exception.ErrorCode;
+import com.potatocake.everymoment.exception.GlobalException;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+class S3PresignedUploaderTest {
+
+    private FakeAmazonS3 amazonS3;
+    private S3PresignedUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new FakeAmazonS3();
+        uploader = new S3PresignedUploader(amazonS3,
+                new AwsS3Properties("access", "secret", "ap-northeast-2", "test-bucket", null, false),
+                new FileUploadProperties(4, Duration.ofSeconds(5), DataSize.ofMegabytes(5), 2,
+                        DataSize.ofMegabytes(50), Duration.ofMinutes(10), DataSize.ofBytes(16)));
+    }
+
+    @Test
+    @DisplayName("임시 경로의 디렉터리 아래 키로 pre-signed URL 이 발급된다.")
+    void should_IssueUrl_When_ValidInput() {
+        // when
+        PresignedUploadResponse response = uploader.issue("diaries/1", "../test.jpg", MediaType.IMAGE_JPEG_VALUE, 10);
+
+        // then
+        assertThat(response.getKey()).startsWith("tmp/diaries/1/").endsWith("_test.jpg");
+        assertThat(response.getUploadUrl()).contains(response.getKey()).contains("X-Amz-Signature");
+        assertThat(response.getHeaders()).containsEntry(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_JPEG_VALUE)
+                .containsEntry(HttpHeaders.CONTENT_LENGTH, "10")
+                .containsEntry(HttpHeaders.CACHE_CONTROL, S3ObjectMetadata.CACHE_CONTROL);
+        assertThat(response.getExpiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 형식으로는 URL 을 발급하지 않는다.")
+    void should_ThrowException_When_IssuingInvalidFileType() {
+        // when & then
+        assertThatThrownBy(() -> uploader.issue("diaries/1", "test.txt", MediaType.TEXT_PLAIN_VALUE, 10))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 파일로는 URL 을 발급하지 않는다.")
+    void should_ThrowException_When_IssuingTooLargeFile() {
+        // when & then
+        assertThatThrownBy(() -> uploader.issue("diaries/1", "test.jpg", MediaType.IMAGE_JPEG_VALUE, 17))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_SIZE_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("업로드된 객체를 최종 경로로 옮기고 URL 을 반환한다.")
+    void should_ReturnUrl_When_ObjectUploaded() {
+        // given
+        String key = "tmp/diaries/1/uuid_test.jpg";
+        putObject(key, MediaType.IMAGE_JPEG_VALUE, 10);
+
+        // when
+        String url = uploader.confirm("diaries/1", key);
+
+        // then
+        assertThat(url).isEqualTo("https://test-bucket.s3.amazonaws.com/diaries/1/uuid_test.jpg");
+        assertThat(amazonS3.keys()).containsExactly("diaries/1/uuid_test.jpg");
+        assertThat(amazonS3.getStoredMetadata("diaries/1/uuid_test.jpg").getCacheControl())
+                .isEqualTo(S3ObjectMetadata.CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("이미 옮긴 업로드를 다시 완료 처리하면 같은 URL 을 반환한다.")
+    void should_ReturnSameUrl_When_ConfirmedTwice() {
+        // given
+        String key = "tmp/diaries/1/uuid_test.jpg";
+        putObject(key, MediaType.IMAGE_JPEG_VALUE, 10);
+        String url = uploader.confirm("diaries/1", key);
+
+        // when
+        String retried = uploader.confirm("diaries/1", key);
+
+        // then
+        assertThat(retried).isEqualTo(url);
+    }
+
+    @Test
+    @DisplayName("다른 디렉터리나 임시 경로 밖의 키로는 완료 처리할 수 없다.")
+    void should_ThrowException_When_KeyOutsideDirectory() {
+        // given
+        putObject("tmp/diaries/2/uuid_test.jpg", MediaType.IMAGE_JPEG_VALUE, 10);
+
+        // when & then
+        assertThatThrownBy(() -> uploader.confirm("diaries/1", "tmp/diaries/2/uuid_test.jpg"))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_UPLOAD_KEY);
+        assertThatThrownBy(() -> uploader.confirm("diaries/1", "tmp/diaries/1/../2/uuid_test.jpg"))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_UPLOAD_KEY);
+        assertThatThrownBy(() -> uploader.confirm("diaries/1", "diaries/1/uuid_test.jpg"))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_UPLOAD_KEY);
+    }
+
+    @Test
+    @DisplayName("아직 올라가지 않은 객체면 예외가 발생한다.")
+    void should_ThrowException_When_ObjectNotUploaded() {
+        // when & then
+        assertThatThrownBy(() -> uploader.confirm("diaries/1", "tmp/diaries/1/uuid_test.jpg"))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 객체는 삭제하고 예외가 발생한다.")
+    void should_DeleteObject_When_ObjectTooLarge() {
+        // given
+        String key = "tmp/diaries/1/uuid_test.jpg";
+        putObject(key, MediaType.IMAGE_JPEG_VALUE, 100);
+
+        // when & then
+        assertThatThrownBy(() -> uploader.confirm("diaries/1", key))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_SIZE_EXCEEDED);
+
+        assertThat(amazonS3.keys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 객체는 삭제하고 예외가 발생한다.")
+    void should_DeleteObject_When_ObjectNotImage() {
+        // given
+        String key = "tmp/diaries/1/uuid_test.jpg";
+        putObject(key, MediaType.TEXT_PLAIN_VALUE, 10);
+
+        // when & then
+        assertThatThrownBy(() -> uploader.confirm("diaries/1", key))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+
+        assertThat(amazonS3.keys()).isEmpty();
+    }
+
+    private void putObject(String key, String contentType, int size) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(size);
+
+        amazonS3.putObject(new PutObjectRequest("test-bucket", key, new ByteArrayInputStream(new byte[size]),
+                metadata));
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.potatocake.everymoment.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.potatocake.everymoment.config.AwsS3Properties;
+import com.potatocake.everymoment.config.FileUploadProperties;
+import com.potatocake.everymoment.exception.ErrorCode;
+import com.potatocake.everymoment.exception.GlobalException;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+class S3StreamingUploaderTest {
+
+    private static final int PART_SIZE = 16;
+
+    private FakeAmazonS3 amazonS3;
+    private S3StreamingUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new FakeAmazonS3();
+        uploader = new S3StreamingUploader(amazonS3,
+                new AwsS3Properties("access", "secret", "ap-northeast-2", "test-bucket", null, false),
+                new FileUploadProperties(4, Duration.ofSeconds(5), DataSize.ofBytes(PART_SIZE), 2,
+                        DataSize.ofBytes(64), Duration.ofMinutes(10), DataSize.ofMegabytes(5)));
+    }
+
+    @Test
+    @DisplayName("part 크기보다 작은 파일은 한 번에 업로드된다.")
+    void should_PutObject_When_SmallerThanPart() {
+        // given
+        byte[] image = randomBytes(10);
+
+        // when
+        String url = uploader.upload(new ByteArrayInputStream(image), MediaType.IMAGE_JPEG_VALUE);
+
+        // then
+        assertThat(keyOf(url)).isEqualTo(ContentAddress.PREFIX + sha256(image) + ".jpg");
+        assertThat(amazonS3.getObjectBytes(keyOf(url))).isEqualTo(image);
+        assertThat(amazonS3.getStoredMetadata(keyOf(url)).getCacheControl()).isEqualTo(S3ObjectMetadata.CACHE_CONTROL);
+        assertThat(amazonS3.uploadedParts()).isZero();
+    }
+
+    @Test
+    @DisplayName("part 크기보다 큰 파일은 멀티파트로 나누어 업로드된다.")
+    void should_UploadParts_When_LargerThanPart() {
+        // given
+        byte[] image = randomBytes(PART_SIZE * 3 + 5);
+
+        // when
+        String url = uploader.upload(new ByteArrayInputStream(image), MediaType.IMAGE_PNG_VALUE);
+
+        // then
+        assertThat(keyOf(url)).isEqualTo(ContentAddress.PREFIX + sha256(image) + ".png");
+        assertThat(amazonS3.getObjectBytes(keyOf(url))).isEqualTo(image);
+        assertThat(amazonS3.getStoredMetadata(keyOf(url)).getContentType()).isEqualTo(MediaType.IMAGE_PNG_VALUE);
+        assertThat(amazonS3.getStoredMetadata(keyOf(url)).getCacheControl()).isEqualTo(S3ObjectMetadata.CACHE_CONTROL);
+        assertThat(amazonS3.uploadedParts()).isEqualTo(4);
+        assertThat(amazonS3.inProgressUploads()).isZero();
+        assertThat(amazonS3.keys()).containsExactly(keyOf(url));
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일은 다시 올리지 않고 기존 객체를 가리킨다.")
+    void should_ReuseObject_When_SameContentUploaded() {
+        // given
+        byte[] image = randomBytes(10);
+        String first = uploader.upload(new ByteArrayInputStream(image), MediaType.IMAGE_JPEG_VALUE);
+
+        // when
+        String second = uploader.upload(new ByteArrayInputStream(image), MediaType.IMAGE_JPEG_VALUE);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(amazonS3.putRequests()).isEqualTo(1);
+        assertThat(amazonS3.objectCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멀티파트로 올린 파일이 이미 있는 내용이면 임시 객체만 지운다.")
+    void should_DeleteTempObject_When_LargeContentAlreadyExists() {
+        // given
+        byte[] image = randomBytes(PART_SIZE * 2 + 1);
+        String first = uploader.upload(new ByteArrayInputStream(image), MediaType.IMAGE_JPEG_VALUE);
+
+        // when
+        String second = uploader.upload(new ByteArrayInputStream(image), MediaType.IMAGE_JPEG_VALUE);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(amazonS3.keys()).containsExactly(keyOf(first));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 멀티파트 업로드를 취소한다.")
+    void should_AbortUpload_When_ExceedingMaxSize() {
+        // given
+        byte[] image = randomBytes(100);
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(image), MediaType.IMAGE_JPEG_VALUE))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_SIZE_EXCEEDED);
+
+        assertThat(amazonS3.abortedUploads()).isEqualTo(1);
+        assertThat(amazonS3.inProgressUploads()).isZero();
+        assertThat(amazonS3.objectCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 업로드하지 않는다.")
+    void should_ThrowException_When_InvalidFileType() {
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(randomBytes(10)), MediaType.TEXT_PLAIN_VALUE))
+                .isInstanceOf(GlobalException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_FILE_TYPE);
+
+        assertThat(amazonS3.objectCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("업로드 버퍼는 재사용되어 파일 수와 크기에 상관없이 늘어나지 않는다.")
+    void should_ReuseBuffers_When_UploadingRepeatedly() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            uploader.upload(new ByteArrayInputStream(randomBytes(PART_SIZE * 3 + i)), MediaType.IMAGE_JPEG_VALUE);
+        }
+
+        // then
+        assertThat(uploader.allocatedBuffers()).isEqualTo(1);
+        assertThat(amazonS3.objectCount()).isEqualTo(10);
+    }
+
+    private String keyOf(String url) {
+        return URI.create(url).getPath().substring(1);
+    }
+
+    private String sha256(byte[] bytes) {
+        MessageDigest digest = ContentAddress.newDigest();
+        return HexFormat.of().formatHex(digest.digest(bytes));
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+}